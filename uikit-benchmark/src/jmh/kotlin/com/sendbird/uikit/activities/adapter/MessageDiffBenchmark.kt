@@ -0,0 +1,83 @@
+package com.sendbird.uikit.activities.adapter
+
+import androidx.recyclerview.widget.DiffUtil
+import com.sendbird.android.channel.GroupChannel
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.uikit.benchmark.Fixtures
+import com.sendbird.uikit.model.MessageList
+import com.sendbird.uikit.model.MessageListUIParams
+import com.sendbird.uikit.utils.MessageUtils
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures the work the message list adapter does on the background thread when a burst of messages arrives:
+ * the message group types of the new list and the diff against the drawn list.
+ * It's in the package of the adapter because [MessageDiffCallback] and [MessageGroupTypeTable] are package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class MessageDiffBenchmark {
+    @Param("100", "1000", "10000")
+    var size: Int = 0
+
+    private lateinit var channel: GroupChannel
+    private lateinit var params: MessageListUIParams
+    private lateinit var oldList: List<BaseMessage>
+    private lateinit var newList: List<BaseMessage>
+    private lateinit var oldGroupTypes: MessageGroupTypeTable
+    private lateinit var newGroupTypes: MessageGroupTypeTable
+
+    @Setup
+    fun setUp() {
+        channel = Fixtures.channel()
+        params = MessageListUIParams.Builder().build()
+        val messages = Fixtures.messages(size)
+        val messageList = MessageList().apply { addAll(messages) }
+        oldList = messageList.snapshot()
+        val burst = Fixtures.burst(messages, ADDED_COUNT, UPDATED_COUNT)
+        messageList.addAll(burst.added)
+        messageList.updateAll(burst.updated)
+        newList = messageList.snapshot()
+        oldGroupTypes = MessageGroupTypeTable.calculate(null, emptyList(), oldList, params)
+        newGroupTypes = MessageGroupTypeTable.calculate(oldGroupTypes, oldList, newList, params)
+    }
+
+    @Benchmark
+    fun calculateGroupTypes(): Any {
+        return MessageGroupTypeTable.calculate(oldGroupTypes, oldList, newList, params)
+    }
+
+    @Benchmark
+    fun getMessageGroupType(blackhole: Blackhole) {
+        for (i in newList.indices) {
+            val prev = if (i + 1 < newList.size) newList[i + 1] else null
+            val next = if (i - 1 >= 0) newList[i - 1] else null
+            blackhole.consume(MessageUtils.getMessageGroupType(prev, newList[i], next, params))
+        }
+    }
+
+    @Benchmark
+    fun calculateDiff(): DiffUtil.DiffResult {
+        return DiffUtil.calculateDiff(MessageDiffCallback(channel, channel, oldList, newList, params, oldGroupTypes, newGroupTypes))
+    }
+
+    @Benchmark
+    fun calculateDiffWithoutGroupTypes(): DiffUtil.DiffResult {
+        return DiffUtil.calculateDiff(MessageDiffCallback(channel, channel, oldList, newList, params))
+    }
+
+    companion object {
+        private const val ADDED_COUNT = 20
+        private const val UPDATED_COUNT = 20
+    }
+}
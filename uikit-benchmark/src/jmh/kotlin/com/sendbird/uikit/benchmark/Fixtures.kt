@@ -0,0 +1,117 @@
+package com.sendbird.uikit.benchmark
+
+import com.sendbird.android.SendbirdChat
+import com.sendbird.android.channel.GroupChannel
+import com.sendbird.android.channel.TemplateMessageData
+import com.sendbird.android.message.AdminMessage
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.android.message.FileMessage
+import com.sendbird.android.message.Reaction
+import com.sendbird.android.message.UserMessage
+import com.sendbird.android.user.Sender
+import kotlin.random.Random
+
+/**
+ * The messages [Fixtures.burst] delivers at once.
+ *
+ * @property added The new messages, which are newer than all the messages of the channel
+ * @property updated The copies of the existing messages with the later `updatedAt`
+ */
+internal class Burst(val added: List<BaseMessage>, val updated: List<BaseMessage>)
+
+internal object Fixtures {
+    const val CHANNEL_URL = "sendbird_group_channel_benchmark"
+    private const val BASE_TIME = 1_700_000_000_000L
+    private const val MESSAGE_INTERVAL_MILLIS = 20_000L
+    private val SENDERS = listOf(Sender("me"), Sender("alice"), Sender("bob"), Sender("carol"), Sender("bot", isBot = true))
+
+    init {
+        SendbirdChat.currentUser = SENDERS[0]
+    }
+
+    private val MARKDOWN_LINES = listOf(
+        "## Summary of your **order** and the __delivery__ schedule",
+        "- The **first item** ships from [our warehouse](https://example.com/warehouse) in __2 days__.",
+        "- Plain text without any markdown, which is the most common line in the answers of the bots.",
+        "- See the [terms](https://example.com/terms) and the [refund policy](https://example.com/refund) for **details**.",
+        "- A line with an unclosed ** bold and a [broken link]( which stay as they are.",
+    )
+
+    /**
+     * Creates a markdown document of the [length] by repeating the lines which have bold texts and links.
+     */
+    fun markdownDocument(length: Int): String {
+        val builder = StringBuilder(length + 128)
+        var index = 0
+        while (builder.length < length) {
+            builder.append(MARKDOWN_LINES[index++ % MARKDOWN_LINES.size]).append('\n')
+        }
+        return builder.substring(0, length)
+    }
+
+    fun channel(): GroupChannel = GroupChannel(CHANNEL_URL)
+
+    /**
+     * Creates the [count] messages of a channel from the oldest one.
+     * The senders send a few messages in a row, so the messages are grouped like a conversation.
+     * Every 10th message is a file message, every 20th message has a reaction,
+     * every 50th message is a template message and every 100th message is an admin message.
+     */
+    fun messages(count: Int, seed: Int = 0): List<BaseMessage> {
+        val random = Random(seed)
+        var sender = SENDERS[0]
+        return (1..count).map { index ->
+            if (random.nextInt(3) == 0) sender = SENDERS[random.nextInt(SENDERS.size)]
+            createMessage(index.toLong(), BASE_TIME + index * MESSAGE_INTERVAL_MILLIS, sender)
+        }
+    }
+
+    /**
+     * Creates a burst of the [addedCount] new messages and the [updatedCount] edited messages of the [messages],
+     * like the messages a channel receives at once after it's reconnected.
+     */
+    fun burst(messages: List<BaseMessage>, addedCount: Int, updatedCount: Int, seed: Int = 0): Burst {
+        val random = Random(seed)
+        val last = messages.maxByOrNull { it.createdAt }
+        val lastId = last?.messageId ?: 0L
+        val lastCreatedAt = last?.createdAt ?: BASE_TIME
+        val added = (1..addedCount).map { index ->
+            createMessage(lastId + index, lastCreatedAt + index * MESSAGE_INTERVAL_MILLIS, SENDERS[random.nextInt(SENDERS.size)])
+        }
+        val updated = (0 until minOf(updatedCount, messages.size)).map {
+            val message = messages[random.nextInt(messages.size)]
+            BaseMessage.clone(message)!!.apply {
+                this.message = "${message.message} (edited)"
+                updatedAt = lastCreatedAt + seed + 1
+            }
+        }
+        return Burst(added, updated)
+    }
+
+    private fun createMessage(messageId: Long, createdAt: Long, sender: Sender): BaseMessage {
+        val message = when {
+            messageId % 100 == 0L -> AdminMessage(CHANNEL_URL, messageId, createdAt)
+            messageId % 10 == 0L -> FileMessage(CHANNEL_URL, messageId, createdAt, "file_$messageId").apply {
+                url = "https://example.com/files/$messageId.jpg"
+                type = "image/jpeg"
+                size = 120_000
+            }
+            else -> UserMessage(CHANNEL_URL, messageId, createdAt, "request_$messageId")
+        }
+        return message.apply {
+            this.message = MESSAGE_TEXTS[(messageId % MESSAGE_TEXTS.size).toInt()]
+            updatedAt = createdAt
+            if (this !is AdminMessage) this.sender = sender
+            if (messageId % 20 == 0L) reactions = listOf(Reaction("sendbird_emoji_heart", listOf("alice", "bob"), createdAt))
+            if (messageId % 50 == 0L) templateMessageData = TemplateMessageData("template_${messageId % 3}")
+        }
+    }
+
+    private val MESSAGE_TEXTS = listOf(
+        "Hi, is the order shipped yet?",
+        "Yes, it left the **warehouse** this morning.",
+        "Great, thanks!",
+        "You can track it [here](https://example.com/track).",
+        "Let me know if you need anything else.",
+    )
+}
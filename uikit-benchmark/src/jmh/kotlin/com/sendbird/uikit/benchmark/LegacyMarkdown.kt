@@ -0,0 +1,50 @@
+package com.sendbird.uikit.benchmark
+
+/**
+ * The markdown conversion of UIKit 3.26, which searches the patterns from the beginning again after removing each syntax.
+ * It's kept as the baseline of [MarkdownBenchmark], with [StringBuilder] in place of SpannableStringBuilder.
+ */
+internal object LegacyMarkdown {
+    fun removeMarkdownFormatting(text: CharSequence): StringBuilder {
+        val builder = StringBuilder(text)
+        builder.convertBoldPatterns()
+        builder.convertLinkPatterns()
+        return builder
+    }
+
+    private fun StringBuilder.convertBoldPatterns(): List<IntRange> {
+        val boldPatterns = listOf(Regex("\\*\\*(.*?)\\*\\*"), Regex("__(.*?)__"))
+        val ranges = mutableListOf<IntRange>()
+        for (pattern in boldPatterns) {
+            do {
+                val match = pattern.find(this)
+                if (match != null) {
+                    val start = match.range.first
+                    val end = match.range.last + 1
+                    ranges.add(start until end - 4)
+                    delete(end - 2, end)
+                    delete(start, start + 2)
+                }
+            } while (match != null)
+        }
+        return ranges
+    }
+
+    private fun StringBuilder.convertLinkPatterns(): List<IntRange> {
+        val linkPattern = Regex("\\[(.*?)\\]\\((.*?)\\)")
+        val ranges = mutableListOf<IntRange>()
+        do {
+            val match = linkPattern.find(this)
+            if (match != null) {
+                val start = match.range.first
+                val end = match.range.last + 1
+                val linkText = match.groups[1]?.value ?: ""
+                ranges.add(start until start + linkText.length)
+                delete(start + linkText.length + 2, end)
+                delete(start + linkText.length + 1, start + linkText.length + 2)
+                delete(start, start + 1)
+            }
+        } while (match != null)
+        return ranges
+    }
+}
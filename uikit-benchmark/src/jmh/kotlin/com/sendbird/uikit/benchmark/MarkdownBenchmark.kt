@@ -0,0 +1,46 @@
+package com.sendbird.uikit.benchmark
+
+import com.sendbird.uikit.internal.extensions.MarkdownTokenizer
+import com.sendbird.uikit.internal.extensions.MarkdownType
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import java.util.concurrent.TimeUnit
+
+/**
+ * Compares the single pass markdown tokenizer with the previous regular expression based conversion
+ * on the long markdown documents the bots send.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class MarkdownBenchmark {
+    @Param("10240", "51200")
+    var length: Int = 0
+
+    private lateinit var text: String
+
+    @Setup
+    fun setUp() {
+        text = Fixtures.markdownDocument(length)
+    }
+
+    @Benchmark
+    fun tokenize(): Any {
+        return MarkdownTokenizer.tokenize(text, TYPES)
+    }
+
+    @Benchmark
+    fun legacy(): CharSequence {
+        return LegacyMarkdown.removeMarkdownFormatting(text)
+    }
+
+    companion object {
+        private val TYPES = listOf(MarkdownType.BOLD, MarkdownType.LINK)
+    }
+}
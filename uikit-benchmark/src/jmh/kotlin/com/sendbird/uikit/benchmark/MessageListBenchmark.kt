@@ -0,0 +1,64 @@
+package com.sendbird.uikit.benchmark
+
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.uikit.model.MessageList
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures [MessageList] loading the messages of a channel, and applying the bursts of the new and the edited messages
+ * followed by the snapshot the adapter draws.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class MessageListBenchmark {
+    @Param("100", "1000", "10000")
+    var size: Int = 0
+
+    private lateinit var messages: List<BaseMessage>
+    private lateinit var messageList: MessageList
+    private lateinit var bursts: List<Burst>
+    private var burstIndex = 0
+
+    @Setup
+    fun setUp() {
+        messages = Fixtures.messages(size)
+        messageList = MessageList().apply { addAll(messages) }
+        bursts = (0 until BURST_COUNT).map { Fixtures.burst(messages, ADDED_COUNT, UPDATED_COUNT, it) }
+    }
+
+    @Benchmark
+    fun addAll(): Any {
+        return MessageList().apply { addAll(messages) }
+    }
+
+    @Benchmark
+    fun applyBurst(): List<BaseMessage> {
+        val burst = bursts[burstIndex++ % BURST_COUNT]
+        messageList.addAll(burst.added)
+        messageList.updateAll(burst.updated)
+        val snapshot = messageList.snapshot()
+        // the new messages are removed again, so every invocation runs on the same size.
+        messageList.deleteAll(burst.added)
+        return snapshot
+    }
+
+    @Benchmark
+    fun getById(): BaseMessage? {
+        return messageList.getById((burstIndex++ % size + 1).toLong())
+    }
+
+    companion object {
+        private const val BURST_COUNT = 16
+        private const val ADDED_COUNT = 20
+        private const val UPDATED_COUNT = 20
+    }
+}
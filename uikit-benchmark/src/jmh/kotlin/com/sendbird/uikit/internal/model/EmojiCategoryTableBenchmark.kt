@@ -0,0 +1,53 @@
+package com.sendbird.uikit.internal.model
+
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.uikit.benchmark.Fixtures
+import com.sendbird.uikit.internal.extensions.createEmojiCategoryTable
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures building the [EmojiCategoryTable] the adapter builds whenever the message list is set,
+ * and looking up the categories of every message like binding the whole list does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class EmojiCategoryTableBenchmark {
+    @Param("100", "1000", "10000")
+    var size: Int = 0
+
+    private lateinit var messages: List<BaseMessage>
+    private lateinit var table: EmojiCategoryTable
+
+    @Setup
+    fun setUp() {
+        messages = Fixtures.messages(size)
+        table = createEmojiCategoryTable(messages, ::emojiCategories)
+    }
+
+    @Benchmark
+    fun create(): Int {
+        return createEmojiCategoryTable(messages, ::emojiCategories).size
+    }
+
+    @Benchmark
+    fun getAll(): Int {
+        var count = 0
+        messages.forEach { if (table[it.messageId] != null) count++ }
+        return count
+    }
+
+    private fun emojiCategories(message: BaseMessage): List<Long> = CATEGORY_SETS[(message.messageId % CATEGORY_SETS.size).toInt()]
+
+    companion object {
+        private val CATEGORY_SETS = listOf(listOf(1L), listOf(1L, 2L), listOf(2L, 3L))
+    }
+}
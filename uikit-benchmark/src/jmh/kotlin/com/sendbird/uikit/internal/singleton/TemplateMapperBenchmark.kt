@@ -0,0 +1,107 @@
+package com.sendbird.uikit.internal.singleton
+
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.message.template.model.MessageTemplate
+import com.sendbird.uikit.benchmark.Fixtures
+import com.sendbird.uikit.interfaces.MessageDisplayDataProvider
+import com.sendbird.uikit.interfaces.UserMessageDisplayDataGenerator
+import com.sendbird.uikit.internal.extensions.messageTemplateStatus
+import com.sendbird.uikit.model.MessageList
+import com.sendbird.uikit.model.UserMessageDisplayData
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures the steps the channel view model runs on every page of messages and every burst:
+ * mapping the template messages with [MessageTemplateMapper] and generating the display data with [MessageDisplayDataManager].
+ * All the templates are cached, so nothing is fetched.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class TemplateMapperBenchmark {
+    @Param("100", "1000", "10000")
+    var size: Int = 0
+
+    private lateinit var messages: List<BaseMessage>
+    // the messages after a burst is applied, and the edited messages in it.
+    private lateinit var burstMessages: List<BaseMessage>
+    private lateinit var editedMessages: List<BaseMessage>
+    private lateinit var worker: ExecutorService
+    private lateinit var mapper: MessageTemplateMapper
+    private val displayDataProvider = object : MessageDisplayDataProvider() {}
+
+    @Setup
+    fun setUp() {
+        messages = Fixtures.messages(size)
+        val burst = Fixtures.burst(messages, ADDED_COUNT, UPDATED_COUNT)
+        val messageList = MessageList().apply {
+            addAll(messages)
+            addAll(burst.added)
+            updateAll(burst.updated)
+        }
+        burstMessages = messageList.snapshot()
+        editedMessages = burst.updated.mapNotNull { messageList.getById(it.messageId) }
+        worker = Executors.newSingleThreadExecutor()
+        mapper = MessageTemplateMapper(CachedTemplateProvider, worker)
+        displayDataProvider.userMessageDisplayDataGenerator = object : UserMessageDisplayDataGenerator {
+            override fun generate(messages: List<BaseMessage>): Map<BaseMessage, UserMessageDisplayData> {
+                return messages.associateWith { UserMessageDisplayData(it.message.trim()) }
+            }
+        }
+        MessageDisplayDataManager.checkAndGenerateDisplayData(burstMessages, displayDataProvider)
+    }
+
+    @TearDown
+    fun tearDown() {
+        worker.shutdown()
+        MessageDisplayDataManager.clearAll()
+    }
+
+    @Benchmark
+    fun mapTemplate(): List<BaseMessage> {
+        // the mapper skips the messages mapped already, so the status is cleared like the messages newly loaded.
+        messages.forEach { it.messageTemplateStatus = null }
+        return mapper.mapTemplate(messages) {}
+    }
+
+    @Benchmark
+    fun generateDisplayData(): Int {
+        MessageDisplayDataManager.clearAll()
+        MessageDisplayDataManager.checkAndGenerateDisplayData(messages, displayDataProvider)
+        return MessageDisplayDataManager.getDataMap().size
+    }
+
+    @Benchmark
+    fun generateDisplayDataOfBurst(): Int {
+        // the edited messages are generated again every time, and the rest are only checked.
+        editedMessages.forEach { it.updatedAt++ }
+        MessageDisplayDataManager.checkAndGenerateDisplayData(burstMessages, displayDataProvider)
+        return MessageDisplayDataManager.getDataMap().size
+    }
+
+    private object CachedTemplateProvider : TemplateMapperDataProvider {
+        override fun isValid(message: BaseMessage): Boolean = true
+        override fun isTemplateMessage(message: BaseMessage): Boolean = message.templateMessageData != null
+        override fun hasAllTemplates(message: BaseMessage): Boolean = true
+        override fun hasTemplate(key: String): Boolean = true
+        override fun getTemplateKey(message: BaseMessage): String? = message.templateMessageData?.key
+        override fun childTemplateKeys(message: BaseMessage): List<String> = emptyList()
+        override fun requestTemplateListBlocking(keys: List<String>): List<MessageTemplate> = emptyList()
+    }
+
+    companion object {
+        private const val ADDED_COUNT = 20
+        private const val UPDATED_COUNT = 20
+    }
+}
@@ -0,0 +1,9 @@
+package android.os;
+
+/**
+ * Only referenced by the creators of the parcelable classes, which the benchmarks don't run.
+ */
+public final class Parcel {
+    private Parcel() {
+    }
+}
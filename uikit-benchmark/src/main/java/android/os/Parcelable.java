@@ -0,0 +1,16 @@
+package android.os;
+
+/**
+ * The configurations of UIKit are parcelable, and their creators are made when the classes are loaded.
+ */
+public interface Parcelable {
+    int describeContents();
+
+    void writeToParcel(Parcel dest, int flags);
+
+    interface Creator<T> {
+        T createFromParcel(Parcel source);
+
+        T[] newArray(int size);
+    }
+}
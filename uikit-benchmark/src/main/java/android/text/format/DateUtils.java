@@ -0,0 +1,39 @@
+package android.text.format;
+
+import android.content.Context;
+
+import java.text.DateFormat;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Formats the dates with {@link DateFormat}, which is close enough to the work the framework does.
+ */
+public class DateUtils {
+    public static final int FORMAT_SHOW_TIME = 0x00001;
+    public static final int FORMAT_SHOW_WEEKDAY = 0x00002;
+    public static final int FORMAT_SHOW_YEAR = 0x00004;
+    public static final int FORMAT_NO_YEAR = 0x00008;
+    public static final int FORMAT_SHOW_DATE = 0x00010;
+    public static final int FORMAT_ABBREV_WEEKDAY = 0x08000;
+    public static final int FORMAT_ABBREV_MONTH = 0x10000;
+    public static final int FORMAT_NUMERIC_DATE = 0x20000;
+
+    public static String formatDateTime(Context context, long millis, int flags) {
+        final DateFormat format = (flags & FORMAT_SHOW_TIME) != 0 && (flags & FORMAT_SHOW_DATE) == 0
+            ? DateFormat.getTimeInstance(DateFormat.SHORT)
+            : DateFormat.getDateInstance(DateFormat.MEDIUM);
+        return format.format(new Date(millis));
+    }
+
+    public static CharSequence getRelativeTimeSpanString(long time, long now, long minResolution, int flags) {
+        return ((now - time) / minResolution) + " minutes ago";
+    }
+
+    public static boolean isToday(long when) {
+        final Calendar today = Calendar.getInstance();
+        final Calendar date = Calendar.getInstance();
+        date.setTimeInMillis(when);
+        return today.get(Calendar.YEAR) == date.get(Calendar.YEAR) && today.get(Calendar.DAY_OF_YEAR) == date.get(Calendar.DAY_OF_YEAR);
+    }
+}
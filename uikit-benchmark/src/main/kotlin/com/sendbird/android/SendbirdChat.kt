@@ -0,0 +1,8 @@
+package com.sendbird.android
+
+import com.sendbird.android.user.User
+
+object SendbirdChat {
+    @JvmStatic
+    var currentUser: User? = null
+}
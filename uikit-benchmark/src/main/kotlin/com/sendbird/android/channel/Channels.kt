@@ -0,0 +1,27 @@
+package com.sendbird.android.channel
+
+import com.sendbird.android.message.BaseMessage
+
+// The members of the SDK channels the benchmarked classes read. The values are set by the fixtures.
+// The classes extend the same classes as the SDK ones, since the verifier checks the types the uikit classes assign.
+
+enum class Role {
+    OPERATOR, NONE
+}
+
+class NotificationData(val label: String)
+
+class TemplateMessageData(val key: String)
+
+abstract class BaseChannel(val url: String)
+
+class GroupChannel(url: String) : BaseChannel(url) {
+    var isFrozen: Boolean = false
+    var myRole: Role = Role.NONE
+    var lastMessage: BaseMessage? = null
+    var unreadMemberCount: Int = 0
+
+    fun getUnreadMemberCount(message: BaseMessage): Int = if (message.createdAt > 0) unreadMemberCount else 0
+
+    fun getUndeliveredMemberCount(message: BaseMessage): Int = 0
+}
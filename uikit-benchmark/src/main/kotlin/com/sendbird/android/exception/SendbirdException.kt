@@ -0,0 +1,5 @@
+package com.sendbird.android.exception
+
+// The uikit classes catch it, so it's resolved when they're verified.
+
+class SendbirdException(message: String?, val code: Int = 0) : Exception(message)
@@ -0,0 +1,114 @@
+package com.sendbird.android.message
+
+import com.sendbird.android.channel.NotificationData
+import com.sendbird.android.channel.TemplateMessageData
+import com.sendbird.android.user.Sender
+import com.sendbird.android.user.User
+
+// The members of the SDK messages the benchmarked classes read. The values are set by the fixtures.
+// The classes extend the same classes as the SDK ones, since the verifier checks the types the uikit classes assign.
+
+enum class SendingStatus {
+    NONE, PENDING, FAILED, SUCCEEDED, CANCELED, SCHEDULED
+}
+
+enum class FeedbackStatus {
+    NOT_APPLICABLE, NO_FEEDBACK, SUBMITTED
+}
+
+class Feedback(val id: Long)
+
+class OGMetaData(val url: String)
+
+data class Reaction(val key: String, val userIds: List<String>, val updatedAt: Long)
+
+class ThreadInfo(val replyCount: Int = 0, val mostRepliedUsers: List<User> = emptyList())
+
+class MessageMetaArray(val key: String, val value: List<String>)
+
+abstract class BaseMessage(
+    val channelUrl: String,
+    val messageId: Long,
+    val createdAt: Long,
+    requestId: String = ""
+) {
+    open val requestId: String = requestId
+    open var message: String = ""
+    var updatedAt: Long = 0
+    var sendingStatus: SendingStatus = SendingStatus.SUCCEEDED
+    var sender: Sender? = null
+    var customType: String = ""
+    var parentMessageId: Long = 0
+    var parentMessage: BaseMessage? = null
+    var threadInfo: ThreadInfo = ThreadInfo()
+    var reactions: List<Reaction> = emptyList()
+    var ogMetaData: OGMetaData? = null
+    var myFeedbackStatus: FeedbackStatus = FeedbackStatus.NOT_APPLICABLE
+    var myFeedback: Feedback? = null
+    var extendedMessagePayload: Map<String, String> = emptyMap()
+    var notificationData: NotificationData? = null
+    var templateMessageData: TemplateMessageData? = null
+    val extras: MutableMap<String, Any> = HashMap()
+
+    internal abstract fun newInstance(): BaseMessage
+
+    companion object {
+        @JvmStatic
+        fun clone(message: BaseMessage): BaseMessage? {
+            return message.newInstance().also {
+                it.message = message.message
+                it.updatedAt = message.updatedAt
+                it.sendingStatus = message.sendingStatus
+                it.sender = message.sender
+                it.customType = message.customType
+                it.parentMessageId = message.parentMessageId
+                it.parentMessage = message.parentMessage
+                it.threadInfo = message.threadInfo
+                it.reactions = message.reactions
+                it.ogMetaData = message.ogMetaData
+                it.myFeedbackStatus = message.myFeedbackStatus
+                it.myFeedback = message.myFeedback
+                it.extendedMessagePayload = message.extendedMessagePayload
+                it.notificationData = message.notificationData
+                it.templateMessageData = message.templateMessageData
+                it.extras.putAll(message.extras)
+            }
+        }
+    }
+}
+
+class UserMessage(channelUrl: String, messageId: Long, createdAt: Long, requestId: String) :
+    BaseMessage(channelUrl, messageId, createdAt, requestId) {
+    override fun newInstance(): BaseMessage = UserMessage(channelUrl, messageId, createdAt, requestId)
+}
+
+abstract class BaseFileMessage(channelUrl: String, messageId: Long, createdAt: Long, requestId: String) :
+    BaseMessage(channelUrl, messageId, createdAt, requestId)
+
+class FileMessage(channelUrl: String, messageId: Long, createdAt: Long, requestId: String) :
+    BaseFileMessage(channelUrl, messageId, createdAt, requestId) {
+    var url: String = ""
+    var size: Int = 0
+    var type: String = ""
+    var metaArrays: List<MessageMetaArray> = emptyList()
+
+    fun getMetaArrays(keys: List<String>): List<MessageMetaArray> = metaArrays.filter { it.key in keys }
+
+    override fun newInstance(): BaseMessage = FileMessage(channelUrl, messageId, createdAt, requestId).also {
+        it.url = url
+        it.size = size
+        it.type = type
+        it.metaArrays = metaArrays
+    }
+}
+
+class AdminMessage(channelUrl: String, messageId: Long, createdAt: Long) :
+    BaseMessage(channelUrl, messageId, createdAt) {
+    override fun newInstance(): BaseMessage = AdminMessage(channelUrl, messageId, createdAt)
+}
+
+// the list doesn't clone the customizable messages.
+open class CustomizableMessage(channelUrl: String, messageId: Long, createdAt: Long) :
+    BaseMessage(channelUrl, messageId, createdAt) {
+    override fun newInstance(): BaseMessage = this
+}
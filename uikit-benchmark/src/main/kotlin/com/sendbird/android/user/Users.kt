@@ -0,0 +1,11 @@
+package com.sendbird.android.user
+
+// The members of the SDK users the benchmarked classes read.
+
+open class User(val userId: String, val nickname: String = userId, val profileUrl: String = "") {
+    override fun equals(other: Any?): Boolean = other is User && other.userId == userId
+
+    override fun hashCode(): Int = userId.hashCode()
+}
+
+class Sender(userId: String, val isBot: Boolean = false) : User(userId)
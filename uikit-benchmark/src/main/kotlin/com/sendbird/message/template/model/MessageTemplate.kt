@@ -0,0 +1,3 @@
+package com.sendbird.message.template.model
+
+class MessageTemplate(val key: String)
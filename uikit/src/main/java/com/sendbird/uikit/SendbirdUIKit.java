@@ -38,25 +38,37 @@ import com.sendbird.android.template.MessageTemplateInfo;
 import com.sendbird.android.user.User;
 import com.sendbird.uikit.activities.ChannelActivity;
 import com.sendbird.uikit.adapter.SendbirdUIKitAdapter;
+import com.sendbird.uikit.consts.InitStage;
+import com.sendbird.uikit.consts.PerformanceMetricType;
 import com.sendbird.uikit.consts.ReplyType;
 import com.sendbird.uikit.consts.StringSet;
+import com.sendbird.uikit.consts.SyncResource;
 import com.sendbird.uikit.consts.ThreadReplySelectType;
 import com.sendbird.uikit.fragments.UIKitFragmentFactory;
 import com.sendbird.uikit.interfaces.CustomParamsHandler;
 import com.sendbird.uikit.interfaces.CustomUserListQueryHandler;
+import com.sendbird.uikit.interfaces.OnCompleteHandler;
 import com.sendbird.uikit.interfaces.UserInfo;
 import com.sendbird.uikit.internal.contracts.SendbirdChatContract;
 import com.sendbird.uikit.internal.contracts.SendbirdChatImpl;
 import com.sendbird.uikit.internal.contracts.TaskQueueContract;
 import com.sendbird.uikit.internal.contracts.TaskQueueImpl;
+import com.sendbird.uikit.internal.singleton.ConnectionSyncPipeline;
+import com.sendbird.uikit.internal.singleton.FileCacheManager;
 import com.sendbird.uikit.internal.singleton.MessageDisplayDataManager;
 import com.sendbird.uikit.internal.singleton.MessageTemplateManager;
 import com.sendbird.uikit.internal.singleton.NotificationChannelManager;
+import com.sendbird.uikit.internal.singleton.NotificationImpressionLogger;
+import com.sendbird.uikit.internal.singleton.PerformanceMonitor;
 import com.sendbird.uikit.internal.singleton.UIKitConfigRepository;
+import com.sendbird.uikit.internal.singleton.UIKitInitializer;
 import com.sendbird.uikit.internal.tasks.JobResultTask;
+import com.sendbird.uikit.internal.utils.TimeZoneChangeReceiver;
 import com.sendbird.uikit.log.Logger;
 import com.sendbird.uikit.model.EdgeToEdgeConfig;
 import com.sendbird.uikit.model.EmojiManager;
+import com.sendbird.uikit.model.PerformanceHistogram;
+import com.sendbird.uikit.model.ReadyStatus;
 import com.sendbird.uikit.model.UserMentionConfig;
 import com.sendbird.uikit.model.VoiceRecorderConfig;
 import com.sendbird.uikit.model.configurations.Common;
@@ -71,11 +83,10 @@ import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.concurrent.Callable;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -233,6 +244,9 @@ public class SendbirdUIKit {
     private static volatile ThemeMode defaultThemeMode = ThemeMode.Light;
     private static volatile boolean useUserIdForNickname = false;
     private static volatile boolean useCompression = true;
+    private static volatile boolean usePrecomputedMessageText = false;
+    private static volatile boolean useNonBlockingConnect = false;
+    private static volatile boolean useDeferredInit = false;
     @Nullable
     private static CustomUserListQueryHandler customUserListQueryHandler;
     @Nullable
@@ -256,6 +270,7 @@ public class SendbirdUIKit {
         NotificationChannelManager.clearAll();
         MessageDisplayDataManager.clearAll();
         MessageTemplateManager.clearAll();
+        ConnectionSyncPipeline.clearAll();
     }
 
     /**
@@ -325,15 +340,24 @@ public class SendbirdUIKit {
             }
         };
 
-        final com.sendbird.android.LogLevel logLevel = BuildConfig.DEBUG ? com.sendbird.android.LogLevel.VERBOSE : com.sendbird.android.LogLevel.WARN;
-        // useCaching=true is required for UIKit
-        final InitParams initParams = new InitParams(adapter.getAppId(), context, true, logLevel, isForeground);
-        sendbirdChatContract.init(initParams, initResultHandler);
-        FileUtils.removeDeletableDir(context.getApplicationContext());
-        UIKitPrefs.init(context.getApplicationContext());
-        NotificationChannelManager.init(context.getApplicationContext());
-        MessageTemplateManager.init(context.getApplicationContext());
-        EmojiManager.init();
+        final Context appContext = context.getApplicationContext();
+        UIKitInitializer.run(InitStage.CORE, false, () -> {
+            final com.sendbird.android.LogLevel logLevel = BuildConfig.DEBUG ? com.sendbird.android.LogLevel.VERBOSE : com.sendbird.android.LogLevel.WARN;
+            // useCaching=true is required for UIKit
+            final InitParams initParams = new InitParams(adapter.getAppId(), context, true, logLevel, isForeground);
+            sendbirdChatContract.init(initParams, initResultHandler);
+            TimeZoneChangeReceiver.register(appContext);
+            NotificationImpressionLogger.init(appContext);
+            FileCacheManager.init(appContext);
+        });
+
+        // each subsystem waits for its stage when it's used first, so the deferred stages can run after the init returns.
+        final boolean isDeferred = useDeferredInit;
+        UIKitInitializer.run(InitStage.PREFERENCES, isDeferred, () -> UIKitPrefs.init(appContext));
+        UIKitInitializer.run(InitStage.MESSAGE_TEMPLATE, isDeferred, () -> MessageTemplateManager.init(appContext));
+        UIKitInitializer.run(InitStage.NOTIFICATION, isDeferred, () -> NotificationChannelManager.init(appContext));
+        UIKitInitializer.run(InitStage.EMOJI, isDeferred, EmojiManager::init);
+        UIKitInitializer.run(InitStage.TEMPORARY_FILES, isDeferred, () -> FileUtils.removeDeletableDir(appContext));
     }
 
     /**
@@ -627,37 +651,29 @@ public class SendbirdUIKit {
                 final SendbirdException error = data.second;
                 Logger.d("++ user=%s, error=%s", user, error);
                 if (error == null && user != null) {
-                    UserInfo userInfo = adapter.getUserInfo();
-                    String userId = userInfo.getUserId();
-                    String nickname = TextUtils.isEmpty(userInfo.getNickname()) ? user.getNickname() : userInfo.getNickname();
-                    if (useUserIdForNickname && TextUtils.isEmpty(nickname)) nickname = userId;
-                    String profileUrl = TextUtils.isEmpty(userInfo.getProfileUrl()) ? user.getProfileUrl() : userInfo.getProfileUrl();
-                    if (!nickname.equals(user.getNickname()) || (!TextUtils.isEmpty(profileUrl) && !profileUrl.equals(user.getProfileUrl()))) {
-                        final UserUpdateParams params = new UserUpdateParams();
-                        params.setNickname(nickname);
-                        params.setProfileImageUrl(profileUrl);
-                        updateUserInfoBlocking(sendbirdChat, params);
+                    // in the non-blocking mode, the connection is reported before the resources are synchronized.
+                    final boolean isNonBlocking = useNonBlockingConnect;
+                    final Map<SyncResource, List<ConnectionSyncPipeline.SyncJob>> jobs = createSyncJobs(connectType, sendbirdChat);
+                    if (!isNonBlocking) {
+                        // the blocking connection doesn't wait for the emojis, so they're updated in the background as before.
+                        final List<ConnectionSyncPipeline.SyncJob> emojiJobs = jobs.put(SyncResource.EMOJI, Collections.emptyList());
+                        if (emojiJobs != null && !emojiJobs.isEmpty()) updateEmojiList();
                     }
-
-                    Logger.dev("++ user nickname = %s, profileUrl = %s", user.getNickname(), user.getProfileUrl());
-
-                    final AppInfo appInfo = sendbirdChat.getAppInfo();
-                    if (appInfo != null) {
-                        if (appInfo.getUseReaction()
-                            && appInfo.needUpdateEmoji(EmojiManager.getEmojiHash())
-                            && connectType == ConnectType.CONNECT) {
-                            updateEmojiList();
-                        }
-
-                        fetchTemplatesBlocking(sendbirdChat);
-                        if (SendbirdUIKit.uikitConfigRepo != null) {
-                            try {
-                                SendbirdUIKit.uikitConfigRepo.requestConfigurationsBlocking(sendbirdChat, appInfo.getUiKitConfigInfo());
-                            } catch (Exception e) {
-                                Logger.w(e);
-                            }
+                    final UserUpdateParams params = createUserUpdateParams(user);
+                    if (params != null) {
+                        if (isNonBlocking) {
+                            jobs.put(SyncResource.USER_INFO, Collections.singletonList(() -> updateUserInfoBlocking(sendbirdChat, params)));
+                        } else {
+                            updateUserInfoBlocking(sendbirdChat, params);
                         }
                     }
+
+                    Logger.dev("++ user nickname = %s, profileUrl = %s", user.getNickname(), user.getProfileUrl());
+                    final CountDownLatch syncLatch = ConnectionSyncPipeline.start(jobs);
+                    if (!isNonBlocking) syncLatch.await();
+                } else {
+                    // nothing is synchronized, so the screens waiting for the resources go on with the cached data or fail.
+                    ConnectionSyncPipeline.finishAll(error);
                 }
 
                 return new Pair<>(user, error);
@@ -675,51 +691,79 @@ public class SendbirdUIKit {
         });
     }
 
+    @Nullable
+    private static UserUpdateParams createUserUpdateParams(@NonNull User user) {
+        UserInfo userInfo = adapter.getUserInfo();
+        String userId = userInfo.getUserId();
+        String nickname = TextUtils.isEmpty(userInfo.getNickname()) ? user.getNickname() : userInfo.getNickname();
+        if (useUserIdForNickname && TextUtils.isEmpty(nickname)) nickname = userId;
+        String profileUrl = TextUtils.isEmpty(userInfo.getProfileUrl()) ? user.getProfileUrl() : userInfo.getProfileUrl();
+        if (!nickname.equals(user.getNickname()) || (!TextUtils.isEmpty(profileUrl) && !profileUrl.equals(user.getProfileUrl()))) {
+            final UserUpdateParams params = new UserUpdateParams();
+            params.setNickname(nickname);
+            params.setProfileImageUrl(profileUrl);
+            return params;
+        }
+        return null;
+    }
+
+    /**
+     * Creates the jobs which synchronize the resources after connected, except for the user info.
+     * Every resource has an entry, and the resources which don't need to be synchronized have no job.
+     */
+    @NonNull
+    private static Map<SyncResource, List<ConnectionSyncPipeline.SyncJob>> createSyncJobs(@NonNull ConnectType connectType,
+                                                                                        @NonNull SendbirdChatContract sendbirdChat) {
+        final Map<SyncResource, List<ConnectionSyncPipeline.SyncJob>> jobs = new EnumMap<>(SyncResource.class);
+        for (SyncResource resource : SyncResource.values()) {
+            jobs.put(resource, Collections.emptyList());
+        }
+
+        final AppInfo appInfo = sendbirdChat.getAppInfo();
+        if (appInfo == null) return jobs;
+        if (appInfo.getUseReaction()
+            && appInfo.needUpdateEmoji(EmojiManager.getEmojiHash())
+            && connectType == ConnectType.CONNECT) {
+            jobs.put(SyncResource.EMOJI, Collections.singletonList(SendbirdUIKit::updateEmojiListBlocking));
+        }
+        jobs.putAll(createTemplateSyncJobs(appInfo));
+        final UIKitConfigRepository configRepo = SendbirdUIKit.uikitConfigRepo;
+        if (configRepo != null) {
+            jobs.put(SyncResource.UIKIT_CONFIGURATION, Collections.singletonList(() -> configRepo.requestConfigurationsBlocking(sendbirdChat, appInfo.getUiKitConfigInfo())));
+        }
+        return jobs;
+    }
+
+    @NonNull
+    private static Map<SyncResource, List<ConnectionSyncPipeline.SyncJob>> createTemplateSyncJobs(@NonNull AppInfo appInfo) {
+        final Map<SyncResource, List<ConnectionSyncPipeline.SyncJob>> jobs = new EnumMap<>(SyncResource.class);
+        final List<ConnectionSyncPipeline.SyncJob> notificationJobs = new ArrayList<>();
+        final NotificationInfo notificationInfo = appInfo.getNotificationInfo();
+        if (notificationInfo != null && notificationInfo.isEnabled()) {
+            // if the cache exists or no need to update, blocking is released right away
+            notificationJobs.add(() -> NotificationChannelManager.requestTemplateListBlocking(notificationInfo.getTemplateListToken()));
+            notificationJobs.add(() -> NotificationChannelManager.requestNotificationChannelSettingBlocking(notificationInfo.getSettingsUpdatedAt()));
+        }
+        jobs.put(SyncResource.NOTIFICATION, notificationJobs);
+
+        final List<ConnectionSyncPipeline.SyncJob> messageTemplateJobs = new ArrayList<>();
+        final MessageTemplateInfo messageTemplateInfo = appInfo.getMessageTemplateInfo();
+        if (messageTemplateInfo != null && messageTemplateInfo.getToken() != null) { // `token == null` means there are no templates in server.
+            messageTemplateJobs.add(() -> MessageTemplateManager.syncMessageTemplateListBlocking(messageTemplateInfo.getToken()));
+        }
+        jobs.put(SyncResource.MESSAGE_TEMPLATE, messageTemplateJobs);
+        return jobs;
+    }
+
     @WorkerThread
     @VisibleForTesting
     static void fetchTemplatesBlocking(@NonNull SendbirdChatContract sendbirdChat) {
         final AppInfo appInfo = sendbirdChat.getAppInfo();
         if (appInfo != null) {
-            ExecutorService executor = Executors.newFixedThreadPool(3); // 3 threads for 3 requests
-            List<Callable<Object>> tasks = new ArrayList<>();
-
-            final NotificationInfo notificationInfo = appInfo.getNotificationInfo();
-            if (notificationInfo != null && notificationInfo.isEnabled()) {
-                // Even if the request fails, it should not affect the result of the connection request.
-                tasks.add(Executors.callable(() -> {
-                    try {
-                        // if the cache exists or no need to update, blocking is released right away
-                        final String latestToken = notificationInfo.getTemplateListToken();
-                        NotificationChannelManager.requestTemplateListBlocking(latestToken);
-                    } catch (Exception ignore) {
-                    }
-                }));
-                tasks.add(Executors.callable(() -> {
-                    try {
-                        // if the cache exists or no need to update, blocking is released right away
-                        final long settingsUpdatedAt = notificationInfo.getSettingsUpdatedAt();
-                        NotificationChannelManager.requestNotificationChannelSettingBlocking(settingsUpdatedAt);
-                    } catch (Exception ignore) {
-                    }
-                }));
-            }
-
-            final MessageTemplateInfo messageTemplateInfo = appInfo.getMessageTemplateInfo();
-            if (messageTemplateInfo != null && messageTemplateInfo.getToken() != null) { // `token == null` means there are no templates in server.
-                tasks.add(Executors.callable(() -> {
-                    try {
-                        final String latestToken = messageTemplateInfo.getToken();
-                        MessageTemplateManager.syncMessageTemplateListBlocking(latestToken);
-                    } catch (Exception ignore) {
-                    }
-                }));
-            }
-
+            // Even if the request fails, it should not affect the result of the connection request.
             try {
-                executor.invokeAll(tasks);
+                ConnectionSyncPipeline.start(createTemplateSyncJobs(appInfo)).await();
             } catch (InterruptedException ignore) {
-            } finally {
-                executor.shutdown();
             }
         }
     }
@@ -873,6 +917,25 @@ public class SendbirdUIKit {
         });
     }
 
+    @WorkerThread
+    private static void updateEmojiListBlocking() throws SendbirdException, InterruptedException {
+        Logger.d(">> SendBirdUIkit::updateEmojiList()");
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<SendbirdException> error = new AtomicReference<>();
+        SendbirdChat.getAllEmoji((emojiContainer, e) -> {
+            if (e != null) {
+                error.set(e);
+            } else {
+                if (emojiContainer != null) {
+                    EmojiManager.upsertEmojiContainer(emojiContainer);
+                }
+            }
+            latch.countDown();
+        });
+        latch.await();
+        if (error.get() != null) throw error.get();
+    }
+
     /**
      * Sets whether the image file compress when trying to send image file message. Default value is <code>true</code>.
      * The target image types are 'image/jpg`, `image/jpeg`, and `image/png`, the others will be ignored.
@@ -894,6 +957,222 @@ public class SendbirdUIKit {
         return SendbirdUIKit.useCompression;
     }
 
+    /**
+     * Sets whether the layouts of the text messages are measured in the background before they're drawn. Default value is <code>false</code>.
+     * The measured texts are valid only while the text appearance of the message views is unchanged.
+     * If the message views are customized to change their text appearance after they're bound, the texts are measured again on the main thread.
+     *
+     * @param usePrecomputedMessageText If <code>true</code> the text messages are measured in the background, <code>false</code> other wise.
+     * since 3.27.0
+     */
+    public static void setUsePrecomputedMessageText(boolean usePrecomputedMessageText) {
+        SendbirdUIKit.usePrecomputedMessageText = usePrecomputedMessageText;
+    }
+
+    /**
+     * Returns the value whether the layouts of the text messages are measured in the background.
+     *
+     * @return the value whether the layouts of the text messages are measured in the background.
+     * since 3.27.0
+     */
+    public static boolean isUsingPrecomputedMessageText() {
+        return SendbirdUIKit.usePrecomputedMessageText;
+    }
+
+    /**
+     * Sets whether UIKit measures the performance of the message lists and the screens. Default value is <code>false</code>.
+     * The measured values are aggregated into the histograms in memory, which are read by {@link #getPerformanceMetrics()}.
+     * While it's disabled, nothing is measured.
+     *
+     * @param usePerformanceMetrics If <code>true</code> the performance is measured, <code>false</code> other wise.
+     * @see PerformanceMetricType
+     * since 3.27.0
+     */
+    public static void setUsePerformanceMetrics(boolean usePerformanceMetrics) {
+        PerformanceMonitor.setEnabled(usePerformanceMetrics);
+    }
+
+    /**
+     * Returns the value whether UIKit measures the performance of the message lists and the screens.
+     *
+     * @return the value whether UIKit measures the performance of the message lists and the screens.
+     * since 3.27.0
+     */
+    public static boolean isUsingPerformanceMetrics() {
+        return PerformanceMonitor.isEnabled();
+    }
+
+    /**
+     * Returns the histograms of the values measured since the performance metrics are enabled or reset.
+     * There's a histogram for each {@link PerformanceMetricType} and label which has any value.
+     *
+     * @return the snapshot of the performance metrics.
+     * @see #setUsePerformanceMetrics(boolean)
+     * since 3.27.0
+     */
+    @NonNull
+    public static List<PerformanceHistogram> getPerformanceMetrics() {
+        return PerformanceMonitor.snapshot();
+    }
+
+    /**
+     * Clears the measured performance metrics, for instance after they're reported.
+     *
+     * since 3.27.0
+     */
+    public static void resetPerformanceMetrics() {
+        PerformanceMonitor.reset();
+    }
+
+    /**
+     * Sets whether {@link #connect(ConnectHandler)} and {@link #authenticate(AuthenticationHandler)} report the result as soon as the user is connected.
+     * If <code>true</code>, the emojis, the templates, the configurations of UIKit and the user info are synchronized in the background afterwards,
+     * and the screens which need them wait for them. Otherwise, they're synchronized before the result is reported,
+     * except for the emojis which are updated in the background without being waited for. Default value is <code>false</code>.
+     *
+     * @param useNonBlockingConnect If <code>true</code> the result of the connection is reported before the resources are synchronized, <code>false</code> other wise.
+     * @see #getSyncStatus(SyncResource)
+     * since 3.27.0
+     */
+    public static void setUseNonBlockingConnect(boolean useNonBlockingConnect) {
+        SendbirdUIKit.useNonBlockingConnect = useNonBlockingConnect;
+    }
+
+    /**
+     * Returns the value whether the result of the connection is reported before the resources are synchronized.
+     *
+     * @return the value whether the result of the connection is reported before the resources are synchronized.
+     * since 3.27.0
+     */
+    public static boolean isUsingNonBlockingConnect() {
+        return SendbirdUIKit.useNonBlockingConnect;
+    }
+
+    /**
+     * Returns whether the resource has been synchronized since the user is connected.
+     *
+     * @param resource The resource to check.
+     * @return {@link ReadyStatus#READY} if the resource is synchronized, {@link ReadyStatus#ERROR} if it failed,
+     * or <code>null</code> if it's being synchronized or the user isn't connected yet.
+     * since 3.27.0
+     */
+    @Nullable
+    public static ReadyStatus getSyncStatus(@NonNull SyncResource resource) {
+        return ConnectionSyncPipeline.getStatus(resource);
+    }
+
+    /**
+     * Runs the handler when the resource is synchronized after the user is connected.
+     * The handler is called right away if the resource is synchronized already or isn't being synchronized, otherwise it's called on the main thread later.
+     * The exception is delivered if the synchronization failed or the connection failed, and the cached resource can be used in that case.
+     *
+     * @param resource The resource to wait for.
+     * @param handler  Callback handler.
+     * since 3.27.0
+     */
+    public static void runWhenSynced(@NonNull SyncResource resource, @NonNull OnCompleteHandler handler) {
+        ConnectionSyncPipeline.runWhenReady(resource, handler);
+    }
+
+    /**
+     * Sets whether {@link #init(SendbirdUIKitAdapter, Context)} returns right after the Sendbird Chat SDK is initialized.
+     * If <code>true</code>, the preferences, the cached templates, the cached emojis and the temporary files are prepared on a background thread afterwards,
+     * and each of them is waited for when it's used first. It has to be set before the init. Default value is <code>false</code>.
+     *
+     * @param useDeferredInit If <code>true</code> the stages of the init except for {@link InitStage#CORE} run in the background, <code>false</code> other wise.
+     * @see #getInitStageDurations()
+     * since 3.27.0
+     */
+    public static void setUseDeferredInit(boolean useDeferredInit) {
+        SendbirdUIKit.useDeferredInit = useDeferredInit;
+    }
+
+    /**
+     * Returns the value whether the stages of the init except for {@link InitStage#CORE} run in the background.
+     *
+     * @return the value whether the stages of the init except for {@link InitStage#CORE} run in the background.
+     * since 3.27.0
+     */
+    public static boolean isUsingDeferredInit() {
+        return SendbirdUIKit.useDeferredInit;
+    }
+
+    /**
+     * Returns how long each stage of the init took in milliseconds. The stages which haven't finished yet are not included.
+     *
+     * @return the durations of the finished stages of the init.
+     * since 3.27.0
+     */
+    @NonNull
+    public static Map<InitStage, Long> getInitStageDurations() {
+        return UIKitInitializer.getDurations();
+    }
+
+    /**
+     * Sets the maximum size of the files UIKit keeps in the cache directory, such as the downloaded files,
+     * the voice files and the copies of the files being sent. The least recently used files are deleted
+     * when the cache gets bigger than the size. Default value is 200MB.
+     *
+     * @param maxFileCacheSize The maximum size of the file cache in bytes. It cannot be negative.
+     * since 3.27.0
+     */
+    public static void setMaxFileCacheSize(long maxFileCacheSize) {
+        FileCacheManager.setMaxSize(maxFileCacheSize);
+    }
+
+    /**
+     * Returns the maximum size of the files UIKit keeps in the cache directory in bytes.
+     *
+     * @return the maximum size of the file cache in bytes.
+     * since 3.27.0
+     */
+    public static long getMaxFileCacheSize() {
+        return FileCacheManager.getMaxSize();
+    }
+
+    /**
+     * Returns the total size of the files UIKit keeps in the cache directory in bytes.
+     *
+     * @return the size of the file cache in bytes.
+     * since 3.27.0
+     */
+    public static long getFileCacheSize() {
+        return FileCacheManager.getSize();
+    }
+
+    /**
+     * Returns the size of the cached files of each channel in bytes, keyed by the channel url.
+     * The files which don't belong to a channel yet, such as the copies of the files being sent, are not included.
+     *
+     * @return the size of the cached files of each channel.
+     * since 3.27.0
+     */
+    @NonNull
+    public static Map<String, Long> getFileCacheUsageByChannel() {
+        return FileCacheManager.getChannelSizes();
+    }
+
+    /**
+     * Deletes the cached files of the channel. It's called when the current user leaves the channel
+     * or the channel is deleted while the channel is shown.
+     * A blank url or a url which has a path separator is ignored.
+     *
+     * @param channelUrl The url of the channel whose files are deleted.
+     * since 3.27.0
+     */
+    public static void clearFileCache(@NonNull String channelUrl) {
+        FileCacheManager.clearChannel(channelUrl);
+    }
+
+    /**
+     * Deletes all the files UIKit keeps in the cache directory, except for the files of the messages being sent.
+     *
+     * since 3.27.0
+     */
+    public static void clearFileCache() {
+        FileCacheManager.clear();
+    }
+
     /**
      * Image compression quality value that will be used when sending image. Default value is 70.
      * It has to be bigger than 0 and cannot exceed 100.
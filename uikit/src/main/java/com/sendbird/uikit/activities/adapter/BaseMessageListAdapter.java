@@ -3,6 +3,7 @@ package com.sendbird.uikit.activities.adapter;
 import static androidx.recyclerview.widget.RecyclerView.NO_POSITION;
 
 import android.content.Context;
+import android.util.SparseArray;
 import android.util.TypedValue;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -23,6 +24,8 @@ import com.sendbird.uikit.R;
 import com.sendbird.uikit.activities.viewholder.MessageType;
 import com.sendbird.uikit.activities.viewholder.MessageViewHolder;
 import com.sendbird.uikit.activities.viewholder.MessageViewHolderFactory;
+import com.sendbird.uikit.consts.PerformanceMetricType;
+import com.sendbird.uikit.consts.StringSet;
 import com.sendbird.uikit.interfaces.EmojiReactionHandler;
 import com.sendbird.uikit.interfaces.MessageDisplayDataProvider;
 import com.sendbird.uikit.interfaces.OnEmojiReactionClickListener;
@@ -35,7 +38,12 @@ import com.sendbird.uikit.internal.contracts.SendbirdUIKitContract;
 import com.sendbird.uikit.internal.contracts.SendbirdUIKitImpl;
 import com.sendbird.uikit.internal.extensions.MessageExtensionsKt;
 import com.sendbird.uikit.internal.interfaces.OnFeedbackRatingClickListener;
+import com.sendbird.uikit.internal.model.EmojiCategoryTable;
+import com.sendbird.uikit.internal.model.TracedList;
 import com.sendbird.uikit.internal.singleton.MessageDisplayDataManager;
+import com.sendbird.uikit.internal.singleton.PerformanceMonitor;
+import com.sendbird.uikit.internal.tasks.ListDiffWorker;
+import com.sendbird.uikit.internal.utils.MessageTextCache;
 import com.sendbird.uikit.internal.ui.viewholders.MyUserMessageViewHolder;
 import com.sendbird.uikit.internal.ui.viewholders.OtherUserMessageViewHolder;
 import com.sendbird.uikit.log.Logger;
@@ -49,13 +57,18 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 abstract public class BaseMessageListAdapter extends BaseMessageAdapter<BaseMessage, MessageViewHolder> {
     @NonNull
     private List<BaseMessage> messageList = new ArrayList<>();
+    // group types of messageList. It's replaced together with messageList.
+    @NonNull
+    private MessageGroupTypeTable messageGroupTypes = MessageGroupTypeTable.EMPTY;
+    // allowed emoji categories of messageList. It's replaced together with messageList.
+    @NonNull
+    private EmojiCategoryTable emojiCategoryTable = EmojiCategoryTable.EMPTY;
     @Nullable
     private GroupChannel channel;
     @Nullable
@@ -82,12 +95,18 @@ abstract public class BaseMessageListAdapter extends BaseMessageAdapter<BaseMess
     @Nullable
     private MessageDisplayDataProvider messageDisplayDataProvider;
 
-    // the worker must be a single thread.
     @NonNull
-    private final ExecutorService differWorker = Executors.newSingleThreadExecutor();
+    private final ListDiffWorker<OnMessageListUpdateHandler> differWorker = new ListDiffWorker<>();
+    @Nullable
+    private volatile MessageTextCache messageTextCache;
+    // the labels of the view types for the performance metrics.
+    @NonNull
+    private final SparseArray<String> viewTypeLabels = new SparseArray<>();
 
     @NonNull
     protected final SendbirdUIKitContract sendbirdUIKit;
+    @NonNull
+    private static final Map<Class<?>, Boolean> stockBindings = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -167,11 +186,15 @@ abstract public class BaseMessageListAdapter extends BaseMessageAdapter<BaseMess
     @NonNull
     @Override
     public MessageViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        final long startNanos = PerformanceMonitor.now();
         final TypedValue values = new TypedValue();
         parent.getContext().getTheme().resolveAttribute(R.attr.sb_component_list, values, true);
         final Context contextWrapper = new ContextThemeWrapper(parent.getContext(), values.resourceId);
         LayoutInflater inflater = LayoutInflater.from(contextWrapper);
         MessageViewHolder viewHolder = createViewHolder(parent, viewType, inflater);
+        if (messageTextCache == null) {
+            messageTextCache = MessageTextCache.of(parent.getContext());
+        }
 
         viewHolder.setMessageUIConfig(messageUIConfig);
 
@@ -199,6 +222,9 @@ abstract public class BaseMessageListAdapter extends BaseMessageAdapter<BaseMess
                 return false;
             });
         }
+        if (startNanos != 0L) {
+            PerformanceMonitor.recordSince(PerformanceMetricType.CREATE_VIEW_HOLDER, getViewTypeLabel(viewType), startNanos);
+        }
         return viewHolder;
     }
 
@@ -211,7 +237,77 @@ abstract public class BaseMessageListAdapter extends BaseMessageAdapter<BaseMess
                 holder.itemView.startAnimation(animation);
             }
         }
-        super.onBindViewHolder(holder, position, payloads);
+        final long startNanos = PerformanceMonitor.now();
+        if (channel != null && isMessageGroupTypeOnly(payloads)) {
+            onBindMessageGroupType(holder, position);
+        } else {
+            super.onBindViewHolder(holder, position, payloads);
+        }
+        if (startNanos != 0L) {
+            PerformanceMonitor.recordSince(PerformanceMetricType.BIND_VIEW_HOLDER, getViewTypeLabel(holder.getItemViewType()), startNanos);
+        }
+    }
+
+    /**
+     * Called instead of {@link #onBindViewHolder(MessageViewHolder, int)} when only the message group type of the item
+     * may have been changed, e.g. when a message is added next to it.
+     * If a subclass overrides {@link #onBindViewHolder(MessageViewHolder, int)}, the whole item is bound with it by default,
+     * so the override is still called for every bind. Otherwise, only the parts of the item which depend on the message group type
+     * are drawn again with {@link MessageViewHolder#onBindMessageGroupType}.
+     * Override this to draw only those parts even though {@link #onBindViewHolder(MessageViewHolder, int)} is overridden.
+     *
+     * @param holder The {@link MessageViewHolder} of the item.
+     * @param position The position of the item within the adapter's data set.
+     * since 3.27.0
+     */
+    protected void onBindMessageGroupType(@NonNull MessageViewHolder holder, int position) {
+        if (channel == null || !isStockBinding(getClass())) {
+            onBindViewHolder(holder, position);
+            return;
+        }
+        final BaseMessage prev = position < getItemCount() - 1 ? getItem(position + 1) : null;
+        final BaseMessage next = position > 0 ? getItem(position - 1) : null;
+        if (position < messageGroupTypes.size()) {
+            holder.setPrecomputedMessageGroupType(messageGroupTypes.get(position));
+        }
+        holder.onBindMessageGroupType(channel, prev, getItem(position), next);
+    }
+
+    // true if onBindViewHolder(holder, position) of the adapter is one of UIKit's, which only bind the item to the holder.
+    @VisibleForTesting
+    static boolean isStockBinding(@NonNull Class<? extends BaseMessageListAdapter> adapterClass) {
+        Boolean isStock = stockBindings.get(adapterClass);
+        if (isStock == null) {
+            try {
+                final Class<?> declaringClass = adapterClass.getMethod("onBindViewHolder", MessageViewHolder.class, int.class).getDeclaringClass();
+                isStock = declaringClass == BaseMessageListAdapter.class || declaringClass == MessageListAdapter.class || declaringClass == ThreadListAdapter.class;
+            } catch (NoSuchMethodException e) {
+                isStock = false;
+            }
+            stockBindings.put(adapterClass, isStock);
+        }
+        return isStock;
+    }
+
+    // the item is drawn again only for its message group type if it's the only change.
+    private static boolean isMessageGroupTypeOnly(@NonNull List<Object> payloads) {
+        if (payloads.isEmpty()) return false;
+        for (Object payload : payloads) {
+            if (payload != MessageDiffCallback.PAYLOAD_MESSAGE_GROUP_TYPE) return false;
+        }
+        return true;
+    }
+
+    @NonNull
+    private String getViewTypeLabel(int viewType) {
+        String label = viewTypeLabels.get(viewType);
+        if (label == null) {
+            final MessageType messageType = MessageType.from(viewType);
+            // the custom view types are not one of the MessageType.
+            label = messageType.getValue() == viewType ? messageType.name() : String.valueOf(viewType);
+            viewTypeLabels.put(viewType, label);
+        }
+        return label;
     }
 
     /**
@@ -241,7 +337,7 @@ abstract public class BaseMessageListAdapter extends BaseMessageAdapter<BaseMess
         if (ChannelConfig.getEnableReactions(messageListUIParams.getChannelConfig(), channel) && holder instanceof EmojiReactionHandler) {
             EmojiReactionHandler emojiReactionHandler = (EmojiReactionHandler) holder;
             List<Reaction> reactionList = current.getReactions();
-            emojiReactionHandler.setEmojiReaction(reactionList, MessageExtensionsKt.allowedEmojiList(current), (view, reactionPosition, reactionKey) -> {
+            emojiReactionHandler.setEmojiReaction(reactionList, MessageExtensionsKt.allowedEmojiList(emojiCategoryTable.get(current.getMessageId())), (view, reactionPosition, reactionKey) -> {
                 int messagePosition = holder.getBindingAdapterPosition();
                 if (messagePosition != NO_POSITION && emojiReactionClickListener != null) {
                     emojiReactionClickListener.onEmojiReactionClick(
@@ -300,6 +396,9 @@ abstract public class BaseMessageListAdapter extends BaseMessageAdapter<BaseMess
         }
 
         if (channel != null) {
+            if (position < messageGroupTypes.size()) {
+                holder.setPrecomputedMessageGroupType(messageGroupTypes.get(position));
+            }
             holder.onBindViewHolder(channel, prev, current, next);
         }
     }
@@ -356,35 +455,70 @@ abstract public class BaseMessageListAdapter extends BaseMessageAdapter<BaseMess
      * since 2.2.0
      */
     public void setItems(@NonNull final GroupChannel channel, @NonNull final List<BaseMessage> messageList, @Nullable OnMessageListUpdateHandler callback) {
+        // the fragments pass the list with the name of the event that made it, so the diff can be skipped for some events.
+        final String traceName = TracedList.traceNameOf(messageList);
         if (messageDisplayDataProvider == null || messageDisplayDataProvider.shouldRunOnUIThread()) {
             if (messageDisplayDataProvider != null)
                 MessageDisplayDataManager.checkAndGenerateDisplayData(messageList, messageDisplayDataProvider);
-            MessageExtensionsKt.updateMessageEmojiCategories(messageList, this::getEmojiCategories);
-            notifyMessageListChanged(channel, messageList, callback);
+            final EmojiCategoryTable emojiCategories = MessageExtensionsKt.createEmojiCategoryTable(messageList, this::getEmojiCategories);
+            notifyMessageListChanged(channel, messageList, emojiCategories, traceName, callback);
             return;
         }
 
         messageDisplayDataProvider.threadPool().submit(() -> {
             MessageDisplayDataManager.checkAndGenerateDisplayData(messageList, messageDisplayDataProvider);
-            MessageExtensionsKt.updateMessageEmojiCategories(messageList, this::getEmojiCategories);
-            notifyMessageListChanged(channel, messageList, callback);
+            final EmojiCategoryTable emojiCategories = MessageExtensionsKt.createEmojiCategoryTable(messageList, this::getEmojiCategories);
+            notifyMessageListChanged(channel, messageList, emojiCategories, traceName, callback);
         });
     }
 
-    private void notifyMessageListChanged(@NonNull GroupChannel channel, @NonNull List<BaseMessage> messageList, @Nullable OnMessageListUpdateHandler callback) {
+    private void notifyMessageListChanged(@NonNull GroupChannel channel, @NonNull List<BaseMessage> messageList, @NonNull EmojiCategoryTable newEmojiCategories, @Nullable String traceName, @Nullable OnMessageListUpdateHandler callback) {
         final GroupChannel copiedChannel = GroupChannel.clone(channel);
         final List<BaseMessage> copiedMessage = Collections.unmodifiableList(messageList);
-        differWorker.submit(() -> {
+        differWorker.submit(callback, skippedCallbacks -> {
+            final MessageTextCache textCache = messageTextCache;
+            if (textCache != null) {
+                // the display data is generated already, so the texts can be rendered with it.
+                textCache.prepare(copiedMessage);
+            }
+            final long startNanos = PerformanceMonitor.now();
             final CountDownLatch lock = new CountDownLatch(1);
-            final MessageDiffCallback diffCallback = new MessageDiffCallback(BaseMessageListAdapter.this.channel, channel,
-                BaseMessageListAdapter.this.messageList, messageList, messageListUIParams);
-            final DiffUtil.DiffResult diffResult = calculateDiff(diffCallback);
+            final List<BaseMessage> oldMessageList = BaseMessageListAdapter.this.messageList;
+            final MessageGroupTypeTable oldGroupTypes = BaseMessageListAdapter.this.messageGroupTypes;
+            final MessageGroupTypeTable newGroupTypes = MessageGroupTypeTable.calculate(oldGroupTypes, oldMessageList, copiedMessage, messageListUIParams);
+            final MessageListInsertion insertion = canSkipDiff(traceName, BaseMessageListAdapter.this.channel, copiedChannel)
+                ? MessageListInsertion.find(oldMessageList, copiedMessage)
+                : null;
+            final DiffUtil.DiffResult diffResult;
+            if (insertion != null) {
+                Logger.d("-- BaseMessageListAdapter skips calculating the diff. traceName=%s", traceName);
+                diffResult = null;
+            } else {
+                final MessageDiffCallback diffCallback = new MessageDiffCallback(BaseMessageListAdapter.this.channel, channel,
+                    oldMessageList, messageList, messageListUIParams, oldGroupTypes, newGroupTypes,
+                    BaseMessageListAdapter.this.emojiCategoryTable, newEmojiCategories);
+                diffResult = calculateDiff(diffCallback);
+            }
+            if (startNanos != 0L) {
+                final String label = traceName != null ? traceName : "";
+                PerformanceMonitor.recordSince(PerformanceMetricType.DIFF, label, startNanos);
+                PerformanceMonitor.record(PerformanceMetricType.LIST_SIZE, label, copiedMessage.size());
+            }
 
             sendbirdUIKit.runOnUIThread(() -> {
                 try {
                     BaseMessageListAdapter.this.messageList = copiedMessage;
+                    BaseMessageListAdapter.this.messageGroupTypes = newGroupTypes;
+                    BaseMessageListAdapter.this.emojiCategoryTable = newEmojiCategories;
                     BaseMessageListAdapter.this.channel = copiedChannel;
-                    diffResult.dispatchUpdatesTo(BaseMessageListAdapter.this);
+                    if (diffResult != null) {
+                        diffResult.dispatchUpdatesTo(BaseMessageListAdapter.this);
+                    } else {
+                        insertion.dispatchUpdatesTo(BaseMessageListAdapter.this, oldGroupTypes, newGroupTypes);
+                    }
+                    for (OnMessageListUpdateHandler skippedCallback : skippedCallbacks) {
+                        skippedCallback.onListUpdated(messageList);
+                    }
                     if (callback != null) {
                         callback.onListUpdated(messageList);
                     }
@@ -392,11 +526,45 @@ abstract public class BaseMessageListAdapter extends BaseMessageAdapter<BaseMess
                     lock.countDown();
                 }
             });
-            lock.await();
-            return true;
+            try {
+                lock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         });
     }
 
+    /**
+     * Checks whether the messages kept from the old list can be treated as unchanged only by comparing the references.
+     * The pagination doesn't change the channel, but adding new messages can be delivered with the channel whose receipts have been changed.
+     */
+    private boolean canSkipDiff(@Nullable String traceName, @Nullable GroupChannel oldChannel, @NonNull GroupChannel newChannel) {
+        if (traceName == null || oldChannel == null) return false;
+        if (oldChannel.isFrozen() != newChannel.isFrozen() || oldChannel.getMyRole() != newChannel.getMyRole()) return false;
+        switch (traceName) {
+            case StringSet.ACTION_PREVIOUS:
+            case StringSet.ACTION_NEXT:
+                return true;
+            case StringSet.EVENT_MESSAGE_RECEIVED:
+            case StringSet.EVENT_MESSAGE_SENT:
+            case StringSet.ACTION_PENDING_MESSAGE_ADDED:
+                return !messageListUIParams.shouldUseMessageReceipt();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Cancels the lists which are set by {@link #setItems(GroupChannel, List, OnMessageListUpdateHandler)} but not applied yet,
+     * and releases the thread used to calculate the differences of the lists.
+     * It's called when the screen that owns this adapter is destroyed.
+     *
+     * since 3.27.0
+     */
+    public void release() {
+        differWorker.release();
+    }
+
     /**
      * Animates the view holder with the corresponding message id.
      *
@@ -3,6 +3,7 @@ package com.sendbird.uikit.activities.adapter;
 import static androidx.recyclerview.widget.RecyclerView.NO_POSITION;
 
 import android.content.Context;
+import android.os.Looper;
 import android.util.TypedValue;
 import android.view.LayoutInflater;
 import android.view.ViewGroup;
@@ -19,12 +20,14 @@ import com.sendbird.android.message.FileMessage;
 import com.sendbird.android.message.UserMessage;
 import com.sendbird.android.user.User;
 import com.sendbird.uikit.R;
+import com.sendbird.uikit.SendbirdUIKit;
 import com.sendbird.uikit.activities.viewholder.BaseViewHolder;
 import com.sendbird.uikit.databinding.SbViewChannelPreviewBinding;
 import com.sendbird.uikit.interfaces.MessageDisplayDataProvider;
 import com.sendbird.uikit.interfaces.OnItemClickListener;
 import com.sendbird.uikit.interfaces.OnItemLongClickListener;
 import com.sendbird.uikit.internal.singleton.MessageDisplayDataManager;
+import com.sendbird.uikit.internal.tasks.ListDiffWorker;
 import com.sendbird.uikit.model.ChannelListUIParams;
 import com.sendbird.uikit.model.configurations.UIKitConfig;
 import com.sendbird.uikit.utils.ChannelUtils;
@@ -33,6 +36,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
 
 /**
  * ChannelListAdapter provides a binding from a {@link GroupChannel} type data set to views that are displayed within a RecyclerView.
@@ -50,6 +54,8 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
     private MessageDisplayDataProvider messageDisplayDataProvider;
     @NonNull
     private final ChannelListUIParams params;
+    @NonNull
+    private final ListDiffWorker<Object> differWorker = new ListDiffWorker<>();
 
     /**
      * Constructor
@@ -209,6 +215,9 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
 
     /**
      * Sets the {@link List<GroupChannel>} to be displayed.
+     * If it's called on the main thread and the display data of the messages isn't generated in the background,
+     * the list is applied before this returns, unless the lists set before it are still being applied.
+     * Otherwise, the list is applied on the main thread after the differences are calculated in the background.
      *
      * @param channelList list to be displayed
      */
@@ -227,16 +236,55 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
     }
 
     private void notifyChannelListChanged(@NonNull List<GroupChannel> channelList) {
-        final List<ChannelInfo> newChannelInfo = ChannelInfo.toChannelInfoList(channelList, new ChannelListUIParams());
-        final ChannelDiffCallback diffCallback = new ChannelDiffCallback(this.cachedChannelList, newChannelInfo);
-        final DiffUtil.DiffResult diffResult = calculateDiff(diffCallback);
+        // the list set on the main thread is applied right away, so getItems() returns it after setItems(),
+        // unless the lists set before it are still being applied.
+        if (Looper.myLooper() == Looper.getMainLooper() && differWorker.runNowIfIdle(skippedCallbacks -> {
+            final List<ChannelInfo> newChannelInfo = ChannelInfo.toChannelInfoList(channelList, new ChannelListUIParams());
+            final ChannelDiffCallback diffCallback = new ChannelDiffCallback(this.cachedChannelList, newChannelInfo);
+            applyChannelList(channelList, newChannelInfo, calculateDiff(diffCallback));
+        })) {
+            return;
+        }
 
+        differWorker.submit(null, skippedCallbacks -> {
+            final CountDownLatch lock = new CountDownLatch(1);
+            final List<ChannelInfo> newChannelInfo = ChannelInfo.toChannelInfoList(channelList, new ChannelListUIParams());
+            final ChannelDiffCallback diffCallback = new ChannelDiffCallback(this.cachedChannelList, newChannelInfo);
+            final DiffUtil.DiffResult diffResult = calculateDiff(diffCallback);
+
+            SendbirdUIKit.runOnUIThread(() -> {
+                try {
+                    applyChannelList(channelList, newChannelInfo, diffResult);
+                } finally {
+                    lock.countDown();
+                }
+            });
+            try {
+                lock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private void applyChannelList(@NonNull List<GroupChannel> channelList, @NonNull List<ChannelInfo> newChannelInfo, @NonNull DiffUtil.DiffResult diffResult) {
         this.channelList.clear();
         this.channelList.addAll(channelList);
         this.cachedChannelList = newChannelInfo;
         diffResult.dispatchUpdatesTo(this);
     }
 
+    /**
+     * Cancels the lists which are set by {@link #setItems(List)} but not applied yet,
+     * and releases the thread used to calculate the differences of the lists.
+     * It's called when the screen that owns this adapter is destroyed.
+     *
+     * since 3.27.0
+     */
+    public void release() {
+        differWorker.release();
+    }
+
     @VisibleForTesting
     @NonNull
     DiffUtil.DiffResult calculateDiff(ChannelDiffCallback diffCallback) {
@@ -16,6 +16,7 @@ import com.sendbird.uikit.consts.MessageGroupType;
 import com.sendbird.uikit.consts.ReplyType;
 import com.sendbird.uikit.internal.extensions.MessageExtensionsKt;
 import com.sendbird.uikit.internal.extensions.MessageTemplateExtensionsKt;
+import com.sendbird.uikit.internal.model.EmojiCategoryTable;
 import com.sendbird.uikit.internal.model.templates.MessageTemplateStatus;
 import com.sendbird.uikit.model.MessageListUIParams;
 import com.sendbird.uikit.model.TypingIndicatorMessage;
@@ -26,6 +27,12 @@ import java.util.Map;
 import java.util.Objects;
 
 class MessageDiffCallback extends DiffUtil.Callback {
+    /**
+     * The payload dispatched when only the message group type of the item has been changed.
+     */
+    @NonNull
+    static final Object PAYLOAD_MESSAGE_GROUP_TYPE = new Object();
+
     @NonNull
     private final List<BaseMessage> oldMessageList;
     @NonNull
@@ -36,15 +43,46 @@ class MessageDiffCallback extends DiffUtil.Callback {
     private final GroupChannel newChannel;
     @NonNull
     private final MessageListUIParams messageListUIParams;
+    @Nullable
+    private final MessageGroupTypeTable oldGroupTypes;
+    @Nullable
+    private final MessageGroupTypeTable newGroupTypes;
+    @Nullable
+    private final EmojiCategoryTable oldEmojiCategories;
+    @Nullable
+    private final EmojiCategoryTable newEmojiCategories;
+    // positions of the new list whose contents are the same except for the message group type.
+    @NonNull
+    private final boolean[] groupTypeOnlyChanged;
 
     public MessageDiffCallback(@Nullable GroupChannel oldChannel, @NonNull GroupChannel newChannel,
                                @NonNull List<BaseMessage> oldMessageList, @NonNull List<BaseMessage> newMessageList,
                                @NonNull MessageListUIParams messageListUIParams) {
+        this(oldChannel, newChannel, oldMessageList, newMessageList, messageListUIParams, null, null);
+    }
+
+    public MessageDiffCallback(@Nullable GroupChannel oldChannel, @NonNull GroupChannel newChannel,
+                               @NonNull List<BaseMessage> oldMessageList, @NonNull List<BaseMessage> newMessageList,
+                               @NonNull MessageListUIParams messageListUIParams,
+                               @Nullable MessageGroupTypeTable oldGroupTypes, @Nullable MessageGroupTypeTable newGroupTypes) {
+        this(oldChannel, newChannel, oldMessageList, newMessageList, messageListUIParams, oldGroupTypes, newGroupTypes, null, null);
+    }
+
+    public MessageDiffCallback(@Nullable GroupChannel oldChannel, @NonNull GroupChannel newChannel,
+                               @NonNull List<BaseMessage> oldMessageList, @NonNull List<BaseMessage> newMessageList,
+                               @NonNull MessageListUIParams messageListUIParams,
+                               @Nullable MessageGroupTypeTable oldGroupTypes, @Nullable MessageGroupTypeTable newGroupTypes,
+                               @Nullable EmojiCategoryTable oldEmojiCategories, @Nullable EmojiCategoryTable newEmojiCategories) {
         this.oldChannel = oldChannel;
         this.newChannel = newChannel;
         this.oldMessageList = oldMessageList;
         this.newMessageList = newMessageList;
         this.messageListUIParams = messageListUIParams;
+        this.oldGroupTypes = oldGroupTypes != null && oldGroupTypes.size() == oldMessageList.size() ? oldGroupTypes : null;
+        this.newGroupTypes = newGroupTypes != null && newGroupTypes.size() == newMessageList.size() ? newGroupTypes : null;
+        this.groupTypeOnlyChanged = new boolean[newMessageList.size()];
+        this.oldEmojiCategories = oldEmojiCategories;
+        this.newEmojiCategories = newEmojiCategories;
     }
 
     @Override
@@ -80,7 +118,8 @@ class MessageDiffCallback extends DiffUtil.Callback {
             return false;
         }
 
-        if (MessageExtensionsKt.getEmojiCategories(oldMessage) != MessageExtensionsKt.getEmojiCategories(newMessage)) {
+        if (oldEmojiCategories != null && newEmojiCategories != null
+            && !Objects.equals(oldEmojiCategories.get(oldMessage.getMessageId()), newEmojiCategories.get(newMessage.getMessageId()))) {
             return false;
         }
 
@@ -203,19 +242,38 @@ class MessageDiffCallback extends DiffUtil.Callback {
         }
 
         if (messageListUIParams.shouldUseMessageGroupUI()) {
-            BaseMessage oldPrevMessage = oldItemPosition - 1 < 0 ? null : oldMessageList.get(oldItemPosition - 1);
-            BaseMessage newPrevMessage = newItemPosition - 1 < 0 ? null : newMessageList.get(newItemPosition - 1);
-            BaseMessage oldNextMessage = oldItemPosition + 1 >= oldMessageList.size() ? null : oldMessageList.get(oldItemPosition + 1);
-            BaseMessage newNextMessage = newItemPosition + 1 >= newMessageList.size() ? null : newMessageList.get(newItemPosition + 1);
-            MessageGroupType oldMessageGroupType = MessageUtils.getMessageGroupType(oldPrevMessage, oldMessage, oldNextMessage, messageListUIParams);
-            MessageGroupType newMessageGroupType = MessageUtils.getMessageGroupType(newPrevMessage, newMessage, newNextMessage, messageListUIParams);
+            final MessageGroupType oldMessageGroupType;
+            final MessageGroupType newMessageGroupType;
+            if (oldGroupTypes != null && newGroupTypes != null) {
+                oldMessageGroupType = oldGroupTypes.get(oldItemPosition);
+                newMessageGroupType = newGroupTypes.get(newItemPosition);
+            } else {
+                BaseMessage oldPrevMessage = oldItemPosition - 1 < 0 ? null : oldMessageList.get(oldItemPosition - 1);
+                BaseMessage newPrevMessage = newItemPosition - 1 < 0 ? null : newMessageList.get(newItemPosition - 1);
+                BaseMessage oldNextMessage = oldItemPosition + 1 >= oldMessageList.size() ? null : oldMessageList.get(oldItemPosition + 1);
+                BaseMessage newNextMessage = newItemPosition + 1 >= newMessageList.size() ? null : newMessageList.get(newItemPosition + 1);
+                oldMessageGroupType = MessageUtils.getMessageGroupType(oldPrevMessage, oldMessage, oldNextMessage, messageListUIParams);
+                newMessageGroupType = MessageUtils.getMessageGroupType(newPrevMessage, newMessage, newNextMessage, messageListUIParams);
+            }
 
-            return oldMessageGroupType == newMessageGroupType;
+            if (oldMessageGroupType != newMessageGroupType) {
+                groupTypeOnlyChanged[newItemPosition] = true;
+                return false;
+            }
         }
 
         return true;
     }
 
+    @Nullable
+    @Override
+    public Object getChangePayload(int oldItemPosition, int newItemPosition) {
+        if (groupTypeOnlyChanged[newItemPosition]) {
+            return PAYLOAD_MESSAGE_GROUP_TYPE;
+        }
+        return null;
+    }
+
     private String getItemId(@NonNull BaseMessage item) {
         if (TextUtils.isEmpty(item.getRequestId())) {
             return String.valueOf(item.getMessageId());
@@ -0,0 +1,92 @@
+package com.sendbird.uikit.activities.adapter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.sendbird.android.message.BaseMessage;
+import com.sendbird.uikit.consts.MessageGroupType;
+import com.sendbird.uikit.model.MessageListUIParams;
+import com.sendbird.uikit.utils.MessageUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Holds the {@link MessageGroupType} of every message in a message list snapshot.
+ * The group type of a message only depends on the message and its adjacent messages,
+ * so the types of the messages whose neighbours haven't changed are reused from the previous table.
+ */
+final class MessageGroupTypeTable {
+    private static final MessageGroupType[] GROUP_TYPES = MessageGroupType.values();
+    @NonNull
+    static final MessageGroupTypeTable EMPTY = new MessageGroupTypeTable(new byte[0]);
+
+    @NonNull
+    private final byte[] types;
+
+    private MessageGroupTypeTable(@NonNull byte[] types) {
+        this.types = types;
+    }
+
+    int size() {
+        return types.length;
+    }
+
+    @NonNull
+    MessageGroupType get(int position) {
+        return GROUP_TYPES[types[position]];
+    }
+
+    /**
+     * Calculates the group types of {@code newList}.
+     * The list is in the adapter order, so the previous message of the position {@code i} is at {@code i + 1}.
+     *
+     * @param oldTable The table calculated from {@code oldList}
+     * @param oldList The message list {@code oldTable} is calculated from
+     * @param newList The message list to calculate
+     * @param params The parameters used to decide the group type
+     * @return The table of {@code newList}
+     */
+    @NonNull
+    static MessageGroupTypeTable calculate(@Nullable MessageGroupTypeTable oldTable,
+                                           @NonNull List<BaseMessage> oldList,
+                                           @NonNull List<BaseMessage> newList,
+                                           @NonNull MessageListUIParams params) {
+        final int newSize = newList.size();
+        final byte[] types = new byte[newSize];
+        if (!params.shouldUseMessageGroupUI()) {
+            Arrays.fill(types, (byte) MessageGroupType.GROUPING_TYPE_SINGLE.ordinal());
+            return new MessageGroupTypeTable(types);
+        }
+
+        final int oldSize = oldList.size();
+        int prefix = 0;
+        int suffix = 0;
+        if (oldTable != null && oldTable.size() == oldSize) {
+            // the messages are not changed as long as they are the same instances.
+            final int maxCommon = Math.min(oldSize, newSize);
+            while (prefix < maxCommon && oldList.get(prefix) == newList.get(prefix)) {
+                prefix++;
+            }
+            while (suffix < maxCommon - prefix && oldList.get(oldSize - 1 - suffix) == newList.get(newSize - 1 - suffix)) {
+                suffix++;
+            }
+        }
+
+        for (int i = 0; i < newSize; i++) {
+            final int k = newSize - 1 - i;
+            if (i < prefix && (i + 1 < prefix || (i + 1 == newSize && i + 1 == oldSize))) {
+                // both neighbours are in the common prefix, or it's the end of both lists.
+                types[i] = oldTable.types[i];
+            } else if (k < suffix && (k + 1 < suffix || (i == 0 && oldSize - 1 - k == 0))) {
+                // both neighbours are in the common suffix, or it's the start of both lists.
+                types[i] = oldTable.types[oldSize - 1 - k];
+            } else {
+                final BaseMessage prev = i + 1 < newSize ? newList.get(i + 1) : null;
+                final BaseMessage next = i > 0 ? newList.get(i - 1) : null;
+                types[i] = (byte) MessageUtils.getMessageGroupType(prev, newList.get(i), next, params).ordinal();
+            }
+        }
+        return new MessageGroupTypeTable(types);
+    }
+}
@@ -1,5 +1,6 @@
 package com.sendbird.uikit.activities.adapter;
 
+import android.content.Context;
 import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
@@ -14,18 +15,36 @@ import com.sendbird.uikit.interfaces.OnItemClickListener;
 import com.sendbird.uikit.interfaces.OnMessageTemplateActionHandler;
 import com.sendbird.uikit.internal.contracts.SendbirdUIKitContract;
 import com.sendbird.uikit.internal.contracts.SendbirdUIKitImpl;
+import com.sendbird.uikit.internal.extensions.MessageTemplateExtensionsKt;
 import com.sendbird.uikit.internal.interfaces.OnFeedbackRatingClickListener;
+import com.sendbird.uikit.internal.model.templates.MessageTemplateStatus;
+import com.sendbird.uikit.internal.ui.messages.OtherTemplateMessageView;
 import com.sendbird.uikit.internal.ui.viewholders.FormMessageViewHolder;
 import com.sendbird.uikit.internal.ui.viewholders.OtherTemplateMessageViewHolder;
 import com.sendbird.uikit.internal.ui.viewholders.OtherUserMessageViewHolder;
 import com.sendbird.uikit.internal.utils.TemplateViewCachePool;
+import com.sendbird.uikit.internal.utils.TemplateViewPrewarmer;
 import com.sendbird.uikit.model.MessageListUIParams;
 
 /**
  * MessageListAdapter provides a binding from a {@link BaseMessage} type data set to views that are displayed within a RecyclerView.
  */
 public class MessageListAdapter extends BaseMessageListAdapter {
-    private final TemplateViewCachePool templateViewCachePool = new TemplateViewCachePool();
+    // the number of the messages on each side of the bound message whose template views are created ahead of time.
+    private static final int TEMPLATE_VIEW_PREWARM_DISTANCE = 3;
+    @Nullable
+    private TemplateViewCachePool templateViewCachePool;
+    @Nullable
+    private TemplateViewPrewarmer templateViewPrewarmer;
+    @Nullable
+    private Context templateViewContext;
+    @NonNull
+    private final OnMessageTemplateActionHandler templateActionHandler = (view, action, message) -> {
+        final OnMessageTemplateActionHandler finalListener = this.messageTemplateActionHandler;
+        if (finalListener != null) {
+            finalListener.onHandleAction(view, action, message);
+        }
+    };
     @Nullable
     protected OnItemClickListener<String> suggestedRepliesClickListener;
 
@@ -68,13 +87,13 @@ public class MessageListAdapter extends BaseMessageListAdapter {
         MessageViewHolder viewHolder = super.onCreateViewHolder(parent, viewType);
         if (viewHolder instanceof OtherTemplateMessageViewHolder) {
             OtherTemplateMessageViewHolder otherTemplateMessageViewHolder = (OtherTemplateMessageViewHolder) viewHolder;
+            if (templateViewCachePool == null) {
+                templateViewCachePool = TemplateViewCachePool.of(parent.getContext());
+                templateViewPrewarmer = new TemplateViewPrewarmer(templateViewCachePool);
+                templateViewContext = viewHolder.itemView.getContext();
+            }
             otherTemplateMessageViewHolder.setTemplateViewCachePool(templateViewCachePool);
-            otherTemplateMessageViewHolder.setOnMessageTemplateActionHandler((view, action, message) -> {
-                final OnMessageTemplateActionHandler finalListener = this.messageTemplateActionHandler;
-                if (finalListener != null) {
-                    finalListener.onHandleAction(view, action, message);
-                }
-            });
+            otherTemplateMessageViewHolder.setOnMessageTemplateActionHandler(templateActionHandler);
 
             otherTemplateMessageViewHolder.setOnFeedbackRatingClickListener((view, rating) -> {
                 final OnFeedbackRatingClickListener finalListener = this.feedbackRatingClickListener;
@@ -109,6 +128,36 @@ public class MessageListAdapter extends BaseMessageListAdapter {
         return viewHolder;
     }
 
+    @Override
+    public void onBindViewHolder(@NonNull MessageViewHolder holder, int position) {
+        super.onBindViewHolder(holder, position);
+        prewarmTemplateViews(position);
+    }
+
+    @Override
+    public void release() {
+        super.release();
+        if (templateViewPrewarmer != null) templateViewPrewarmer.cancel();
+    }
+
+    // creates the template views of the messages around the bound one while the main thread is idle.
+    private void prewarmTemplateViews(int position) {
+        final TemplateViewPrewarmer prewarmer = this.templateViewPrewarmer;
+        final Context context = this.templateViewContext;
+        if (prewarmer == null || context == null) return;
+
+        final int count = getItemCount();
+        for (int distance = 1; distance <= TEMPLATE_VIEW_PREWARM_DISTANCE; distance++) {
+            for (int target : new int[]{position + distance, position - distance}) {
+                if (target < 0 || target >= count) continue;
+                final BaseMessage message = getItem(target);
+                if (MessageTemplateExtensionsKt.getMessageTemplateStatus(message) != MessageTemplateStatus.CACHED) continue;
+                prewarmer.enqueue(OtherTemplateMessageView.createCacheKey(message),
+                    () -> OtherTemplateMessageView.createTemplateViewAhead(context, message, templateActionHandler));
+            }
+        }
+    }
+
     /**
      * Returns a callback to be invoked when the suggested replies is clicked.
      *
@@ -0,0 +1,85 @@
+package com.sendbird.uikit.activities.adapter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.sendbird.android.message.BaseMessage;
+
+import java.util.List;
+
+/**
+ * Describes a message list that differs from the previous one only by a contiguous range of messages,
+ * such as the messages loaded by the pagination or the new messages added to the head of the list.
+ * The other messages have to be the same instances in the same order, so it's found by comparing references without calculating the diff.
+ */
+final class MessageListInsertion {
+    // the messages which can be replaced together with the insertion. (e.g. the timeline message of the day the insertion is attached to, or the typing indicator)
+    private static final int MAX_REPLACED_COUNT = 2;
+
+    private final int start;
+    private final int removedCount;
+    private final int insertedCount;
+
+    private MessageListInsertion(int start, int removedCount, int insertedCount) {
+        this.start = start;
+        this.removedCount = removedCount;
+        this.insertedCount = insertedCount;
+    }
+
+    /**
+     * Finds the range of the messages inserted into {@code oldList}.
+     *
+     * @param oldList The message list that is currently displayed
+     * @param newList The message list to be displayed
+     * @return The insertion, or {@code null} if {@code newList} is not made by a single insertion into {@code oldList}
+     */
+    @Nullable
+    static MessageListInsertion find(@NonNull List<BaseMessage> oldList, @NonNull List<BaseMessage> newList) {
+        final int oldSize = oldList.size();
+        final int newSize = newList.size();
+        if (oldSize == 0 || newSize <= oldSize) return null;
+
+        int prefix = 0;
+        while (prefix < oldSize && oldList.get(prefix) == newList.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldSize - prefix && oldList.get(oldSize - 1 - suffix) == newList.get(newSize - 1 - suffix)) {
+            suffix++;
+        }
+
+        final int removedCount = oldSize - prefix - suffix;
+        if (removedCount > MAX_REPLACED_COUNT) return null;
+        return new MessageListInsertion(prefix, removedCount, newSize - prefix - suffix);
+    }
+
+    /**
+     * Dispatches the insertion to the adapter.
+     * The adjacent messages are rebound with {@link MessageDiffCallback#PAYLOAD_MESSAGE_GROUP_TYPE} if their group types have been changed.
+     *
+     * @param adapter The adapter to dispatch the updates to
+     * @param oldGroupTypes The group types of the old list
+     * @param newGroupTypes The group types of the new list
+     */
+    void dispatchUpdatesTo(@NonNull RecyclerView.Adapter<?> adapter,
+                           @NonNull MessageGroupTypeTable oldGroupTypes,
+                           @NonNull MessageGroupTypeTable newGroupTypes) {
+        final int before = start - 1;
+        final int oldAfter = start + removedCount;
+        final int newAfter = start + insertedCount;
+        final boolean hasBefore = before >= 0 && before < oldGroupTypes.size();
+        final boolean hasAfter = oldAfter < oldGroupTypes.size() && newAfter < newGroupTypes.size();
+
+        if (removedCount > 0) {
+            adapter.notifyItemRangeRemoved(start, removedCount);
+        }
+        adapter.notifyItemRangeInserted(start, insertedCount);
+        if (hasBefore && oldGroupTypes.get(before) != newGroupTypes.get(before)) {
+            adapter.notifyItemChanged(before, MessageDiffCallback.PAYLOAD_MESSAGE_GROUP_TYPE);
+        }
+        if (hasAfter && oldGroupTypes.get(oldAfter) != newGroupTypes.get(newAfter)) {
+            adapter.notifyItemChanged(newAfter, MessageDiffCallback.PAYLOAD_MESSAGE_GROUP_TYPE);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import com.sendbird.uikit.consts.ClickableViewIdentifier;
 import com.sendbird.uikit.interfaces.OnIdentifiableItemClickListener;
 import com.sendbird.uikit.interfaces.OnIdentifiableItemLongClickListener;
 import com.sendbird.uikit.interfaces.OnMessageListUpdateHandler;
+import com.sendbird.uikit.internal.tasks.ListDiffWorker;
 import com.sendbird.uikit.model.MessageListUIParams;
 import com.sendbird.uikit.model.MessageUIConfig;
 
@@ -34,8 +35,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * OpenChannelMessageListAdapter provides a binding from a {@link BaseMessage} set to views that are displayed
@@ -58,7 +57,7 @@ public class OpenChannelMessageListAdapter extends BaseMessageAdapter<BaseMessag
     private MessageUIConfig messageUIConfig;
 
     @NonNull
-    private final ExecutorService service = Executors.newSingleThreadExecutor();
+    private final ListDiffWorker<OnMessageListUpdateHandler> service = new ListDiffWorker<>();
 
     /**
      * Constructor
@@ -245,7 +244,7 @@ public class OpenChannelMessageListAdapter extends BaseMessageAdapter<BaseMessag
     public void setItems(@NonNull final OpenChannel channel, @NonNull final List<BaseMessage> messageList, @Nullable OnMessageListUpdateHandler callback) {
         final OpenChannel copiedChannel = OpenChannel.clone(channel);
         final List<BaseMessage> copiedMessage = Collections.unmodifiableList(messageList);
-        service.submit(() -> {
+        service.submit(callback, skippedCallbacks -> {
             final CountDownLatch lock = new CountDownLatch(1);
             final OpenChannelMessageDiffCallback diffCallback = new OpenChannelMessageDiffCallback(
                 OpenChannelMessageListAdapter.this.channel,
@@ -262,6 +261,9 @@ public class OpenChannelMessageListAdapter extends BaseMessageAdapter<BaseMessag
                     OpenChannelMessageListAdapter.this.messageList = copiedMessage;
                     OpenChannelMessageListAdapter.this.channel = copiedChannel;
                     diffResult.dispatchUpdatesTo(OpenChannelMessageListAdapter.this);
+                    for (OnMessageListUpdateHandler skippedCallback : skippedCallbacks) {
+                        skippedCallback.onListUpdated(messageList);
+                    }
                     if (callback != null) {
                         callback.onListUpdated(messageList);
                     }
@@ -269,11 +271,25 @@ public class OpenChannelMessageListAdapter extends BaseMessageAdapter<BaseMessag
                     lock.countDown();
                 }
             });
-            lock.await();
-            return true;
+            try {
+                lock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         });
     }
 
+    /**
+     * Cancels the lists which are set by {@link #setItems(OpenChannel, List, OnMessageListUpdateHandler)} but not applied yet,
+     * and releases the thread used to calculate the differences of the lists.
+     * It's called when the screen that owns this adapter is destroyed.
+     *
+     * since 3.27.0
+     */
+    public void release() {
+        service.release();
+    }
+
     /**
      * Animates the view holder with the corresponding position.
      *
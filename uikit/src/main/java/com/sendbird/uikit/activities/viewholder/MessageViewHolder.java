@@ -29,6 +29,11 @@ public abstract class MessageViewHolder extends RecyclerView.ViewHolder {
     private boolean isNewDate = false;
     private boolean isMine = false;
     private boolean isShowProfile = false;
+    @Nullable
+    private MessageGroupType precomputedMessageGroupType;
+    // MessageListUIParams for each MessageGroupType, built once per view holder.
+    @NonNull
+    private final MessageListUIParams[] paramsByGroupType = new MessageListUIParams[MessageGroupType.values().length];
 
     /**
      * Constructor
@@ -57,18 +62,66 @@ public abstract class MessageViewHolder extends RecyclerView.ViewHolder {
         this.isMine = MessageUtils.isMine(message);
         this.isShowProfile = !isMine;
 
-        final MessageGroupType messageGroupType = MessageUtils.getMessageGroupType(prevMessage, message, nextMessage, messageListUIParams);
-        final MessageListUIParams params = new MessageListUIParams.Builder(messageListUIParams)
-            .setMessageGroupType(messageGroupType)
-            .build();
+        final MessageListUIParams params = getParams(prevMessage, message, nextMessage);
         bind(channel, message, params);
 
         // for backward compatibility.
         // This function was deprecated, but it was called again for the backword compatibility.
-        bind(channel, message, messageGroupType);
+        bind(channel, message, params.getMessageGroupType());
+        itemView.requestLayout();
+    }
+
+    /**
+     * Called when only the message group type of the message may have been changed, e.g. when a message is added next to it.
+     * If the date separator of the message has been changed as well, the whole item is bound with
+     * {@link #onBindViewHolder(BaseChannel, BaseMessage, BaseMessage, BaseMessage)} instead.
+     *
+     * @param channel Channel used for as item view.
+     * @param prevMessage The previous message of the message.
+     * @param message Message used for as item view.
+     * @param nextMessage The next message of the message.
+     * since 3.27.0
+     */
+    public void onBindMessageGroupType(@NonNull BaseChannel channel,
+                                       @Nullable BaseMessage prevMessage,
+                                       @NonNull BaseMessage message,
+                                       @Nullable BaseMessage nextMessage) {
+        final boolean isNewDate = prevMessage == null || !DateUtils.hasSameDate(message.getCreatedAt(), prevMessage.getCreatedAt());
+        if (isNewDate != this.isNewDate) {
+            onBindViewHolder(channel, prevMessage, message, nextMessage);
+            return;
+        }
+        bindMessageGroupType(channel, message, getParams(prevMessage, message, nextMessage));
         itemView.requestLayout();
     }
 
+    @NonNull
+    private MessageListUIParams getParams(@Nullable BaseMessage prevMessage, @NonNull BaseMessage message, @Nullable BaseMessage nextMessage) {
+        final MessageGroupType precomputed = precomputedMessageGroupType;
+        precomputedMessageGroupType = null;
+        final MessageGroupType messageGroupType = precomputed != null ? precomputed : MessageUtils.getMessageGroupType(prevMessage, message, nextMessage, messageListUIParams);
+        MessageListUIParams params = paramsByGroupType[messageGroupType.ordinal()];
+        if (params == null) {
+            params = new MessageListUIParams.Builder(messageListUIParams)
+                .setMessageGroupType(messageGroupType)
+                .build();
+            paramsByGroupType[messageGroupType.ordinal()] = params;
+        }
+        return params;
+    }
+
+    /**
+     * Sets the message group type calculated in advance by the adapter.
+     * It's only used for the next {@link #onBindViewHolder(BaseChannel, BaseMessage, BaseMessage, BaseMessage)} call.
+     * If it's not set, the message group type is calculated from the adjacent messages when the view holder is bound.
+     *
+     * @param messageGroupType The type of message group UI of the message to be bound next
+     * since 3.27.0
+     */
+    public void setPrecomputedMessageGroupType(@Nullable MessageGroupType messageGroupType) {
+        this.precomputedMessageGroupType = messageGroupType;
+    }
+
     /**
      * Sets the configurations of the message's properties to highlight text.
      *
@@ -133,6 +186,20 @@ public abstract class MessageViewHolder extends RecyclerView.ViewHolder {
      */
     public void bind(@NonNull BaseChannel channel, @NonNull BaseMessage message, @NonNull MessageListUIParams params) {}
 
+    /**
+     * Draws the parts of the item view which depend on the message group type, such as the profile and the sent time.
+     * By default, the whole item view is bound again.
+     *
+     * @param channel Channel used for as item view.
+     * @param message Message used for as item view.
+     * @param params  Params used for as item view. It has the new message group type.
+     * since 3.27.0
+     */
+    public void bindMessageGroupType(@NonNull BaseChannel channel, @NonNull BaseMessage message, @NonNull MessageListUIParams params) {
+        bind(channel, message, params);
+        bind(channel, message, params.getMessageGroupType());
+    }
+
     /**
      * Returns a Map containing views to register a click event with an identifier.
      *
@@ -0,0 +1,54 @@
+package com.sendbird.uikit.consts
+
+/**
+ * Represents the stages of [com.sendbird.uikit.SendbirdUIKit.init].
+ * The stages except for [CORE] run on a background thread in the order of the declaration when the init is deferred,
+ * and each of them is waited for when the subsystem it prepares is used first.
+ *
+ * @see com.sendbird.uikit.SendbirdUIKit.setUseDeferredInit
+ * @see com.sendbird.uikit.SendbirdUIKit.getInitStageDurations
+ * @since 3.27.0
+ */
+enum class InitStage {
+    /**
+     * Initializes the Sendbird Chat SDK and registers the receivers. It always runs on the thread which calls the init.
+     *
+     * @since 3.27.0
+     */
+    CORE,
+
+    /**
+     * Opens the preferences of UIKit.
+     *
+     * @since 3.27.0
+     */
+    PREFERENCES,
+
+    /**
+     * Loads the cached message templates.
+     *
+     * @since 3.27.0
+     */
+    MESSAGE_TEMPLATE,
+
+    /**
+     * Loads the cached notification templates and the settings of the notification channels.
+     *
+     * @since 3.27.0
+     */
+    NOTIFICATION,
+
+    /**
+     * Loads the cached emojis.
+     *
+     * @since 3.27.0
+     */
+    EMOJI,
+
+    /**
+     * Removes the temporary files the previous process left.
+     *
+     * @since 3.27.0
+     */
+    TEMPORARY_FILES
+}
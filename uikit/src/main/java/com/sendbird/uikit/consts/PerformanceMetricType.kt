@@ -0,0 +1,78 @@
+package com.sendbird.uikit.consts
+
+/**
+ * Represents what a [com.sendbird.uikit.model.PerformanceHistogram] measures.
+ * The durations are measured in microseconds.
+ *
+ * @since 3.27.0
+ */
+enum class PerformanceMetricType {
+    /**
+     * The duration of creating a view holder of the message list. The label is the view type of the view holder.
+     *
+     * @since 3.27.0
+     */
+    CREATE_VIEW_HOLDER,
+
+    /**
+     * The duration of binding a message to a view holder of the message list. The label is the view type of the view holder.
+     *
+     * @since 3.27.0
+     */
+    BIND_VIEW_HOLDER,
+
+    /**
+     * The duration of calculating the changes of the message list in the background before they're dispatched.
+     * The label is the action or the event that changed the list, or empty if it's unknown.
+     *
+     * @since 3.27.0
+     */
+    DIFF,
+
+    /**
+     * The number of the messages the message list has after it's changed. The label is the same as [DIFF].
+     *
+     * @since 3.27.0
+     */
+    LIST_SIZE,
+
+    /**
+     * The duration of fetching the message templates which are not cached from the server.
+     *
+     * @since 3.27.0
+     */
+    TEMPLATE_FETCH,
+
+    /**
+     * The duration of preparing the template messages to be drawn, such as parsing the layouts of the templates.
+     *
+     * @since 3.27.0
+     */
+    TEMPLATE_PREPARE,
+
+    /**
+     * The duration of loading the index of the templates stored on the disk when UIKit is initialized.
+     * The label is the name of the repository of the message templates or the notification templates.
+     * It's measured only if the performance metrics are enabled before [com.sendbird.uikit.SendbirdUIKit.init] is called.
+     *
+     * @since 3.27.0
+     */
+    TEMPLATE_WARM_UP,
+
+    /**
+     * The counters of the template views cached for a screen, recorded once when the screen is destroyed.
+     * The label is `hit` or `miss` for the number of the template views taken from the cache or created,
+     * `eviction` for the number of the cached views dropped, and `idle` for the number of the views cached when the screen is destroyed.
+     *
+     * @since 3.27.0
+     */
+    TEMPLATE_VIEW_CACHE,
+
+    /**
+     * The number of the frames dropped while each frame of a screen was drawn, or 0 if it was drawn in time.
+     * The label is the name of the fragment. It's measured from Android 7.0 (API level 24).
+     *
+     * @since 3.27.0
+     */
+    DROPPED_FRAMES
+}
@@ -0,0 +1,45 @@
+package com.sendbird.uikit.consts
+
+/**
+ * Represents the resources UIKit synchronizes with the server after it's connected.
+ * They're synchronized in the order of the declaration when the connection is non-blocking.
+ *
+ * @see com.sendbird.uikit.SendbirdUIKit.setUseNonBlockingConnect
+ * @since 3.27.0
+ */
+enum class SyncResource {
+    /**
+     * The configurations of UIKit set on the dashboard.
+     *
+     * @since 3.27.0
+     */
+    UIKIT_CONFIGURATION,
+
+    /**
+     * The message templates used by the template messages.
+     *
+     * @since 3.27.0
+     */
+    MESSAGE_TEMPLATE,
+
+    /**
+     * The notification templates and the settings of the notification channels.
+     *
+     * @since 3.27.0
+     */
+    NOTIFICATION,
+
+    /**
+     * The emojis used by the reactions.
+     *
+     * @since 3.27.0
+     */
+    EMOJI,
+
+    /**
+     * The nickname and the profile image of the current user given by [com.sendbird.uikit.interfaces.UserInfo].
+     *
+     * @since 3.27.0
+     */
+    USER_INFO
+}
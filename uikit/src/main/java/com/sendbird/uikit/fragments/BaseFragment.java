@@ -1,9 +1,15 @@
 package com.sendbird.uikit.fragments;
 
+import android.view.Window;
+
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentActivity;
 
 import com.sendbird.uikit.interfaces.DialogProvider;
+import com.sendbird.uikit.internal.singleton.PerformanceMonitor;
+import com.sendbird.uikit.internal.utils.FrameDropTracker;
 import com.sendbird.uikit.internal.ui.widgets.WaitingDialog;
 import com.sendbird.uikit.utils.ContextUtils;
 
@@ -11,6 +17,29 @@ import com.sendbird.uikit.utils.ContextUtils;
  * Fragment that is the basis of fragments provided by UIKit.
  */
 public abstract class BaseFragment extends Fragment implements DialogProvider {
+    // the window the frames of this fragment are recorded on while it's resumed.
+    @Nullable
+    private Window trackedWindow;
+
+    @Override
+    public void onResume() {
+        super.onResume();
+        final FragmentActivity activity = getActivity();
+        if (PerformanceMonitor.isEnabled() && activity != null) {
+            trackedWindow = activity.getWindow();
+            FrameDropTracker.start(trackedWindow, this, getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public void onPause() {
+        super.onPause();
+        if (trackedWindow != null) {
+            FrameDropTracker.stop(trackedWindow, this);
+            trackedWindow = null;
+        }
+    }
+
     /**
      * Shows a waiting Dialog.
      */
@@ -187,6 +187,10 @@ abstract public class BaseMessageListFragment<
         Logger.i(">> BaseMessageListFragment::onDestroy()");
         super.onDestroy();
         SendbirdChat.setAutoBackgroundDetection(true);
+        final LA adapter = getModule().getMessageListComponent().getAdapter();
+        if (adapter != null) {
+            adapter.release();
+        }
     }
 
     @Override
@@ -451,8 +455,7 @@ abstract public class BaseMessageListFragment<
             return;
         }
 
-        MessageExtensionsKt.setEmojiCategories(message, adapter.getEmojiCategories(message));
-        final List<Emoji> emojiList = MessageExtensionsKt.allowedEmojiList(message);
+        final List<Emoji> emojiList = MessageExtensionsKt.allowedEmojiList(adapter.getEmojiCategories(message));
         int shownEmojiSize = emojiList.size();
         if (emojiList.size() > 6) {
             showMoreButton = true;
@@ -563,8 +566,7 @@ abstract public class BaseMessageListFragment<
             return;
         }
 
-        MessageExtensionsKt.setEmojiCategories(message, adapter.getEmojiCategories(message));
-        final List<Emoji> emojiList = MessageExtensionsKt.allowedEmojiList(message);
+        final List<Emoji> emojiList = MessageExtensionsKt.allowedEmojiList(adapter.getEmojiCategories(message));
         final Context contextThemeWrapper = ContextUtils.extractModuleThemeContext(getContext(), getModule().getParams().getTheme(), R.attr.sb_component_list);
         final EmojiListView emojiListView = EmojiListView.create(contextThemeWrapper, emojiList, message.getReactions(), false);
         hideKeyboard();
@@ -794,7 +796,19 @@ abstract public class BaseMessageListFragment<
             FileInfo.fromUris(getContext(), uris, SendbirdUIKit.shouldUseImageCompression(), new OnResultHandler<List<FileInfo>>() {
                 @Override
                 public void onResult(@NonNull List<FileInfo> result) {
-                    sendMultipleMediaFileInfo(result);
+                    if (!isFragmentAlive()) return;
+                    // the files are checked and sent together, so the upload size limit is checked once for all of them.
+                    final List<FileInfo> fileInfos = new ArrayList<>();
+                    boolean hasFailedFile = false;
+                    for (FileInfo fileInfo : result) {
+                        if (fileInfo == null || fileInfo.getMimeType() == null) {
+                            hasFailedFile = true;
+                            continue;
+                        }
+                        fileInfos.add(fileInfo);
+                    }
+                    if (!fileInfos.isEmpty()) sendMultipleMediaFileInfo(fileInfos);
+                    if (hasFailedFile) onError(null);
                 }
 
                 @Override
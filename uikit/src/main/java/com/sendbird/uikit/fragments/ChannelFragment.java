@@ -60,6 +60,7 @@ import com.sendbird.uikit.interfaces.OnItemClickListener;
 import com.sendbird.uikit.interfaces.OnItemLongClickListener;
 import com.sendbird.uikit.interfaces.OnMessageTemplateActionHandler;
 import com.sendbird.uikit.internal.extensions.MessageExtensionsKt;
+import com.sendbird.uikit.internal.model.TracedList;
 import com.sendbird.uikit.internal.model.VoicePlayerManager;
 import com.sendbird.uikit.log.Logger;
 import com.sendbird.uikit.model.Action;
@@ -336,7 +337,7 @@ public class ChannelFragment extends BaseMessageListFragment<MessageListAdapter,
 
             final String eventSource = receivedMessageData.getTraceName();
             // The callback coming from setItems is worked asynchronously. So `isInitCallFinished` flag has to mark in advance.
-            messageListComponent.notifyDataSetChanged(messageList, channel, messages -> {
+            messageListComponent.notifyDataSetChanged(new TracedList<>(eventSource, messageList), channel, messages -> {
                 if (!isFragmentAlive()) return;
 
                 if (eventSource != null) {
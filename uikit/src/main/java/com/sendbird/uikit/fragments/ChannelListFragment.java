@@ -86,6 +86,15 @@ public class ChannelListFragment extends BaseModuleFragment<ChannelListModule, C
         getModule().getStatusComponent().notifyStatusChanged(StatusFrameView.Status.LOADING);
     }
 
+    @Override
+    public void onDestroy() {
+        super.onDestroy();
+        final ChannelListAdapter adapter = getModule().getChannelListComponent().getAdapter();
+        if (adapter != null) {
+            adapter.release();
+        }
+    }
+
     @Override
     protected void onBeforeReady(@NonNull ReadyStatus status, @NonNull ChannelListModule module, @NonNull ChannelListViewModel viewModel) {
         Logger.d(">> ChannelListFragment::initModule()");
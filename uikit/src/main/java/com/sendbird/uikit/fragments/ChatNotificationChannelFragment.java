@@ -73,6 +73,7 @@ public class ChatNotificationChannelFragment extends BaseModuleFragment<ChatNoti
     public void onDestroy() {
         super.onDestroy();
         shouldDismissLoadingDialog();
+        getModule().getNotificationListComponent().release();
     }
 
     @Override
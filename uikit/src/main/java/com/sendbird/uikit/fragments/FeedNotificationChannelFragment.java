@@ -76,6 +76,7 @@ public class FeedNotificationChannelFragment extends BaseModuleFragment<FeedNoti
     public void onDestroy() {
         super.onDestroy();
         shouldDismissLoadingDialog();
+        getModule().getNotificationListComponent().release();
     }
 
     @Override
@@ -43,6 +43,7 @@ import com.sendbird.uikit.interfaces.OnInputModeChangedListener;
 import com.sendbird.uikit.interfaces.OnInputTextChangedListener;
 import com.sendbird.uikit.interfaces.OnItemClickListener;
 import com.sendbird.uikit.interfaces.OnItemLongClickListener;
+import com.sendbird.uikit.internal.model.TracedList;
 import com.sendbird.uikit.internal.model.VoicePlayerManager;
 import com.sendbird.uikit.log.Logger;
 import com.sendbird.uikit.model.DialogListItem;
@@ -236,7 +237,7 @@ public class MessageThreadFragment extends BaseMessageListFragment<ThreadListAda
             if (messageList.isEmpty()) return;
             final String eventSource = receivedMessageData.getTraceName();
             // The callback coming from setItems is worked asynchronously. So `isInitCallFinished` flag has to mark in advance.
-            messageListComponent.notifyDataSetChanged(messageList, channel, messages -> {
+            messageListComponent.notifyDataSetChanged(new TracedList<>(eventSource, messageList), channel, messages -> {
                 if (!isFragmentAlive()) return;
 
                 if (eventSource != null) {
@@ -209,6 +209,10 @@ public class OpenChannelFragment extends BaseModuleFragment<OpenChannelModule, O
         Logger.i(">> OpenChannelFragment::onDestroy()");
         super.onDestroy();
         SendbirdChat.setAutoBackgroundDetection(true);
+        final OpenChannelMessageListAdapter adapter = getModule().getMessageListComponent().getAdapter();
+        if (adapter != null) {
+            adapter.release();
+        }
 
         if (!isInitCallFinished.get()) {
             shouldDismissLoadingDialog();
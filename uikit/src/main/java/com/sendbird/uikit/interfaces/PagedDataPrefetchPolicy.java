@@ -0,0 +1,21 @@
+package com.sendbird.uikit.interfaces;
+
+/**
+ * Decides when the list loads the next page of the {@link OnPagedDataLoader} while it's scrolled.
+ * It's called on the main thread whenever the list is scrolled, so it has to return immediately.
+ * While the list keeps scrolling toward the end after a page is loaded, it's asked again, so more pages can be loaded in a row on fast flings.
+ *
+ * since 3.27.0
+ */
+public interface PagedDataPrefetchPolicy {
+    /**
+     * Determines whether the page at the end the list is scrolled toward has to be loaded now.
+     *
+     * @param remainingItemCount    The number of the items between the visible items and the end of the list
+     * @param itemsPerSecond        The speed the list is scrolled toward the end, in the number of items per second. It's 0 if the list is not scrolled toward the end.
+     * @param averageLoadTimeMillis The average time it took to load a page of the list, in milliseconds
+     * @return {@code true} if the page has to be loaded, {@code false} otherwise
+     * since 3.27.0
+     */
+    boolean shouldLoad(int remainingItemCount, float itemsPerSecond, long averageLoadTimeMillis);
+}
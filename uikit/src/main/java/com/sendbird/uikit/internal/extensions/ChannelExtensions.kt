@@ -1,5 +1,6 @@
 package com.sendbird.uikit.internal.extensions
 
+import com.sendbird.android.channel.FeedChannel
 import com.sendbird.android.channel.GroupChannel
 import com.sendbird.android.message.BaseMessage
 import com.sendbird.uikit.internal.ui.messages.MESSAGE_FORM_VERSION
@@ -42,3 +43,6 @@ internal fun GroupChannel.clearDisabledChatInputMessages() {
 
 internal val GroupChannel.containsBot: Boolean
     get() = this.hasBot || this.hasAiBot
+
+internal val FeedChannel.hasCategoryFilter: Boolean
+    get() = this.isCategoryFilterEnabled && this.notificationCategories.isNotEmpty()
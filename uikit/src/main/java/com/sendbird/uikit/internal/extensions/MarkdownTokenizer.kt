@@ -0,0 +1,234 @@
+package com.sendbird.uikit.internal.extensions
+
+// This file doesn't depend on the Android framework, so it's also compiled by the benchmark module.
+
+internal enum class MarkdownType {
+    BOLD, LINK
+}
+
+/**
+ * A markdown element found by [MarkdownTokenizer].
+ * [start] and [end] are the positions in [MarkdownTokens.text], which doesn't have the markdown syntax.
+ *
+ * @property url The url of the [MarkdownType.LINK]
+ */
+internal class MarkdownToken(
+    val type: MarkdownType,
+    val start: Int,
+    val end: Int,
+    val url: String? = null
+)
+
+/**
+ * The result of [MarkdownTokenizer.tokenize].
+ *
+ * @property text The source text without the markdown syntax
+ * @property tokens The markdown elements in the [text]
+ */
+internal class MarkdownTokens(
+    val text: String,
+    val tokens: List<MarkdownToken>,
+    private val removedStarts: IntArray,
+    private val removedEnds: IntArray,
+    private val removedCount: Int
+) {
+    // the number of the characters removed before each removed range.
+    private val removedBefore = IntArray(removedCount).also {
+        var sum = 0
+        for (i in 0 until removedCount) {
+            it[i] = sum
+            sum += removedEnds[i] - removedStarts[i]
+        }
+    }
+
+    val hasRemovedSyntax: Boolean
+        get() = removedCount > 0
+
+    /**
+     * Maps a position of the source text to the position of the [text].
+     * A position inside the removed syntax is mapped to the position the syntax was at.
+     */
+    fun mapPosition(sourcePosition: Int): Int {
+        // finds the number of the removed ranges starting before the position.
+        var low = 0
+        var high = removedCount
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (removedStarts[mid] < sourcePosition) low = mid + 1 else high = mid
+        }
+        if (low == 0) return sourcePosition
+        val last = low - 1
+        return if (sourcePosition < removedEnds[last]) {
+            removedStarts[last] - removedBefore[last]
+        } else {
+            sourcePosition - removedBefore[last] - (removedEnds[last] - removedStarts[last])
+        }
+    }
+}
+
+/**
+ * Finds the markdown elements and removes their syntax in a single pass over the text.
+ *
+ * Every element has to start and end in the same line, and the elements can be nested but can't overlap.
+ * If an element would end outside of the element it starts in, its syntax is kept as it is.
+ * The closing syntax of an element is searched only once from each position of a line,
+ * so the time it takes is linear to the length of the text.
+ *
+ * The inline elements wrapping their content with the same delimiters are defined in [inlineRules],
+ * so a new element like italics or code can be supported by adding a rule and handling its [MarkdownType].
+ */
+internal object MarkdownTokenizer {
+    private class InlineRule(val type: MarkdownType, val delimiter: String)
+
+    // the longer delimiter has to come first if a delimiter is the prefix of another.
+    private val inlineRules = listOf(
+        InlineRule(MarkdownType.BOLD, "**"),
+        InlineRule(MarkdownType.BOLD, "__"),
+    )
+
+    private const val LINK_OPEN = '['
+    private const val LINK_TEXT_CLOSE = "]("
+    private const val LINK_CLOSE = ")"
+
+    fun tokenize(source: CharSequence, types: Collection<MarkdownType>): MarkdownTokens {
+        return Scanner(source, types).scan()
+    }
+
+    private class OpenElement(
+        val type: MarkdownType,
+        val textStart: Int,
+        // where the closing syntax starts and ends in the source.
+        val closeStart: Int,
+        val closeEnd: Int,
+        val url: String? = null
+    )
+
+    private class Scanner(private val source: CharSequence, types: Collection<MarkdownType>) {
+        private val rules = inlineRules.filter { it.type in types }
+        private val ruleFinders = rules.map { Finder(source, it.delimiter) }
+        private val linkEnabled = MarkdownType.LINK in types
+        private val linkTextCloseFinder = Finder(source, LINK_TEXT_CLOSE)
+        private val linkCloseFinder = Finder(source, LINK_CLOSE)
+
+        private val text = StringBuilder(source.length)
+        private val tokens = mutableListOf<MarkdownToken>()
+        private val openElements = ArrayList<OpenElement>()
+        private var removedStarts = IntArray(INITIAL_CAPACITY)
+        private var removedEnds = IntArray(INITIAL_CAPACITY)
+        private var removedCount = 0
+        private var lineEnd = -1
+
+        fun scan(): MarkdownTokens {
+            var index = 0
+            while (index < source.length) {
+                val innermost = openElements.lastOrNull()
+                if (innermost != null && index == innermost.closeStart) {
+                    openElements.removeAt(openElements.size - 1)
+                    if (innermost.textStart < text.length) {
+                        tokens.add(MarkdownToken(innermost.type, innermost.textStart, text.length, innermost.url))
+                    }
+                    remove(index, innermost.closeEnd)
+                    index = innermost.closeEnd
+                    continue
+                }
+
+                val limit = innermost?.closeStart ?: lineEndOf(index)
+                val openSyntaxLength = open(index, limit)
+                if (openSyntaxLength > 0) {
+                    remove(index, index + openSyntaxLength)
+                    index += openSyntaxLength
+                    continue
+                }
+                text.append(source[index])
+                index++
+            }
+            return MarkdownTokens(text.toString(), tokens, removedStarts, removedEnds, removedCount)
+        }
+
+        /**
+         * Opens the element starting at the [index] if it ends before the [limit].
+         *
+         * @return The length of the opening syntax, or 0 if no element is opened
+         */
+        private fun open(index: Int, limit: Int): Int {
+            for (i in rules.indices) {
+                val delimiter = rules[i].delimiter
+                if (!source.startsWith(delimiter, index)) continue
+                val closeStart = ruleFinders[i].find(index + delimiter.length, lineEndOf(index))
+                if (closeStart < 0 || closeStart + delimiter.length > limit) continue
+                openElements.add(OpenElement(rules[i].type, text.length, closeStart, closeStart + delimiter.length))
+                return delimiter.length
+            }
+
+            if (linkEnabled && source[index] == LINK_OPEN) {
+                val lineEnd = lineEndOf(index)
+                val textEnd = linkTextCloseFinder.find(index + 1, lineEnd)
+                if (textEnd < 0) return 0
+                val urlEnd = linkCloseFinder.find(textEnd + LINK_TEXT_CLOSE.length, lineEnd)
+                if (urlEnd < 0 || urlEnd + LINK_CLOSE.length > limit) return 0
+                val url = source.subSequence(textEnd + LINK_TEXT_CLOSE.length, urlEnd).toString()
+                openElements.add(OpenElement(MarkdownType.LINK, text.length, textEnd, urlEnd + LINK_CLOSE.length, url))
+                return 1
+            }
+            return 0
+        }
+
+        private fun remove(start: Int, end: Int) {
+            if (removedCount == removedStarts.size) {
+                removedStarts = removedStarts.copyOf(removedCount * 2)
+                removedEnds = removedEnds.copyOf(removedCount * 2)
+            }
+            removedStarts[removedCount] = start
+            removedEnds[removedCount] = end
+            removedCount++
+        }
+
+        private fun lineEndOf(index: Int): Int {
+            if (index <= lineEnd) return lineEnd
+            var end = index
+            while (end < source.length && !isLineTerminator(source[end])) end++
+            lineEnd = end
+            return end
+        }
+
+        // the same characters as the line terminators of java.util.regex.Pattern, which the previous regular expressions stopped at.
+        private fun isLineTerminator(c: Char): Boolean {
+            return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029'
+        }
+    }
+
+    /**
+     * Finds the first [pattern] in a line. The last result is reused while it's still valid,
+     * so searching from the increasing positions of a line reads each character once.
+     */
+    private class Finder(private val source: CharSequence, private val pattern: String) {
+        private var lastFrom = -1
+        private var lastLimit = -1
+        private var lastResult = -1
+
+        /**
+         * @return The position of the [pattern] in `[from, limit)`, or -1 if there's none
+         */
+        fun find(from: Int, limit: Int): Int {
+            if (lastFrom in 0..from && limit == lastLimit) {
+                if (lastResult < 0) return -1
+                if (from <= lastResult) return lastResult
+            }
+            var result = -1
+            var index = from
+            while (index + pattern.length <= limit) {
+                if (source.startsWith(pattern, index)) {
+                    result = index
+                    break
+                }
+                index++
+            }
+            lastFrom = from
+            lastLimit = limit
+            lastResult = result
+            return result
+        }
+    }
+
+    private const val INITIAL_CAPACITY = 16
+}
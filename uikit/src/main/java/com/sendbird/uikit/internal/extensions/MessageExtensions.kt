@@ -6,8 +6,8 @@ import com.sendbird.android.message.*
 import com.sendbird.uikit.R
 import com.sendbird.uikit.activities.adapter.MessageFormViewType
 import com.sendbird.uikit.consts.StringSet
+import com.sendbird.uikit.internal.model.EmojiCategoryTable
 import com.sendbird.uikit.internal.singleton.MessageDisplayDataManager
-import com.sendbird.uikit.log.Logger
 import com.sendbird.uikit.model.EmojiManager
 import com.sendbird.uikit.model.MessageList
 import com.sendbird.uikit.model.UserMessageDisplayData
@@ -107,35 +107,18 @@ internal fun MessageFormItem.MessageFormLayout.convertToViewType(): Int {
     }
 }
 
-private val emojiCategoriesMap: MutableMap<Long, List<Long>> = mutableMapOf()
-internal var BaseMessage.emojiCategories: List<Long>?
-    get() = emojiCategoriesMap[this.messageId]
-    set(value) {
-        if (value == null) {
-            emojiCategoriesMap.remove(this.messageId)
-        } else {
-            emojiCategoriesMap[this.messageId] = value
-        }
-    }
-
-internal fun allowedEmojiList(message: BaseMessage): List<Emoji> {
-    val categories = message.emojiCategories
-    Logger.d("emoji categories for message: $categories")
-    return if (categories == null) {
-        EmojiManager.allEmojis
+internal fun allowedEmojiList(emojiCategories: List<Long>?): List<Emoji> {
+    return if (emojiCategories == null) {
+        EmojiManager.allEmojiList
     } else {
-        EmojiManager.getEmojis(categories) ?: emptyList()
+        EmojiManager.getEmojis(emojiCategories)
     }
 }
 
-internal fun updateMessageEmojiCategories(messageList: List<BaseMessage>, emojiCategories: (BaseMessage) -> List<Long>?) {
-    messageList.forEach { message ->
-        if (message.reactions.isEmpty()) {
-            // If there is no reaction, total emoji category allowed is not needed
-            message.emojiCategories = null
-            return@forEach
-        }
-        message.emojiCategories = emojiCategories(message)
+internal fun createEmojiCategoryTable(messageList: List<BaseMessage>, emojiCategories: (BaseMessage) -> List<Long>?): EmojiCategoryTable {
+    return EmojiCategoryTable.create(messageList) { message ->
+        // If there is no reaction, total emoji category allowed is not needed
+        if (message.reactions.isEmpty()) null else emojiCategories(message)
     }
 }
 
@@ -163,7 +146,7 @@ internal val BaseMessage.disableChatInput: Boolean
     get() = extendedMessagePayload[StringSet.disable_chat_input] == true.toString()
 
 internal fun MessageList.activeDisableInputMessageList(order: MessageList.Order): List<BaseMessage> {
-    val copied = if (order == MessageList.Order.DESC) this.toList() else this.toList().asReversed()
+    val copied = if (order == MessageList.Order.DESC) this.snapshot() else this.snapshot().asReversed()
     return copied.takeWhile { it.disableChatInput }
 }
 
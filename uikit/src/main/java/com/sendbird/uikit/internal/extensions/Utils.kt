@@ -1,10 +1,12 @@
 package com.sendbird.uikit.internal.extensions
 
 import android.content.Context
+import android.content.ContextWrapper
 import android.os.Handler
 import android.os.Looper
 import android.util.TypedValue
 import androidx.appcompat.view.ContextThemeWrapper
+import androidx.lifecycle.LifecycleOwner
 import com.sendbird.uikit.R
 
 private val uiThreadHandler by lazy { Handler(Looper.getMainLooper()) }
@@ -26,3 +28,13 @@ internal fun Context.toContextThemeWrapper(defStyle: Int): Context {
     this.theme.resolveAttribute(defStyle, values, true)
     return ContextThemeWrapper(this, values.resourceId)
 }
+
+// Returns the Activity the context belongs to.
+internal fun Context.findLifecycleOwner(): LifecycleOwner? {
+    var context: Context? = this
+    while (context is ContextWrapper) {
+        if (context is LifecycleOwner) return context
+        context = context.baseContext
+    }
+    return null
+}
@@ -0,0 +1,65 @@
+package com.sendbird.uikit.internal.model
+
+import com.sendbird.android.message.BaseMessage
+
+/**
+ * The emoji categories allowed for the messages of a message list, keyed by the message id.
+ *
+ * The ids are kept in an open-addressing table of primitive longs, so a lookup while binding doesn't box the id.
+ * The table is immutable and holds only the messages of the list it's built from, so the adapter replaces it
+ * whenever the list changes and it's gone with the adapter.
+ */
+internal class EmojiCategoryTable private constructor(
+    private val keys: LongArray,
+    // null means the slot is empty.
+    private val values: Array<List<Long>?>
+) {
+    val size: Int = values.count { it != null }
+
+    /**
+     * Returns the emoji categories of the message with the [messageId], or null if all the categories are allowed.
+     */
+    operator fun get(messageId: Long): List<Long>? {
+        if (size == 0) return null
+        val mask = keys.size - 1
+        var index = indexOf(messageId, mask)
+        while (true) {
+            val value = values[index] ?: return null
+            if (keys[index] == messageId) return value
+            index = (index + 1) and mask
+        }
+    }
+
+    companion object {
+        @JvmField
+        val EMPTY = EmojiCategoryTable(LongArray(1), arrayOfNulls(1))
+
+        /**
+         * Builds the table of the [messages]. The messages whose [emojiCategories] are null aren't kept.
+         */
+        @JvmStatic
+        fun create(messages: List<BaseMessage>, emojiCategories: (BaseMessage) -> List<Long>?): EmojiCategoryTable {
+            val entries = messages.mapNotNull { message -> emojiCategories(message)?.let { message.messageId to it } }
+            if (entries.isEmpty()) return EMPTY
+            // the table is kept at most half full, so the probes stay short.
+            val capacity = Integer.highestOneBit(entries.size * 2 - 1) shl 1
+            val keys = LongArray(capacity)
+            val values = arrayOfNulls<List<Long>>(capacity)
+            val mask = capacity - 1
+            entries.forEach { (messageId, categories) ->
+                var index = indexOf(messageId, mask)
+                while (values[index] != null && keys[index] != messageId) {
+                    index = (index + 1) and mask
+                }
+                keys[index] = messageId
+                values[index] = categories
+            }
+            return EmojiCategoryTable(keys, values)
+        }
+
+        private fun indexOf(messageId: Long, mask: Int): Int {
+            val hash = messageId * -0x61c8864680b583ebL
+            return (hash xor (hash ushr 32)).toInt() and mask
+        }
+    }
+}
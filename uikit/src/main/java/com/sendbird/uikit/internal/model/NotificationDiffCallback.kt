@@ -4,6 +4,21 @@ import androidx.recyclerview.widget.DiffUtil
 import com.sendbird.android.message.BaseMessage
 import com.sendbird.uikit.internal.extensions.messageTemplateStatus
 
+/**
+ * The payloads dispatched to the notification items when only a part of the item has to be redrawn.
+ */
+internal enum class NotificationPayload {
+    /**
+     * Whether the notification is new has been changed.
+     */
+    NEW_BADGE,
+
+    /**
+     * The values of the channel the items draw have been changed.
+     */
+    CHANNEL
+}
+
 internal class NotificationDiffCallback(
     private val oldMessageList: List<BaseMessage>,
     private val newMessageList: List<BaseMessage>,
@@ -63,28 +78,29 @@ internal class NotificationDiffCallback(
     override fun areContentsTheSame(oldItemPosition: Int, newItemPosition: Int): Boolean {
         val oldMessage = oldMessageList[oldItemPosition]
         val newMessage = newMessageList[newItemPosition]
+        return isSameExceptNewState(oldMessage, newMessage) && !isNewStateChanged(oldMessage, newMessage)
+    }
 
-        if (oldMessage.customType != newMessage.customType) {
-            return false
-        }
-
-        if (oldMessage.createdAt != newMessage.createdAt) {
-            return false
-        }
-
-        if (oldMessage.updatedAt != newMessage.updatedAt) {
-            return false
-        }
+    /**
+     * Returns [NotificationPayload.NEW_BADGE] if the items are the same except whether they're new,
+     * so only the badge is redrawn instead of the template.
+     */
+    override fun getChangePayload(oldItemPosition: Int, newItemPosition: Int): Any? {
+        val oldMessage = oldMessageList[oldItemPosition]
+        val newMessage = newMessageList[newItemPosition]
+        return if (isSameExceptNewState(oldMessage, newMessage) && isNewStateChanged(oldMessage, newMessage)) NotificationPayload.NEW_BADGE else null
+    }
 
-        if (oldMessage.messageTemplateStatus != newMessage.messageTemplateStatus) {
-            return false
-        }
+    private fun isSameExceptNewState(oldMessage: BaseMessage, newMessage: BaseMessage): Boolean {
+        return oldMessage.customType == newMessage.customType &&
+            oldMessage.createdAt == newMessage.createdAt &&
+            oldMessage.updatedAt == newMessage.updatedAt &&
+            oldMessage.messageTemplateStatus == newMessage.messageTemplateStatus
+    }
 
+    private fun isNewStateChanged(oldMessage: BaseMessage, newMessage: BaseMessage): Boolean {
         val prevIsNew: Boolean = oldMessage.createdAt > oldLastSeenAt
         val currentIsNew: Boolean = newMessage.createdAt > newLastSeenAt
-        if (prevIsNew != currentIsNew) {
-            return false
-        }
-        return true
+        return prevIsNew != currentIsNew
     }
 }
@@ -0,0 +1,17 @@
+package com.sendbird.uikit.internal.model
+
+/**
+ * The list which carries the name of the action or the event that made it. (e.g. [com.sendbird.uikit.consts.StringSet.ACTION_PREVIOUS])
+ *
+ * The name travels with the list through the public methods which take a list, so the methods keep their signatures
+ * and the name can't be attached to another list. A list passed without the wrapper has no name.
+ */
+internal class TracedList<T>(val traceName: String?, list: List<T>) : List<T> by list {
+    companion object {
+        /**
+         * Returns the trace name of the [list], or null if it's not a [TracedList].
+         */
+        @JvmStatic
+        fun traceNameOf(list: List<*>): String? = (list as? TracedList<*>)?.traceName
+    }
+}
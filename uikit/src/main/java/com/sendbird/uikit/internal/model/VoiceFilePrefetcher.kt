@@ -0,0 +1,126 @@
+package com.sendbird.uikit.internal.model
+
+import android.content.Context
+import androidx.annotation.MainThread
+import com.sendbird.android.message.FileMessage
+import com.sendbird.android.message.SendingStatus
+import com.sendbird.uikit.internal.extensions.runOnUiThread
+import com.sendbird.uikit.log.Logger
+import com.sendbird.uikit.vm.FileDownloader
+import java.io.File
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * Downloads the voice files of the voice messages being drawn before they're played,
+ * so playing a voice message doesn't wait for the download.
+ *
+ * The messages are requested when they're bound, which covers the messages on the screen and the ones the list binds ahead.
+ * Up to [MAX_CONCURRENT_COUNT] files are downloaded at once, and the sizes of the files being downloaded don't exceed
+ * [MAX_IN_FLIGHT_BYTES] together. The most recently bound message is downloaded first, and only the last
+ * [MAX_PENDING_COUNT] requests are kept, so the messages scrolled past quickly are not downloaded.
+ */
+internal object VoiceFilePrefetcher {
+    private const val MAX_CONCURRENT_COUNT = 2
+    private const val MAX_IN_FLIGHT_BYTES = 4 * 1024 * 1024L
+    private const val MAX_FILE_SIZE = 2 * 1024 * 1024L
+    private const val MAX_PENDING_COUNT = 8
+
+    private class Request(val context: Context, val message: FileMessage)
+
+    private val lock = Any()
+    // insertion-ordered, so the last entry is the most recently requested message.
+    private val pendingRequests = LinkedHashMap<String, Request>()
+    private val runningRequests = HashMap<String, MutableList<(File?) -> Unit>>()
+    private var inFlightBytes = 0L
+    private val executor: ExecutorService by lazy { Executors.newFixedThreadPool(MAX_CONCURRENT_COUNT) }
+
+    /**
+     * Requests the voice file of the [message] to be downloaded if it's not downloaded yet.
+     * Whether the file is downloaded already is checked on the download thread, so binding a message doesn't touch the file.
+     */
+    @MainThread
+    @JvmStatic
+    fun prefetch(context: Context, message: FileMessage) {
+        if (message.sendingStatus != SendingStatus.SUCCEEDED || message.url.isEmpty()) return
+        if (message.size <= 0 || message.size > MAX_FILE_SIZE) return
+        val url = message.url
+        if (FileDownloader.getInstance().isDownloading(url)) return
+        val appContext = context.applicationContext
+        synchronized(lock) {
+            if (runningRequests.containsKey(url)) return
+            pendingRequests.remove(url)
+            pendingRequests[url] = Request(appContext, message)
+            while (pendingRequests.size > MAX_PENDING_COUNT) {
+                pendingRequests.remove(pendingRequests.keys.first())
+            }
+        }
+        schedule()
+    }
+
+    /**
+     * Drops the request of the [message] if it hasn't started yet, because the message isn't drawn anymore.
+     */
+    @MainThread
+    @JvmStatic
+    fun cancel(message: FileMessage) {
+        synchronized(lock) { pendingRequests.remove(message.url) }
+    }
+
+    /**
+     * Waits for the voice file of the [message] if it's being downloaded by this.
+     * A request which hasn't started yet is dropped, so the caller can download the file right away.
+     *
+     * @param onDownloaded Called on the main thread with the file, or null if the download failed.
+     * @return true if [onDownloaded] will be called, false if the caller has to download the file.
+     */
+    @MainThread
+    @JvmStatic
+    fun join(message: FileMessage, onDownloaded: (File?) -> Unit): Boolean {
+        synchronized(lock) {
+            pendingRequests.remove(message.url)
+            val callbacks = runningRequests[message.url] ?: return false
+            callbacks.add(onDownloaded)
+            return true
+        }
+    }
+
+    private fun schedule() {
+        val startingRequests = mutableListOf<Request>()
+        synchronized(lock) {
+            while (pendingRequests.isNotEmpty() && runningRequests.size < MAX_CONCURRENT_COUNT) {
+                val (url, request) = pendingRequests.entries.last()
+                // a file larger than the budget is still downloaded when nothing else is.
+                if (runningRequests.isNotEmpty() && inFlightBytes + request.message.size > MAX_IN_FLIGHT_BYTES) break
+                pendingRequests.remove(url)
+                runningRequests[url] = mutableListOf()
+                inFlightBytes += request.message.size
+                startingRequests.add(request)
+            }
+        }
+        startingRequests.forEach { request -> executor.execute { download(request) } }
+    }
+
+    private fun download(request: Request) {
+        val message = request.message
+        val file = try {
+            Logger.d(">> VoiceFilePrefetcher::download() messageId=${message.messageId}, size=${message.size}")
+            // returns the cached file without downloading it if it's downloaded already.
+            FileDownloader.getInstance().downloadVoiceFileToCache(request.context, message)
+        } catch (e: Exception) {
+            Logger.w(e)
+            null
+        }
+        if (file != null) VoiceMetadataCache.onVoiceFileDownloaded(request.context, message, file)
+
+        val callbacks = synchronized(lock) {
+            inFlightBytes -= message.size
+            runningRequests.remove(message.url) ?: mutableListOf()
+        }
+        if (callbacks.isNotEmpty()) {
+            // the callbacks are called even if the download failed, so the list is posted instead of the file.
+            callbacks.runOnUiThread { list -> list.forEach { it(file) } }
+        }
+        schedule()
+    }
+}
@@ -0,0 +1,245 @@
+package com.sendbird.uikit.internal.model
+
+import android.content.Context
+import android.media.MediaCodec
+import android.media.MediaExtractor
+import android.media.MediaFormat
+import android.util.LruCache
+import androidx.annotation.AnyThread
+import androidx.annotation.MainThread
+import androidx.annotation.WorkerThread
+import com.sendbird.android.message.FileMessage
+import com.sendbird.uikit.internal.extensions.runOnUiThread
+import com.sendbird.uikit.internal.utils.KeyValueFileStore
+import com.sendbird.uikit.log.Logger
+import com.sendbird.uikit.utils.MessageUtils
+import java.io.File
+import java.nio.ByteOrder
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import kotlin.math.abs
+
+/**
+ * The values of a voice message the view draws without reading the voice file.
+ *
+ * @property duration The duration in milliseconds, or 0 if it's not known yet.
+ * @property amplitudes The peak amplitudes of the equal parts of the voice, from 0 to 255. It's empty if the voice file hasn't been read yet.
+ */
+internal class VoiceMetadata(val duration: Int, val amplitudes: ByteArray) {
+    internal fun serialize(): String {
+        return "$duration;${amplitudes.joinToString(",") { (it.toInt() and 0xFF).toString() }}"
+    }
+
+    companion object {
+        internal fun deserialize(value: String): VoiceMetadata? {
+            val separator = value.indexOf(';')
+            if (separator < 0) return null
+            val duration = value.substring(0, separator).toIntOrNull() ?: return null
+            val amplitudes = value.substring(separator + 1).let { list ->
+                if (list.isEmpty()) ByteArray(0) else list.split(',').map { it.toInt().toByte() }.toByteArray()
+            }
+            return VoiceMetadata(duration, amplitudes)
+        }
+    }
+}
+
+/**
+ * Keeps the [VoiceMetadata] of the voice messages in memory and in a file, so binding a voice message doesn't parse
+ * the meta arrays of the message every time, and the values read from the voice file survive the restart of the app.
+ *
+ * The duration is taken from the meta array of the message first. When the voice file is downloaded,
+ * it's decoded once in the background to fill the duration the message doesn't have and the amplitude envelope,
+ * and the listeners are notified.
+ */
+internal object VoiceMetadataCache {
+    private const val STORE_FILE_NAME = "sb_voice_metadata"
+    private const val MAX_STORED_COUNT = 1000
+    private const val MAX_MEMORY_COUNT = 200
+    const val AMPLITUDE_COUNT = 32
+    private const val DECODE_TIMEOUT_US = 10_000L
+    // stops decoding a broken file which doesn't reach the end of the stream.
+    private const val MAX_IDLE_DEQUEUE_COUNT = 500
+
+    fun interface OnMetadataUpdateListener {
+        fun onMetadataUpdated(key: String, metadata: VoiceMetadata)
+    }
+
+    private val memoryCache = LruCache<String, VoiceMetadata>(MAX_MEMORY_COUNT)
+    private val listeners = mutableSetOf<OnMetadataUpdateListener>()
+    @Volatile
+    private var store: KeyValueFileStore? = null
+    private val executor: ExecutorService by lazy { Executors.newSingleThreadExecutor() }
+    // the files being decoded or waiting to be decoded.
+    private val pendingKeys = mutableSetOf<String>()
+
+    /**
+     * Returns the metadata of the [message] without reading any file.
+     * If the message isn't cached yet, the stored metadata is loaded in the background and the listeners are notified.
+     */
+    @MainThread
+    @JvmStatic
+    fun get(context: Context, message: FileMessage): VoiceMetadata {
+        val key = createKey(message)
+        memoryCache.get(key)?.let { return it }
+        val metadata = VoiceMetadata(MessageUtils.extractDuration(message), ByteArray(0))
+        memoryCache.put(key, metadata)
+        val appContext = context.applicationContext
+        executor.execute {
+            val stored = getStore(appContext).get(key)?.let { VoiceMetadata.deserialize(it) } ?: return@execute
+            update(key, stored)
+        }
+        return metadata
+    }
+
+    @JvmStatic
+    fun getDuration(context: Context, message: FileMessage): Int = get(context, message).duration
+
+    /**
+     * Reads the duration and the amplitude envelope from the downloaded [voiceFile] if they're not stored yet.
+     */
+    @AnyThread
+    @JvmStatic
+    fun onVoiceFileDownloaded(context: Context, message: FileMessage, voiceFile: File) {
+        val key = createKey(message)
+        if (memoryCache.get(key)?.amplitudes?.isNotEmpty() == true) return
+        synchronized(pendingKeys) {
+            if (!pendingKeys.add(key)) return
+        }
+        val appContext = context.applicationContext
+        val durationFromMessage = MessageUtils.extractDuration(message)
+        executor.execute {
+            try {
+                val store = getStore(appContext)
+                val stored = store.get(key)?.let { VoiceMetadata.deserialize(it) }
+                if (stored != null && stored.amplitudes.isNotEmpty()) {
+                    update(key, stored)
+                    return@execute
+                }
+                val decoded = decode(voiceFile) ?: return@execute
+                val metadata = VoiceMetadata(if (durationFromMessage > 0) durationFromMessage else decoded.duration, decoded.amplitudes)
+                store.put(key, metadata.serialize())
+                update(key, metadata)
+            } catch (e: Exception) {
+                Logger.w(e)
+            } finally {
+                synchronized(pendingKeys) { pendingKeys.remove(key) }
+            }
+        }
+    }
+
+    @MainThread
+    @JvmStatic
+    fun addOnMetadataUpdateListener(listener: OnMetadataUpdateListener) {
+        listeners.add(listener)
+    }
+
+    @MainThread
+    @JvmStatic
+    fun removeOnMetadataUpdateListener(listener: OnMetadataUpdateListener) {
+        listeners.remove(listener)
+    }
+
+    @JvmStatic
+    fun createKey(message: FileMessage): String {
+        // the same as the voice file, which keeps the name while the message is sent.
+        return "${message.channelUrl}/${MessageUtils.getVoiceFilename(message)}"
+    }
+
+    private fun update(key: String, metadata: VoiceMetadata) {
+        metadata.runOnUiThread {
+            val current = memoryCache.get(key)
+            if (current != null && current.duration == it.duration && current.amplitudes.contentEquals(it.amplitudes)) {
+                return@runOnUiThread
+            }
+            memoryCache.put(key, it)
+            listeners.toList().forEach { listener -> listener.onMetadataUpdated(key, it) }
+        }
+    }
+
+    private fun getStore(context: Context): KeyValueFileStore {
+        return store ?: synchronized(this) {
+            store ?: KeyValueFileStore(File(context.cacheDir, STORE_FILE_NAME), MAX_STORED_COUNT).also { store = it }
+        }
+    }
+
+    /**
+     * Decodes the audio track of the [file] to find the duration and the peak amplitudes.
+     */
+    @WorkerThread
+    private fun decode(file: File): VoiceMetadata? {
+        val extractor = MediaExtractor()
+        var codec: MediaCodec? = null
+        try {
+            extractor.setDataSource(file.absolutePath)
+            val trackIndex = (0 until extractor.trackCount).firstOrNull {
+                extractor.getTrackFormat(it).getString(MediaFormat.KEY_MIME)?.startsWith("audio/") == true
+            } ?: return null
+            val format = extractor.getTrackFormat(trackIndex)
+            val mime = format.getString(MediaFormat.KEY_MIME) ?: return null
+            val durationUs = if (format.containsKey(MediaFormat.KEY_DURATION)) format.getLong(MediaFormat.KEY_DURATION) else 0L
+            if (durationUs <= 0L) return null
+            extractor.selectTrack(trackIndex)
+            codec = MediaCodec.createDecoderByType(mime).apply {
+                configure(format, null, null, 0)
+                start()
+            }
+
+            val peaks = IntArray(AMPLITUDE_COUNT)
+            val info = MediaCodec.BufferInfo()
+            var isInputDone = false
+            var idleCount = 0
+            while (idleCount < MAX_IDLE_DEQUEUE_COUNT) {
+                if (!isInputDone) {
+                    val inputIndex = codec.dequeueInputBuffer(DECODE_TIMEOUT_US)
+                    if (inputIndex >= 0) {
+                        val inputBuffer = codec.getInputBuffer(inputIndex) ?: return null
+                        val size = extractor.readSampleData(inputBuffer, 0)
+                        if (size < 0) {
+                            codec.queueInputBuffer(inputIndex, 0, 0, 0, MediaCodec.BUFFER_FLAG_END_OF_STREAM)
+                            isInputDone = true
+                        } else {
+                            codec.queueInputBuffer(inputIndex, 0, size, extractor.sampleTime, 0)
+                            extractor.advance()
+                        }
+                    }
+                }
+
+                val outputIndex = codec.dequeueOutputBuffer(info, DECODE_TIMEOUT_US)
+                if (outputIndex < 0) {
+                    idleCount++
+                    continue
+                }
+                idleCount = 0
+                val outputBuffer = codec.getOutputBuffer(outputIndex)
+                if (outputBuffer != null && info.size > 0) {
+                    outputBuffer.position(info.offset)
+                    outputBuffer.limit(info.offset + info.size)
+                    // the decoder outputs 16-bit PCM.
+                    val samples = outputBuffer.order(ByteOrder.nativeOrder()).asShortBuffer()
+                    var peak = 0
+                    while (samples.hasRemaining()) {
+                        peak = maxOf(peak, abs(samples.get().toInt()))
+                    }
+                    val part = (info.presentationTimeUs * AMPLITUDE_COUNT / durationUs).toInt().coerceIn(0, AMPLITUDE_COUNT - 1)
+                    peaks[part] = maxOf(peaks[part], peak)
+                }
+                codec.releaseOutputBuffer(outputIndex, false)
+                if ((info.flags and MediaCodec.BUFFER_FLAG_END_OF_STREAM) != 0) break
+            }
+
+            val amplitudes = ByteArray(AMPLITUDE_COUNT) { (minOf(peaks[it], Short.MAX_VALUE.toInt()) * 255 / Short.MAX_VALUE).toByte() }
+            return VoiceMetadata((durationUs / 1000).toInt(), amplitudes)
+        } catch (e: Exception) {
+            Logger.w(e)
+            return null
+        } finally {
+            try {
+                codec?.stop()
+                codec?.release()
+            } catch (e: Exception) {
+                Logger.w(e)
+            }
+            extractor.release()
+        }
+    }
+}
@@ -11,13 +11,10 @@ import androidx.annotation.UiThread
 import com.sendbird.android.exception.SendbirdException
 import com.sendbird.android.message.FileMessage
 import com.sendbird.uikit.interfaces.OnResultHandler
-import com.sendbird.uikit.internal.extensions.runOnUiThread
 import com.sendbird.uikit.log.Logger
-import com.sendbird.uikit.utils.ClearableScheduledExecutorService
 import com.sendbird.uikit.utils.FileUtils
 import com.sendbird.uikit.vm.FileDownloader
 import java.io.File
-import java.util.concurrent.TimeUnit
 
 internal class VoicePlayer(val key: String) {
     enum class Status {
@@ -40,9 +37,8 @@ internal class VoicePlayer(val key: String) {
     var status: Status = Status.STOPPED
         private set
 
-    private val player: MediaPlayer = MediaPlayer()
-    private val progressExecutor by lazy { ClearableScheduledExecutorService() }
-    private val uiThreadHandler by lazy { Handler(Looper.getMainLooper()) }
+    // created when the file is prepared and released when the player stops, so a stopped player holds no native resources.
+    private var player: MediaPlayer? = null
 
     @UiThread
     @Synchronized
@@ -82,6 +78,11 @@ internal class VoicePlayer(val key: String) {
         )
     }
 
+    /**
+     * Plays the [voiceFile]. The file is prepared asynchronously, and the player starts when it's prepared.
+     *
+     * STOPPED -> PREPARING -> PLAYING <-> PAUSED. Any status goes to STOPPED when the player is stopped, completed or failed.
+     */
     @UiThread
     @Synchronized
     fun play(
@@ -96,18 +97,25 @@ internal class VoicePlayer(val key: String) {
 
         addOnUpdateListener(onUpdateListener)
         addOnProgressUpdateListener(onProgressUpdateListener)
+        val player = this.player
+        if (player != null) {
+            // the file is being prepared already.
+            if (status == Status.PREPARING) return
+            if (status == Status.PAUSED) {
+                start(player)
+                return
+            }
+        }
         prepare(context, voiceFile.absolutePath, duration)
-        player.start()
-        updateStatus(Status.PLAYING)
-        startProgressExecutor()
     }
 
     private fun prepare(context: Context, filePath: String, duration: Int) {
         Logger.i("VoicePlayer::prepare()")
-        if (status == Status.PAUSED) return
         updateStatus(Status.PREPARING)
         this.duration = duration
-        player.run {
+        val mediaPlayer = MediaPlayer()
+        player = mediaPlayer
+        mediaPlayer.run {
             try {
                 setAudioAttributes(
                     AudioAttributes.Builder()
@@ -116,14 +124,16 @@ internal class VoicePlayer(val key: String) {
                         .build()
                 )
                 setDataSource(context, Uri.parse(filePath))
-                setOnErrorListener { _, _, _ ->
-                    this@VoicePlayer.stop()
+                // the callbacks of a stopped player are ignored, because a new player is created for the next play.
+                setOnErrorListener { mp, _, _ ->
+                    if (this@VoicePlayer.player === mp) this@VoicePlayer.stop()
                     true
                 }
-                setOnCompletionListener {
-                    this@VoicePlayer.stop()
+                setOnCompletionListener { mp ->
+                    if (this@VoicePlayer.player === mp) this@VoicePlayer.stop()
                 }
-                prepare()
+                setOnPreparedListener { mp -> onPrepared(mp) }
+                prepareAsync()
             } catch (e: Throwable) {
                 Logger.w(e)
                 this@VoicePlayer.stop()
@@ -131,16 +141,35 @@ internal class VoicePlayer(val key: String) {
         }
     }
 
+    @UiThread
+    @Synchronized
+    private fun onPrepared(mediaPlayer: MediaPlayer) {
+        Logger.i("VoicePlayer::onPrepared(), status=%s", status)
+        if (player !== mediaPlayer || status != Status.PREPARING) return
+        start(mediaPlayer)
+    }
+
+    private fun start(mediaPlayer: MediaPlayer) {
+        mediaPlayer.start()
+        updateStatus(Status.PLAYING)
+        ProgressTicker.start(this)
+    }
+
     @UiThread
     @Synchronized
     fun pause() {
         if (status == Status.STOPPED || status == Status.PAUSED) return
+        if (status == Status.PREPARING) {
+            // there's nothing to resume yet.
+            stop()
+            return
+        }
         Logger.i("VoicePlayer::pause(), seekTo=${getSeekTo()}")
 
-        progressExecutor.cancelAllJobs(true)
+        ProgressTicker.stop(this)
+        player?.pause()
         updateStatus(Status.PAUSED)
         updateProgress(getSeekTo())
-        player.pause()
     }
 
     @UiThread
@@ -149,10 +178,10 @@ internal class VoicePlayer(val key: String) {
         if (status == Status.STOPPED) return
         Logger.i("VoicePlayer::stop()")
 
-        progressExecutor.cancelAllJobs(true)
+        ProgressTicker.stop(this)
         updateStatus(Status.STOPPED)
         updateProgress(0)
-        player.reset()
+        releasePlayer()
     }
 
     @UiThread
@@ -170,8 +199,6 @@ internal class VoicePlayer(val key: String) {
     @UiThread
     @Synchronized
     private fun updateProgress(currentPosition: Int) {
-        Logger.i("VoicePlayer::updateProgress(), currentPosition : $currentPosition")
-
         onProgressUpdateListenerSet.forEach {
             it.onProgressUpdated(
                 key,
@@ -182,35 +209,40 @@ internal class VoicePlayer(val key: String) {
         }
     }
 
+    @UiThread
     @Synchronized
-    fun getSeekTo(): Int = player.currentPosition
-
-    private fun startProgressExecutor() {
-        Logger.i("VoicePlayer::startProgressExecutor()")
-        progressExecutor.cancelAllJobs(true)
-        progressExecutor.scheduleAtFixedRate({
-            runOnUiThread {
-                try {
-                    Logger.i("VoicePlayer >> onProgress, current pos : ${getSeekTo()}, status : $status")
-                    if (status == Status.PLAYING) {
-                        updateProgress(getSeekTo())
-                    }
-                } catch (ignore: Throwable) {
-                }
-            }
-        }, 0, 100, TimeUnit.MILLISECONDS)
+    internal fun onProgressTick() {
+        if (status == Status.PLAYING) {
+            updateProgress(getSeekTo())
+        }
+    }
+
+    @Synchronized
+    fun getSeekTo(): Int {
+        // the position of a player which isn't prepared is invalid.
+        if (status != Status.PLAYING && status != Status.PAUSED) return 0
+        return player?.currentPosition ?: 0
     }
 
     @Synchronized
     fun dispose() {
         Logger.i("VoicePlayer::dispose()")
-        player.release()
-        progressExecutor.shutdownNow()
+        ProgressTicker.stop(this)
+        releasePlayer()
         onUpdateListenerSet.clear()
         onProgressUpdateListenerSet.clear()
         status = Status.STOPPED
     }
 
+    private fun releasePlayer() {
+        try {
+            player?.release()
+        } catch (e: Throwable) {
+            Logger.w(e)
+        }
+        player = null
+    }
+
     @AnyThread
     @Synchronized
     fun addOnUpdateListener(onUpdateListener: OnUpdateListener) {
@@ -251,11 +283,22 @@ internal class VoicePlayer(val key: String) {
         fileMessage: FileMessage,
         listener: OnVoiceFileDownloadListener? = null
     ) {
+        // waits for the prefetcher instead of requesting the file being downloaded again, which would never return.
+        val isPrefetching = VoiceFilePrefetcher.join(fileMessage) { file ->
+            if (file != null) {
+                listener?.onVoiceFileDownloaded(file, null)
+            } else {
+                downloadFile(context, fileMessage, listener)
+            }
+        }
+        if (isPrefetching) return
+
         FileDownloader.downloadFile(
             context,
             fileMessage,
             object : OnResultHandler<File> {
                 override fun onResult(file: File) {
+                    VoiceMetadataCache.onVoiceFileDownloaded(context, fileMessage, file)
                     listener?.onVoiceFileDownloaded(file, null)
                 }
 
@@ -279,3 +322,38 @@ internal class VoicePlayer(val key: String) {
         return key.hashCode()
     }
 }
+
+/**
+ * Updates the progress of the playing voice message every [INTERVAL_MILLIS] on the main thread.
+ * Only one voice message is played at a time, so one ticker is shared by all the players.
+ */
+private object ProgressTicker {
+    private const val INTERVAL_MILLIS = 100L
+    private val handler by lazy { Handler(Looper.getMainLooper()) }
+    private var activePlayer: VoicePlayer? = null
+
+    private val tick = object : Runnable {
+        override fun run() {
+            val player = activePlayer ?: return
+            try {
+                player.onProgressTick()
+            } catch (ignore: Throwable) {
+            }
+            handler.postDelayed(this, INTERVAL_MILLIS)
+        }
+    }
+
+    @UiThread
+    fun start(player: VoicePlayer) {
+        activePlayer = player
+        handler.removeCallbacks(tick)
+        handler.post(tick)
+    }
+
+    @UiThread
+    fun stop(player: VoicePlayer) {
+        if (activePlayer !== player) return
+        activePlayer = null
+        handler.removeCallbacks(tick)
+    }
+}
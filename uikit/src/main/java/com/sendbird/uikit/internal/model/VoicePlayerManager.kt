@@ -5,13 +5,15 @@ import androidx.annotation.AnyThread
 import androidx.annotation.UiThread
 import com.sendbird.android.message.FileMessage
 import com.sendbird.uikit.log.Logger
-import com.sendbird.uikit.utils.MessageUtils
 import java.io.File
-import java.util.concurrent.ConcurrentHashMap
 
 internal object VoicePlayerManager {
 
-    private val cache: MutableMap<String, VoicePlayer> = ConcurrentHashMap()
+    // the maximum number of the players kept to resume. the least recently used ones are disposed.
+    private const val MAX_PLAYER_COUNT = 8
+
+    // access-ordered, so the first entry is the least recently used player.
+    private val cache: MutableMap<String, VoicePlayer> = LinkedHashMap(16, 0.75f, true)
     private var currentPlayer: VoicePlayer? = null
 
     @UiThread
@@ -28,7 +30,7 @@ internal object VoicePlayerManager {
             play(
                 context,
                 fileMessage,
-                MessageUtils.extractDuration(fileMessage),
+                VoiceMetadataCache.getDuration(context, fileMessage),
                 onUpdateListener,
                 onProgressUpdateListener
             )
@@ -64,9 +66,21 @@ internal object VoicePlayerManager {
             cache[key] = VoicePlayer(key)
         }
         currentPlayer = cache[key]
+        trimToSize()
         return requireNotNull(currentPlayer)
     }
 
+    private fun trimToSize() {
+        val iterator = cache.values.iterator()
+        while (cache.size > MAX_PLAYER_COUNT && iterator.hasNext()) {
+            val player = iterator.next()
+            if (player == currentPlayer) continue
+            Logger.i("VoicePlayerManager::trimToSize, dispose key=${player.key}")
+            iterator.remove()
+            player.dispose()
+        }
+    }
+
     @UiThread
     @Synchronized
     @JvmStatic
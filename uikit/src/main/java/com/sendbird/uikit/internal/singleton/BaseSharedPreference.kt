@@ -2,6 +2,7 @@ package com.sendbird.uikit.internal.singleton
 
 import android.content.Context
 import android.content.SharedPreferences
+import androidx.annotation.WorkerThread
 
 internal class BaseSharedPreference(
     context: Context,
@@ -26,6 +27,20 @@ internal class BaseSharedPreference(
             .forEach { onEach(it.key, it.value) }
     }
 
+    /**
+     * Passes the string values of the keys starting with the [prefix] to [onEach], and removes them in a single commit.
+     * The removal is written to the disk before it returns, so it must be called on a worker thread.
+     */
+    @WorkerThread
+    fun moveAll(prefix: String, onEach: (String, String) -> Unit) {
+        val keys = preferences.all.entries
+            .filter { it.key.startsWith(prefix) }
+            .onEach { (key, value) -> (value as? String)?.let { onEach(key, it) } }
+            .map { it.key }
+        if (keys.isEmpty()) return
+        preferences.edit().apply { keys.forEach { remove(it) } }.commit()
+    }
+
     fun remove(key: String) {
         if (key in preferences) {
             preferences.edit().remove(key).apply()
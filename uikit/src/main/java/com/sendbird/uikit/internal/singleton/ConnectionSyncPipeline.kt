@@ -0,0 +1,208 @@
+package com.sendbird.uikit.internal.singleton
+
+import androidx.annotation.WorkerThread
+import com.sendbird.android.exception.SendbirdError
+import com.sendbird.android.exception.SendbirdException
+import com.sendbird.uikit.consts.SyncResource
+import com.sendbird.uikit.interfaces.OnCompleteHandler
+import com.sendbird.uikit.internal.extensions.runOnUiThread
+import com.sendbird.uikit.log.Logger
+import com.sendbird.uikit.model.ReadyStatus
+import java.util.EnumMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.PriorityBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+/**
+ * Synchronizes the [SyncResource]s after UIKit is connected, and publishes whether each of them is ready.
+ *
+ * The jobs of all the connections share an executor which runs up to [THREAD_COUNT] jobs at once,
+ * and the waiting jobs run in the order of [SyncResource], so the resources the screens draw with come first.
+ * A resource is [ReadyStatus.READY] when all of its jobs succeed, and [ReadyStatus.ERROR] when any of them fails.
+ * Starting a resource again replaces its status, and the jobs of the previous start left don't change it.
+ * When a connection doesn't start the jobs, [finishAll] gives every resource its final status instead.
+ */
+internal object ConnectionSyncPipeline {
+    private const val THREAD_COUNT = 3
+    private const val KEEP_ALIVE_SECONDS = 30L
+
+    fun interface SyncJob {
+        @WorkerThread
+        @Throws(Exception::class)
+        fun run()
+    }
+
+    private class Task(
+        val resource: SyncResource,
+        val generation: Int,
+        private val sequence: Long,
+        private val job: SyncJob,
+        private val latch: CountDownLatch
+    ) : Runnable, Comparable<Task> {
+        override fun run() {
+            try {
+                val error = try {
+                    job.run()
+                    null
+                } catch (e: Exception) {
+                    Logger.w(e)
+                    e
+                }
+                finish(this, error)
+            } finally {
+                latch.countDown()
+            }
+        }
+
+        override fun compareTo(other: Task): Int {
+            val order = resource.compareTo(other.resource)
+            return if (order != 0) order else sequence.compareTo(other.sequence)
+        }
+    }
+
+    private class State {
+        // null while the resource is being synchronized or hasn't been yet.
+        var status: ReadyStatus? = null
+        var error: SendbirdException? = null
+        var pendingCount = 0
+        var generation = 0
+        val handlers = mutableListOf<OnCompleteHandler>()
+    }
+
+    private val lock = Any()
+    private val states = EnumMap<SyncResource, State>(SyncResource::class.java).apply {
+        SyncResource.values().forEach { put(it, State()) }
+    }
+    private var sequence = 0L
+    private val executor: ThreadPoolExecutor by lazy {
+        // the queue orders the tasks, so the tasks must be executed instead of submitted.
+        ThreadPoolExecutor(
+            THREAD_COUNT,
+            THREAD_COUNT,
+            KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            PriorityBlockingQueue()
+        ).apply { allowCoreThreadTimeOut(true) }
+    }
+
+    /**
+     * Starts synchronizing the resources of the [jobs]. A resource with no job is ready right away,
+     * and the resources not in the [jobs] are left as they are.
+     *
+     * @return The latch released when all the [jobs] finish.
+     */
+    @JvmStatic
+    fun start(jobs: Map<SyncResource, List<SyncJob>>): CountDownLatch {
+        val latch = CountDownLatch(jobs.values.sumOf { it.size })
+        val tasks = mutableListOf<Task>()
+        val readyHandlers = mutableListOf<OnCompleteHandler>()
+        synchronized(lock) {
+            jobs.forEach { (resource, resourceJobs) ->
+                val state = states.getValue(resource)
+                state.generation++
+                state.error = null
+                state.pendingCount = resourceJobs.size
+                if (resourceJobs.isEmpty()) {
+                    state.status = ReadyStatus.READY
+                    readyHandlers.addAll(state.handlers)
+                    state.handlers.clear()
+                } else {
+                    state.status = null
+                    resourceJobs.forEach { tasks.add(Task(resource, state.generation, sequence++, it, latch)) }
+                }
+            }
+        }
+        Logger.d(">> ConnectionSyncPipeline::start() resources=${jobs.keys}, jobCount=${tasks.size}")
+        notify(readyHandlers, null)
+        tasks.forEach { executor.execute(it) }
+        return latch
+    }
+
+    /**
+     * Returns the status of the [resource], or null if it's being synchronized or hasn't been yet.
+     */
+    @JvmStatic
+    fun getStatus(resource: SyncResource): ReadyStatus? {
+        return synchronized(lock) { states.getValue(resource).status }
+    }
+
+    /**
+     * Finishes all the resources without synchronizing them, because the connection didn't start the jobs.
+     * The resources are [ReadyStatus.ERROR] with the [error] if there's one, and [ReadyStatus.READY] with the cached data otherwise.
+     */
+    @JvmStatic
+    fun finishAll(error: SendbirdException?) {
+        val handlers = synchronized(lock) {
+            states.values.flatMap {
+                it.generation++
+                it.pendingCount = 0
+                it.status = if (error == null) ReadyStatus.READY else ReadyStatus.ERROR
+                it.error = error
+                takeHandlers(it)
+            }
+        }
+        Logger.d(">> ConnectionSyncPipeline::finishAll() error=$error")
+        notify(handlers, error)
+    }
+
+    /**
+     * Calls the [handler] when the [resource] is synchronized, with the error if it failed.
+     * The [handler] is called right away if the resource is synchronized already or isn't being synchronized, or on the main thread later.
+     */
+    @JvmStatic
+    fun runWhenReady(resource: SyncResource, handler: OnCompleteHandler) {
+        val error = synchronized(lock) {
+            val state = states.getValue(resource)
+            // the handler waits only while the jobs of the resource are running.
+            if (state.status == null && state.pendingCount > 0) {
+                state.handlers.add(handler)
+                return
+            }
+            state.error
+        }
+        handler.onComplete(error)
+    }
+
+    /**
+     * Forgets the statuses, because the user is disconnected. The handlers waiting are called right away with the cached data.
+     */
+    @JvmStatic
+    fun clearAll() {
+        val handlers = synchronized(lock) {
+            states.values.flatMap {
+                it.generation++
+                it.status = null
+                it.error = null
+                it.pendingCount = 0
+                takeHandlers(it)
+            }
+        }
+        notify(handlers, null)
+    }
+
+    private fun finish(task: Task, error: Exception?) {
+        val (handlers, resourceError) = synchronized(lock) {
+            val state = states.getValue(task.resource)
+            if (task.generation != state.generation) return
+            if (error != null && state.error == null) {
+                state.error = error as? SendbirdException ?: SendbirdException(error.message, SendbirdError.ERR_REQUEST_FAILED)
+            }
+            if (--state.pendingCount > 0) return
+            state.status = if (state.error == null) ReadyStatus.READY else ReadyStatus.ERROR
+            Logger.d("++ ConnectionSyncPipeline::finish() resource=${task.resource}, status=${state.status}")
+            (state.handlers.toList() to state.error).also { state.handlers.clear() }
+        }
+        notify(handlers, resourceError)
+    }
+
+    // must be called while holding the lock.
+    private fun takeHandlers(state: State): List<OnCompleteHandler> {
+        return state.handlers.toList().also { state.handlers.clear() }
+    }
+
+    private fun notify(handlers: List<OnCompleteHandler>, error: SendbirdException?) {
+        if (handlers.isEmpty()) return
+        handlers.runOnUiThread { list -> list.forEach { it.onComplete(error) } }
+    }
+}
@@ -0,0 +1,344 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.content.Context
+import androidx.annotation.WorkerThread
+import com.sendbird.uikit.log.Logger
+import java.io.BufferedWriter
+import java.io.File
+import java.io.FileWriter
+import java.io.IOException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * Keeps the files UIKit writes to the cache directory under [maxSize] bytes, and counts how many bytes each channel takes.
+ *
+ * The files are added when they're written or read from the cache, and the least recently used ones are evicted
+ * when the total size is over the budget. The entries are kept in a journal in the cache directory, which gets an `A` line
+ * when a file is added or used and an `R` line when it's removed, and it's rewritten when it has many more lines than the entries.
+ * The files pinned or used within [EVICTION_GRACE_MILLIS] aren't evicted, because they may be being sent.
+ *
+ * Every change and every file I/O runs in order on a single background thread, so it can be called from any thread.
+ * The sizes are counted in the memory, so they're read without touching the journal.
+ */
+internal object FileCacheManager {
+    const val DEFAULT_MAX_SIZE = 200L * 1024 * 1024
+    private const val JOURNAL_FILE_NAME = "sb_file_cache.journal"
+    private const val EVICTION_GRACE_MILLIS = 60 * 1000L
+    private const val MIN_COMPACTION_LINE_COUNT = 1000
+    private const val ADD = "A"
+    private const val REMOVE = "R"
+    private const val SEPARATOR = '\t'
+    private const val DOWNLOAD_DIR_NAME = "sb_downloads"
+    // the files UIKit writes to the cache directory itself, which were written before the journal existed.
+    // `Temp_<millis>[_<count>].<extension>` are the copies of the picked files, and `Resized_<quality>_<name>` are the resized images.
+    private val LEGACY_FILE_NAME = Regex("^(Temp_\\d+(_\\d+)?\\.[^.]+|Resized_\\d{1,3}_.+)$")
+
+    private class Entry(val path: String, val channelUrl: String?, var size: Long, var accessedAt: Long)
+
+    // the entries, the pinned paths and the journal are accessed only on the executor.
+    // access-ordered, so the first entry is the least recently used one.
+    private val entries = LinkedHashMap<String, Entry>(16, 0.75f, true)
+    private val pinnedPaths = HashSet<String>()
+    private var journalLineCount = 0
+    private var journalWriter: BufferedWriter? = null
+    private var isLoaded = false
+    // written only on the executor, and read from any thread.
+    private val channelSizes = ConcurrentHashMap<String, Long>()
+    @Volatile
+    private var totalSize = 0L
+    @Volatile
+    private var cacheDir: File? = null
+    private val executor: ExecutorService by lazy { Executors.newSingleThreadExecutor() }
+
+    /**
+     * The budget of the cache in bytes. The files are evicted right away if the cache is over the new budget.
+     */
+    @Volatile
+    @JvmStatic
+    var maxSize: Long = DEFAULT_MAX_SIZE
+        set(value) {
+            require(value >= 0) { "maxSize must be 0 or more" }
+            field = value
+            execute { trim() }
+        }
+
+    /**
+     * Remembers the cache directory, and loads the journal on the background thread.
+     */
+    @JvmStatic
+    fun init(context: Context) {
+        cacheDir = context.applicationContext.cacheDir
+        executor.execute { ensureLoaded() }
+    }
+
+    /**
+     * Returns the directory the downloaded files are written to. Every file in it is written by UIKit,
+     * so the whole directory is added to the cache if the journal is lost.
+     */
+    @JvmStatic
+    fun getDownloadDir(context: Context): File {
+        return File(context.applicationContext.cacheDir, DOWNLOAD_DIR_NAME).apply { mkdirs() }
+    }
+
+    /**
+     * Adds the [file] to the cache, or marks it as the most recently used one if it's in the cache already.
+     *
+     * @param channelUrl The url of the channel the [file] belongs to, or null if it doesn't belong to any channel yet.
+     */
+    @JvmStatic
+    fun add(file: File, channelUrl: String?) {
+        execute {
+            if (!file.isFile) return@execute
+            val path = file.absolutePath
+            val previous = entries.remove(path)
+            if (previous != null) account(previous, -previous.size)
+            // the channel of the file added without a channel is kept.
+            val entry = Entry(path, channelUrl ?: previous?.channelUrl, file.length(), System.currentTimeMillis())
+            entries[path] = entry
+            account(entry, entry.size)
+            appendAdd(entry)
+            trim()
+        }
+    }
+
+    /**
+     * Removes the [file] from the cache. The [file] itself is deleted by the caller.
+     */
+    @JvmStatic
+    fun remove(file: File) {
+        val path = file.absolutePath
+        executor.execute {
+            // the pinned paths are kept even before the journal is loaded.
+            pinnedPaths.remove(path)
+            if (ensureLoaded()) removeEntry(path)
+        }
+    }
+
+    /**
+     * Keeps the [file] from being evicted while [isPinned] is true, e.g. while the message of the [file] may be resent.
+     */
+    @JvmStatic
+    fun setPinned(file: File, isPinned: Boolean) {
+        val path = file.absolutePath
+        executor.execute { if (isPinned) pinnedPaths.add(path) else pinnedPaths.remove(path) }
+    }
+
+    /**
+     * Deletes the files of the [channelUrl], and the cache directory of the channel.
+     * A blank url or a url which has a path separator is ignored, because it can't be a directory of a channel.
+     */
+    @JvmStatic
+    fun clearChannel(channelUrl: String) {
+        if (channelUrl.isBlank() || channelUrl.contains('/') || channelUrl.contains(File.separatorChar)) {
+            Logger.w(">> FileCacheManager::clearChannel() invalid channelUrl=$channelUrl")
+            return
+        }
+        execute {
+            val paths = entries.values.filter { it.channelUrl == channelUrl }.map { it.path }
+            paths.forEach {
+                removeEntry(it)
+                File(it).delete()
+            }
+            cacheDir?.let { deleteChannelDir(it, channelUrl) }
+            Logger.d(">> FileCacheManager::clearChannel() channelUrl=$channelUrl, fileCount=${paths.size}")
+        }
+    }
+
+    /**
+     * Deletes all the files in the cache except for the pinned ones.
+     */
+    @JvmStatic
+    fun clear() {
+        execute {
+            val paths = entries.keys.filterNot { pinnedPaths.contains(it) }
+            paths.forEach {
+                removeEntry(it)
+                File(it).delete()
+            }
+            Logger.d(">> FileCacheManager::clear() fileCount=${paths.size}")
+        }
+    }
+
+    /**
+     * Returns the total size of the files in the cache in bytes.
+     */
+    @JvmStatic
+    fun getSize(): Long = totalSize
+
+    /**
+     * Returns the size of the files of each channel in bytes, keyed by the channel url.
+     * The files which don't belong to any channel aren't included.
+     */
+    @JvmStatic
+    fun getChannelSizes(): Map<String, Long> = HashMap(channelSizes)
+
+    // runs the block on the executor once the journal is loaded. The block isn't run if the journal can't be used.
+    private fun execute(block: () -> Unit) {
+        executor.execute {
+            try {
+                if (ensureLoaded()) block()
+            } catch (e: Exception) {
+                Logger.w(e)
+            }
+        }
+    }
+
+    // deletes the directory only if it's right under the cache directory, e.g. not the cache directory itself or its parent.
+    @WorkerThread
+    private fun deleteChannelDir(dir: File, channelUrl: String) {
+        try {
+            val channelDir = File(dir, channelUrl).canonicalFile
+            if (channelDir.parentFile != dir.canonicalFile) {
+                Logger.w(">> FileCacheManager::deleteChannelDir() not a channel directory. path=${channelDir.path}")
+                return
+            }
+            channelDir.deleteRecursively()
+        } catch (e: IOException) {
+            Logger.w(e)
+        }
+    }
+
+    @WorkerThread
+    private fun trim() {
+        if (totalSize <= maxSize) return
+        val evicted = mutableListOf<String>()
+        val now = System.currentTimeMillis()
+        val iterator = entries.values.iterator()
+        while (totalSize > maxSize && iterator.hasNext()) {
+            val entry = iterator.next()
+            // the entries after it are used more recently, so none of them is evicted either.
+            if (now - entry.accessedAt < EVICTION_GRACE_MILLIS) break
+            if (pinnedPaths.contains(entry.path)) continue
+            iterator.remove()
+            account(entry, -entry.size)
+            appendRemove(entry.path)
+            evicted.add(entry.path)
+        }
+        if (evicted.isEmpty()) return
+        evicted.forEach { File(it).delete() }
+        Logger.d("++ FileCacheManager::trim() evictedCount=${evicted.size}, size=$totalSize, maxSize=$maxSize")
+    }
+
+    @WorkerThread
+    private fun removeEntry(path: String) {
+        val entry = entries.remove(path) ?: return
+        account(entry, -entry.size)
+        appendRemove(path)
+    }
+
+    @WorkerThread
+    private fun account(entry: Entry, delta: Long) {
+        totalSize += delta
+        val channelUrl = entry.channelUrl ?: return
+        val size = (channelSizes[channelUrl] ?: 0L) + delta
+        if (size > 0) channelSizes[channelUrl] = size else channelSizes.remove(channelUrl)
+    }
+
+    // returns false if the cache directory isn't known yet or the journal can't be written.
+    @WorkerThread
+    private fun ensureLoaded(): Boolean {
+        if (isLoaded) return journalWriter != null
+        val dir = cacheDir ?: return false
+        isLoaded = true
+        val journal = File(dir, JOURNAL_FILE_NAME)
+        if (journal.exists()) {
+            readJournal(journal)
+        } else {
+            scanLegacyFiles(dir)
+        }
+        // the files deleted outside of the cache are dropped.
+        val iterator = entries.values.iterator()
+        while (iterator.hasNext()) {
+            val entry = iterator.next()
+            if (!File(entry.path).isFile) {
+                iterator.remove()
+                account(entry, -entry.size)
+            }
+        }
+        rewriteJournal()
+        Logger.d("++ FileCacheManager::ensureLoaded() fileCount=${entries.size}, size=$totalSize")
+        trim()
+        return journalWriter != null
+    }
+
+    private fun readJournal(journal: File) {
+        try {
+            journal.bufferedReader().useLines { lines ->
+                lines.forEach { line ->
+                    val tokens = line.split(SEPARATOR)
+                    when {
+                        tokens.size == 5 && tokens[0] == ADD -> {
+                            val size = tokens[3].toLongOrNull() ?: return@forEach
+                            val accessedAt = tokens[4].toLongOrNull() ?: return@forEach
+                            entries.remove(tokens[1])?.let { account(it, -it.size) }
+                            val entry = Entry(tokens[1], tokens[2].ifEmpty { null }, size, accessedAt)
+                            entries[entry.path] = entry
+                            account(entry, size)
+                        }
+                        tokens.size == 2 && tokens[0] == REMOVE -> entries.remove(tokens[1])?.let { account(it, -it.size) }
+                    }
+                }
+            }
+        } catch (e: IOException) {
+            Logger.w(e)
+        }
+    }
+
+    private fun scanLegacyFiles(dir: File) {
+        val legacyFiles = dir.listFiles { file -> file.isFile && LEGACY_FILE_NAME.matches(file.name) }.orEmpty()
+        val downloadedFiles = File(dir, DOWNLOAD_DIR_NAME).listFiles { file -> file.isFile }.orEmpty()
+        (legacyFiles + downloadedFiles)
+            .sortedBy { it.lastModified() }
+            .forEach {
+                val entry = Entry(it.absolutePath, null, it.length(), it.lastModified())
+                entries[entry.path] = entry
+                account(entry, entry.size)
+            }
+    }
+
+    private fun rewriteJournal() {
+        val dir = cacheDir ?: return
+        try {
+            journalWriter?.close()
+        } catch (e: IOException) {
+            Logger.w(e)
+        }
+        journalWriter = null
+        val journal = File(dir, JOURNAL_FILE_NAME)
+        val tempJournal = File(dir, "$JOURNAL_FILE_NAME.tmp")
+        try {
+            BufferedWriter(FileWriter(tempJournal)).use { writer ->
+                entries.values.forEach { writer.append(toAddLine(it)).append('\n') }
+            }
+            if (!tempJournal.renameTo(journal)) throw IOException("Failed to replace the journal")
+            journalWriter = BufferedWriter(FileWriter(journal, true))
+            journalLineCount = entries.size
+        } catch (e: IOException) {
+            Logger.w(e)
+        }
+    }
+
+    private fun appendAdd(entry: Entry) = append(toAddLine(entry))
+
+    private fun appendRemove(path: String) = append("$REMOVE$SEPARATOR$path")
+
+    private fun append(line: String) {
+        val writer = journalWriter ?: return
+        try {
+            writer.append(line).append('\n')
+            writer.flush()
+            journalLineCount++
+        } catch (e: IOException) {
+            Logger.w(e)
+        }
+        if (journalLineCount > MIN_COMPACTION_LINE_COUNT && journalLineCount > entries.size * 2) {
+            rewriteJournal()
+        }
+    }
+
+    private fun toAddLine(entry: Entry): String {
+        return listOf(ADD, entry.path, entry.channelUrl ?: "", entry.size, entry.accessedAt).joinToString(SEPARATOR.toString())
+    }
+}
@@ -11,6 +11,7 @@ import com.sendbird.message.template.TemplateParser
 import com.sendbird.message.template.model.MessageTemplate
 import com.sendbird.message.template.model.TemplateParams
 import com.sendbird.uikit.SendbirdUIKit
+import com.sendbird.uikit.consts.InitStage
 import com.sendbird.uikit.internal.extensions.childTemplateKeys
 import com.sendbird.uikit.internal.extensions.isTemplateMessage
 import com.sendbird.uikit.internal.extensions.isValid
@@ -29,6 +30,7 @@ internal object MessageTemplateManager {
     internal val isInitialized: AtomicBoolean = AtomicBoolean()
 
     internal fun checkAndInit(context: Context) {
+        awaitInit()
         if (!isInitialized.get()) {
             init(context)
         }
@@ -46,47 +48,71 @@ internal object MessageTemplateManager {
     @Throws(SendbirdException::class)
     @JvmStatic
     fun parseTemplate(key: String, dataVariables: Map<String, String>, viewVariables: Map<String, List<SimpleTemplateData>> = emptyMap()): TemplateParams {
+        awaitInit()
         return templateParser.parse(key, SendbirdUIKit.getDefaultThemeMode().toTemplateTheme(), dataVariables, viewVariables)
     }
 
     @JvmStatic
     fun hasTemplate(key: String?): Boolean {
         key ?: return false
+        awaitInit()
         return instance.hasTemplate(key)
     }
 
     @JvmStatic
     fun getTemplate(key: String?): MessageTemplate? {
         key ?: return null
+        awaitInit()
         return instance.getTemplate(key)
     }
 
     @WorkerThread
     @JvmStatic
     @Throws(SendbirdException::class)
-    fun syncMessageTemplateListBlocking(latestToken: String?) = instance.syncMessageTemplateListBlocking(latestToken)
+    fun syncMessageTemplateListBlocking(latestToken: String?) {
+        awaitInit()
+        instance.syncMessageTemplateListBlocking(latestToken)
+    }
 
     @JvmStatic
     @Throws(SendbirdException::class)
     fun getMessageTemplatesBlocking(
         keys: List<String>
-    ): List<MessageTemplate> = instance.getMessageTemplatesBlocking(keys)
+    ): List<MessageTemplate> {
+        awaitInit()
+        return instance.getMessageTemplatesBlocking(keys)
+    }
+
+    @JvmStatic
+    fun clearAll() {
+        awaitInit()
+        instance.clearAll()
+    }
 
+    /**
+     * The time it took to load the index of the cached templates in milliseconds, or -1 if it's not loaded yet.
+     */
     @JvmStatic
-    fun clearAll() = instance.clearAll()
+    val templateWarmUpTimeMillis: Long
+        get() = if (isInstanceInitialized()) instance.warmUpTimeMillis else -1L
 
     @VisibleForTesting
     internal fun isInstanceInitialized() = this::instance.isInitialized
 
     @JvmStatic
     val mapper: TemplateMapperDataProvider
-        get() = instance
+        get() {
+            awaitInit()
+            return instance
+        }
+
+    private fun awaitInit() = UIKitInitializer.await(InitStage.MESSAGE_TEMPLATE)
 }
 
 internal class MessageTemplateManagerImpl(
     private val messageTemplateRepository: MessageTemplateRepository
 ) : TemplateMapperDataProvider {
-    override fun hasTemplate(key: String): Boolean = messageTemplateRepository.getTemplate(key) != null
+    override fun hasTemplate(key: String): Boolean = messageTemplateRepository.hasTemplate(key)
 
     @WorkerThread
     @Throws(SendbirdException::class)
@@ -129,9 +155,13 @@ internal class MessageTemplateManagerImpl(
         return messageTemplateRepository.getTemplate(key)
     }
 
+    val warmUpTimeMillis: Long
+        get() = messageTemplateRepository.warmUpTimeMillis
+
     fun clearAll() {
         Logger.d("MessageTemplateManager::clearAll()")
         messageTemplateRepository.clearAll()
+        MessageTemplateParamsCache.clear()
     }
 
     override fun isValid(message: BaseMessage): Boolean {
@@ -163,4 +193,9 @@ internal class MessageTemplateManagerImpl(
     override fun requestTemplateListBlocking(keys: List<String>): List<MessageTemplate> {
         return getMessageTemplatesBlocking(keys)
     }
+
+    @WorkerThread
+    override fun prepare(messages: List<BaseMessage>) {
+        messages.forEach { MessageTemplateParamsCache.prepare(it) }
+    }
 }
@@ -4,6 +4,7 @@ import androidx.annotation.VisibleForTesting
 import androidx.annotation.WorkerThread
 import com.sendbird.android.message.BaseMessage
 import com.sendbird.message.template.model.MessageTemplate
+import com.sendbird.uikit.consts.PerformanceMetricType
 import com.sendbird.uikit.internal.extensions.messageTemplateStatus
 import com.sendbird.uikit.internal.model.templates.MessageTemplateStatus
 import com.sendbird.uikit.log.Logger
@@ -20,6 +21,12 @@ internal interface TemplateMapperDataProvider {
 
     @WorkerThread
     fun requestTemplateListBlocking(keys: List<String>): List<MessageTemplate>
+
+    /**
+     * Prepares what's needed to draw the messages whose templates are cached, such as the parsed layout models.
+     */
+    @WorkerThread
+    fun prepare(messages: List<BaseMessage>) {}
 }
 
 /**
@@ -28,7 +35,8 @@ internal interface TemplateMapperDataProvider {
 internal class MessageTemplateMapper @JvmOverloads constructor(
     @get:VisibleForTesting
     internal val dataProvider: TemplateMapperDataProvider,
-    private val worker: ExecutorService = Executors.newCachedThreadPool()
+    private val worker: ExecutorService = sharedWorker,
+    private val fetchCoordinator: TemplateFetchCoordinator = TemplateFetchCoordinator.of(dataProvider)
 ) {
     /**
      * Returns updated messages immediately.
@@ -72,6 +80,7 @@ internal class MessageTemplateMapper @JvmOverloads constructor(
             }
 
             Logger.d("3. filter not cached template keys result >> template messages[${templateMessages.size}], cached[${cachedTemplateMessages.size}], not cached[${notCachedTemplateMessages.size}]")
+            prepareInBackground(cachedTemplateMessages.filter { it.messageTemplateStatus == MessageTemplateStatus.CACHED })
 
             if (notCachedTemplateMessages.isEmpty()) {
                 return mutableTemplateMessages
@@ -89,27 +98,29 @@ internal class MessageTemplateMapper @JvmOverloads constructor(
                 }.flatten().filter { key -> dataProvider.hasTemplate(key).not() }
 
                 val notCachedTemplateKeys = (parentTemplateKeys + childTemplateKeys).distinct()
-                try {
-                    println("notCachedTemplateKeys: ${notCachedTemplateKeys.size}")
-                    Logger.d("notCachedTemplateKeys: ${notCachedTemplateKeys.size}")
-                    if (notCachedTemplateKeys.isNotEmpty()) {
-                        dataProvider.requestTemplateListBlocking(notCachedTemplateKeys)
-                    }
-                    val (fetchedMessages, notFetchedMessages) = notCachedTemplateMessages.partition { message ->
-                        dataProvider.hasAllTemplates(message)
-                    }
-                    println("4. fetch not cached templates result >> fetched messages[${fetchedMessages.size}], not fetched messages[${notFetchedMessages.size}]")
-                    Logger.d("4. fetch not cached templates result >> fetched messages[${fetchedMessages.size}], not fetched messages[${notFetchedMessages.size}]")
-                    fetchedMessages.forEach { it.messageTemplateStatus = MessageTemplateStatus.CACHED }
-                    notFetchedMessages.forEach { it.messageTemplateStatus = MessageTemplateStatus.FAILED_TO_FETCH }
-                } catch (e: Exception) {
-                    Logger.d("4. fetch not cached templates result >> failed to fetch templates >> ${e.message}")
-                    notCachedTemplateMessages.forEach { message ->
-                        message.messageTemplateStatus = MessageTemplateStatus.FAILED_TO_FETCH
+                Logger.d("notCachedTemplateKeys: ${notCachedTemplateKeys.size}")
+                val fetchStartNanos = PerformanceMonitor.now()
+                // the keys requested by the other mappers at the same time are fetched together.
+                fetchCoordinator.fetch(notCachedTemplateKeys) {
+                    PerformanceMonitor.recordSince(PerformanceMetricType.TEMPLATE_FETCH, "", fetchStartNanos)
+                    try {
+                        val (fetchedMessages, notFetchedMessages) = notCachedTemplateMessages.partition { message ->
+                            dataProvider.hasAllTemplates(message)
+                        }
+                        Logger.d("4. fetch not cached templates result >> fetched messages[${fetchedMessages.size}], not fetched messages[${notFetchedMessages.size}]")
+                        fetchedMessages.forEach { it.messageTemplateStatus = MessageTemplateStatus.CACHED }
+                        notFetchedMessages.forEach { it.messageTemplateStatus = MessageTemplateStatus.FAILED_TO_FETCH }
+                        // the messages are delivered to the view after they're prepared.
+                        prepare(fetchedMessages)
+                    } catch (e: Exception) {
+                        Logger.d("4. fetch not cached templates result >> failed to fetch templates >> ${e.message}")
+                        notCachedTemplateMessages.forEach { message ->
+                            message.messageTemplateStatus = MessageTemplateStatus.FAILED_TO_FETCH
+                        }
                     }
-                }
 
-                onFetchCompleteHandler(notCachedTemplateMessages)
+                    onFetchCompleteHandler(notCachedTemplateMessages)
+                }
             }
 
             return mutableTemplateMessages
@@ -117,4 +128,40 @@ internal class MessageTemplateMapper @JvmOverloads constructor(
             Logger.d("mapTemplate[size:${messages.size}] took ${System.currentTimeMillis() - startedAt}ms")
         }
     }
+
+    /**
+     * Fetches the templates of the [keys] which are not cached yet in the background,
+     * so the template messages using them are drawn without waiting for the templates.
+     */
+    fun prewarm(keys: List<String>) {
+        if (keys.isEmpty()) return
+        worker.submit {
+            val notCachedTemplateKeys = keys.distinct().filter { key -> dataProvider.hasTemplate(key).not() }
+            Logger.d(">> MessageTemplateMapper::prewarm() keys=${keys.size}, not cached=${notCachedTemplateKeys.size}")
+            fetchCoordinator.fetch(notCachedTemplateKeys) {}
+        }
+    }
+
+    private fun prepareInBackground(messages: List<BaseMessage>) {
+        if (messages.isEmpty()) return
+        worker.submit {
+            try {
+                prepare(messages)
+            } catch (e: Exception) {
+                Logger.w(e)
+            }
+        }
+    }
+
+    private fun prepare(messages: List<BaseMessage>) {
+        if (messages.isEmpty()) return
+        val startNanos = PerformanceMonitor.now()
+        dataProvider.prepare(messages)
+        PerformanceMonitor.recordSince(PerformanceMetricType.TEMPLATE_PREPARE, "", startNanos)
+    }
+
+    companion object {
+        // the fetches don't block the worker anymore, so the mappers share it.
+        private val sharedWorker: ExecutorService by lazy { Executors.newCachedThreadPool() }
+    }
 }
@@ -0,0 +1,52 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.util.LruCache
+import androidx.annotation.WorkerThread
+import com.sendbird.android.exception.SendbirdException
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.message.template.model.TemplateParams
+import com.sendbird.uikit.SendbirdUIKit
+import com.sendbird.uikit.log.Logger
+
+/**
+ * Keeps the [TemplateParams] of the template messages parsed ahead of time, so the view holders don't parse them on the main thread.
+ * The messages in the list are replaced by their copies whenever they're updated, so the parsed params are not stored in the message itself.
+ */
+internal object MessageTemplateParamsCache {
+    private const val MAX_CACHED_PARAMS_COUNT = 200
+    private val cache = LruCache<String, TemplateParams>(MAX_CACHED_PARAMS_COUNT)
+
+    @JvmStatic
+    fun get(message: BaseMessage): TemplateParams? = cache.get(createKey(message))
+
+    /**
+     * Parses the template of the [message] if it isn't parsed yet.
+     *
+     * @return The parsed params, or null if the message isn't a template message or the template is failed to parse
+     */
+    @WorkerThread
+    @JvmStatic
+    fun prepare(message: BaseMessage): TemplateParams? {
+        val templateMessageData = message.templateMessageData ?: return null
+        val key = createKey(message)
+        cache.get(key)?.let { return it }
+        return try {
+            MessageTemplateManager.parseTemplate(
+                templateMessageData.key,
+                templateMessageData.variables,
+                templateMessageData.viewVariables
+            ).also { cache.put(key, it) }
+        } catch (e: SendbirdException) {
+            // the view holder falls back to parse it again and shows the error view.
+            Logger.w(e)
+            null
+        }
+    }
+
+    @JvmStatic
+    fun clear() = cache.evictAll()
+
+    private fun createKey(message: BaseMessage): String {
+        return "${message.messageId}_${message.updatedAt}_${SendbirdUIKit.getDefaultThemeMode()}"
+    }
+}
@@ -7,24 +7,34 @@ import com.sendbird.android.exception.SendbirdException
 import com.sendbird.android.params.MessageTemplateListParams
 import com.sendbird.message.template.model.MessageTemplate
 import com.sendbird.message.template.providers.MessageTemplateProvider
+import com.sendbird.uikit.internal.utils.KeyValueFileStore
 import com.sendbird.uikit.log.Logger
-import java.util.concurrent.ConcurrentHashMap
+import java.io.File
 import java.util.concurrent.CountDownLatch
 import java.util.concurrent.TimeUnit
 import java.util.concurrent.atomic.AtomicReference
-import kotlin.concurrent.thread
 
 private const val MESSAGE_TEMPLATE_KEY_PREFIX = "SB_MESSAGE_TEMPLATE_"
 private const val MESSAGE_TEMPLATE_LAST_UPDATED_TOKEN = "MESSAGE_TEMPLATE_LAST_UPDATED_TOKEN"
 private const val PREFERENCE_FILE_NAME = "com.sendbird.message.templates"
+private const val TEMPLATE_STORE_FILE_NAME = "sendbird_message_templates.dat"
+private const val MAX_CACHED_TEMPLATE_COUNT = 1000
 
 /**
  * This class is used to store templates which is used for [com.sendbird.android.channel.GroupChannel].
  * It doesn't manage the templates for Notification. For Notification, use [NotificationTemplateRepository].
  */
 internal class MessageTemplateRepository(context: Context) : MessageTemplateProvider {
-    private val templateCache: MutableMap<String, MessageTemplate> = ConcurrentHashMap()
     private val preferences = BaseSharedPreference(context.applicationContext, PREFERENCE_FILE_NAME)
+    private val templateCache = TemplateCache(
+        "MessageTemplateRepository",
+        KeyValueFileStore(File(context.applicationContext.filesDir, TEMPLATE_STORE_FILE_NAME), MAX_CACHED_TEMPLATE_COUNT) { putIfAbsent ->
+            // the templates used to be stored in the preferences. They're moved to the store once.
+            preferences.moveAll(MESSAGE_TEMPLATE_KEY_PREFIX) { key, value ->
+                putIfAbsent(key.removePrefix(MESSAGE_TEMPLATE_KEY_PREFIX), value)
+            }
+        }
+    )
     internal var lastCachedToken: String = ""
         get() {
             return field.ifEmpty {
@@ -39,38 +49,33 @@ internal class MessageTemplateRepository(context: Context) : MessageTemplateProv
             }
         }
 
-    private val initialTemplateLoadLock = Any()
+    /**
+     * The time it took to load the index of the cached templates in milliseconds, or -1 if it's not loaded yet.
+     */
+    internal val warmUpTimeMillis: Long
+        get() = templateCache.warmUpTimeMillis
 
     init {
-        thread {
-            synchronized(initialTemplateLoadLock) {
-                preferences.loadAll(
-                    predicate = { key ->
-                        key.startsWith(MESSAGE_TEMPLATE_KEY_PREFIX)
-                    },
-                    onEach = { key, value ->
-                        templateCache[key] = MessageTemplate.fromJson(value.toString())
-                    }
-                )
-            }
-        }
+        // the templates are not parsed here. They're parsed when they're requested first.
+        templateCache.warmUp()
     }
 
     @WorkerThread
     private fun saveToCache(template: MessageTemplate) {
         Logger.d(">> MessageTemplateRepository::saveToCache() key=${template.templateKey}")
-        val key = template.templateKey.toMessageTemplateKey()
-        templateCache[key] = template
-        preferences.putString(key, template.toString())
+        templateCache.put(template)
     }
 
     fun getTemplate(key: String): MessageTemplate? {
         Logger.d(">> MessageTemplateRepository::getTemplate() key=$key")
-        return synchronized(initialTemplateLoadLock) {
-            templateCache[key.toMessageTemplateKey()]
-        }
+        return templateCache.get(key)
     }
 
+    /**
+     * Checks whether the template is cached without parsing it.
+     */
+    fun hasTemplate(key: String): Boolean = templateCache.contains(key)
+
     @WorkerThread
     @Throws(SendbirdException::class)
     fun requestMessageTemplatesBlocking(
@@ -117,7 +122,6 @@ internal class MessageTemplateRepository(context: Context) : MessageTemplateProv
         preferences.clearAll()
     }
 
-    private fun String.toMessageTemplateKey() = MESSAGE_TEMPLATE_KEY_PREFIX + this
     override fun provide(key: String): MessageTemplate? {
         return getTemplate(key)
     }
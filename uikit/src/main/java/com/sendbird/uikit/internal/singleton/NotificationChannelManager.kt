@@ -8,6 +8,7 @@ import com.sendbird.android.exception.SendbirdException
 import com.sendbird.message.template.TemplateParser
 import com.sendbird.message.template.consts.MessageTemplateError
 import com.sendbird.message.template.model.TemplateParams
+import com.sendbird.uikit.consts.InitStage
 import com.sendbird.uikit.internal.extensions.runOnUiThread
 import com.sendbird.uikit.internal.extensions.toTemplateTheme
 import com.sendbird.uikit.internal.interfaces.GetTemplateResultHandler
@@ -42,14 +43,17 @@ internal object NotificationChannelManager {
     private lateinit var templateParser: TemplateParser
     @JvmStatic
     val mapper: TemplateMapperDataProvider
-        get() = templateRepository
+        get() {
+            awaitInit()
+            return templateRepository
+        }
 
     /**
      * To avoid sending an unintended exception, if the NotificationChannelManager hasn't been initialized it tries to initialize automatically.
      * This is very defensive code and only works when creating a Fragment and attempting to reference NotificationChannelManager in exceptional cases.
      */
-    @Synchronized
     internal fun checkAndInit(context: Context) {
+        awaitInit()
         Logger.i(">> NotificationChannelManager::checkAndInit() isInitialized=${isInitialized.get()}")
         if (!isInitialized.get()) {
             init(context)
@@ -70,11 +74,15 @@ internal object NotificationChannelManager {
     }
 
     @JvmStatic
-    fun hasTemplate(key: String): Boolean = templateRepository.getTemplate(key) != null
+    fun hasTemplate(key: String): Boolean {
+        awaitInit()
+        return templateRepository.hasTemplate(key)
+    }
 
     @Throws(SendbirdException::class)
     @JvmStatic
     fun parseTemplate(key: String, themeMode: NotificationThemeMode, dataVariables: Map<String, String>, viewVariables: Map<String, List<SimpleTemplateData>> = emptyMap()): TemplateParams {
+        awaitInit()
         val template = templateRepository.getTemplate(key) ?: throw SendbirdException("dataTemplate is empty", MessageTemplateError.ERROR_TEMPLATE_NOT_EXIST)
         return if (template.isDataTemplate) {
             TemplateParamsCreator.createDataTemplateViewParams(template.dataTemplate, NotificationThemeMode.Default.toTemplateTheme())
@@ -89,6 +97,7 @@ internal object NotificationChannelManager {
         variables: Map<String, String>,
         themeMode: NotificationThemeMode,
         callback: GetTemplateResultHandler) {
+        awaitInit()
         synchronized(templateRequestDatas) {
             val request = TemplateRequestData(key, variables, themeMode, callback)
             val isRequesting = templateRequestDatas[key] != null
@@ -159,44 +168,60 @@ internal object NotificationChannelManager {
 
     @JvmStatic
     fun getGlobalNotificationChannelSettings(): NotificationChannelSettings? {
+        awaitInit()
         return channelSettingsRepository.settings
     }
 
     @WorkerThread
     @JvmStatic
     @Throws(Exception::class)
-    @Synchronized
     fun requestTemplateListBlocking(latestToken: String?) {
-        // 1. check updated time with server.
-        if (!templateRepository.needToUpdateTemplateList(latestToken)) {
-            Logger.d("++ skip request template list. no more items to update")
-            return
-        }
+        // waits before locking, because the init locks this as well.
+        awaitInit()
+        synchronized(this) {
+            // 1. check updated time with server.
+            if (!templateRepository.needToUpdateTemplateList(latestToken)) {
+                Logger.d("++ skip request template list. no more items to update")
+                return
+            }
 
-        // 2. call api
-        templateRepository.requestTemplateListBlocking()
+            // 2. call api
+            templateRepository.requestTemplateListBlocking()
+        }
     }
 
     @WorkerThread
     @JvmStatic
     @Throws(Exception::class)
-    @Synchronized
     fun requestNotificationChannelSettingBlocking(latestUpdatedAt: Long): NotificationChannelSettings {
-        // 0-1. check from cache
-        channelSettingsRepository.settings?.let {
-            if (!channelSettingsRepository.needToUpdate(latestUpdatedAt)) {
-                Logger.d("++ skip request channel theme settings. no more items to update")
-                return it
+        awaitInit()
+        synchronized(this) {
+            // 0-1. check from cache
+            channelSettingsRepository.settings?.let {
+                if (!channelSettingsRepository.needToUpdate(latestUpdatedAt)) {
+                    Logger.d("++ skip request channel theme settings. no more items to update")
+                    return it
+                }
             }
+            // 1. call api
+            return channelSettingsRepository.requestSettings()
         }
-        // 1. call api
-        return channelSettingsRepository.requestSettings()
     }
 
+    /**
+     * The time it took to load the index of the cached notification templates in milliseconds, or -1 if it's not loaded yet.
+     */
+    @JvmStatic
+    val templateWarmUpTimeMillis: Long
+        get() = if (this::templateRepository.isInitialized) templateRepository.warmUpTimeMillis else -1L
+
     @JvmStatic
     fun clearAll() {
         Logger.d("NotificationChannelManager::clearAll()")
+        awaitInit()
         templateRepository.clearAll()
         channelSettingsRepository.clearAll()
     }
+
+    private fun awaitInit() = UIKitInitializer.await(InitStage.NOTIFICATION)
 }
@@ -0,0 +1,243 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.content.Context
+import androidx.annotation.MainThread
+import androidx.annotation.WorkerThread
+import com.sendbird.android.channel.FeedChannel
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.uikit.log.Logger
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.EOFException
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+/**
+ * Sends the viewed logs of the feed notifications in batches, and sends each message only once.
+ *
+ * The ids of the logged messages are kept up to [MAX_LOGGED_COUNT] per channel for the last [MAX_CHANNEL_COUNT] channels,
+ * so a message scrolled back to is not logged again.
+ * The new messages are sent together [FLUSH_DELAY_MILLIS] after the first of them is viewed, or right away when
+ * [MAX_BATCH_SIZE] messages are waiting. The waiting messages are also appended to a file per channel, which is rewritten
+ * only when a batch is sent, and the messages the process couldn't send before it was killed are sent when the channel is [restore]d.
+ * The batch failed to send is retried after [RETRY_DELAY_MILLIS].
+ */
+internal object NotificationImpressionLogger {
+    private const val DIRECTORY_NAME = "sb_notification_impressions"
+    private const val MAX_LOGGED_COUNT = 1000
+    private const val MAX_CHANNEL_COUNT = 10
+    private const val MAX_BATCH_SIZE = 30
+    private const val FLUSH_DELAY_MILLIS = 1000L
+    private const val RETRY_DELAY_MILLIS = 10_000L
+
+    private class ChannelState(var channel: FeedChannel) {
+        val pendingMessages = LinkedHashMap<Long, BaseMessage>()
+        var isFlushScheduled = false
+    }
+
+    private val lock = Any()
+    // the channels which have messages waiting to be sent, removed once all of them are sent.
+    private val states = HashMap<String, ChannelState>()
+    // the ids are insertion-ordered, so the first id is the one logged first.
+    // the channels are access-ordered, and the one used least recently is dropped first.
+    private val loggedIds = object : LinkedHashMap<String, LinkedHashSet<Long>>(16, 0.75F, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, LinkedHashSet<Long>>?): Boolean {
+            return size > MAX_CHANNEL_COUNT
+        }
+    }
+    private val executor: ScheduledExecutorService by lazy { Executors.newSingleThreadScheduledExecutor() }
+    @Volatile
+    private var directory: File? = null
+
+    @JvmStatic
+    fun init(context: Context) {
+        directory = File(context.applicationContext.filesDir, DIRECTORY_NAME)
+    }
+
+    /**
+     * Sends the viewed logs of the [messages] which haven't been logged yet.
+     */
+    @MainThread
+    @JvmStatic
+    fun log(channel: FeedChannel, messages: List<BaseMessage>) {
+        // the stored messages are read before the new ones are appended to the file.
+        restore(channel)
+        val newMessages = ArrayList<BaseMessage>()
+        var isBatchFull = false
+        synchronized(lock) {
+            val ids = loggedIds.getOrPut(channel.url) { LinkedHashSet() }
+            messages.filterTo(newMessages) { ids.add(it.messageId) }
+            trimLoggedIds(ids)
+            if (newMessages.isEmpty()) return
+            val state = getState(channel)
+            newMessages.forEach { state.pendingMessages[it.messageId] = it }
+            isBatchFull = state.pendingMessages.size >= MAX_BATCH_SIZE
+            if (isBatchFull) state.isFlushScheduled = true
+        }
+        Logger.d(">> NotificationImpressionLogger::log() channelUrl=${channel.url}, isBatchFull=$isBatchFull")
+        executor.execute { append(channel.url, newMessages) }
+        if (isBatchFull) {
+            executor.execute { flush(channel.url) }
+        } else {
+            scheduleFlush(channel.url, FLUSH_DELAY_MILLIS)
+        }
+    }
+
+    /**
+     * Loads the messages the previous process didn't send, and sends them with the [channel].
+     */
+    @JvmStatic
+    fun restore(channel: FeedChannel) {
+        synchronized(lock) {
+            // the file is read again only after the ids of the channel are dropped, and it's gone once its messages are sent.
+            if (loggedIds.containsKey(channel.url)) return
+            loggedIds[channel.url] = LinkedHashSet()
+        }
+        executor.execute {
+            val restoredMessages = read(channel.url)
+            if (restoredMessages.isEmpty()) return@execute
+            Logger.d(">> NotificationImpressionLogger::restore() channelUrl=${channel.url}, count=${restoredMessages.size}")
+            synchronized(lock) {
+                val ids = loggedIds.getOrPut(channel.url) { LinkedHashSet() }
+                val state = getState(channel)
+                restoredMessages.forEach {
+                    ids.add(it.messageId)
+                    if (!state.pendingMessages.containsKey(it.messageId)) state.pendingMessages[it.messageId] = it
+                }
+                trimLoggedIds(ids)
+            }
+            scheduleFlush(channel.url, 0L)
+        }
+    }
+
+    private fun getState(channel: FeedChannel): ChannelState {
+        return states.getOrPut(channel.url) { ChannelState(channel) }.also { it.channel = channel }
+    }
+
+    private fun trimLoggedIds(ids: LinkedHashSet<Long>) {
+        val iterator = ids.iterator()
+        while (ids.size > MAX_LOGGED_COUNT && iterator.hasNext()) {
+            iterator.next()
+            iterator.remove()
+        }
+    }
+
+    private fun scheduleFlush(channelUrl: String, delayMillis: Long) {
+        synchronized(lock) {
+            val state = states[channelUrl] ?: return
+            if (state.isFlushScheduled) return
+            state.isFlushScheduled = true
+        }
+        executor.schedule({ flush(channelUrl) }, delayMillis, TimeUnit.MILLISECONDS)
+    }
+
+    @WorkerThread
+    private fun flush(channelUrl: String) {
+        val (channel, batch) = synchronized(lock) {
+            val state = states[channelUrl] ?: return
+            state.isFlushScheduled = false
+            state.channel to state.pendingMessages.values.take(MAX_BATCH_SIZE)
+        }
+        if (batch.isEmpty()) return
+
+        val isSent = try {
+            channel.logViewed(batch)
+        } catch (e: Exception) {
+            Logger.w(e)
+            false
+        }
+        Logger.d("++ NotificationImpressionLogger::flush() count=${batch.size}, isSent=$isSent")
+
+        val hasMore = synchronized(lock) {
+            val state = states[channelUrl] ?: return
+            if (isSent) batch.forEach { state.pendingMessages.remove(it.messageId) }
+            if (state.pendingMessages.isEmpty() && !state.isFlushScheduled) states.remove(channelUrl)
+            state.pendingMessages.isNotEmpty()
+        }
+        if (isSent) write(channelUrl)
+        if (hasMore) scheduleFlush(channelUrl, if (isSent) 0L else RETRY_DELAY_MILLIS)
+    }
+
+    private fun getFile(channelUrl: String): File? {
+        return directory?.let { File(it, channelUrl.hashCode().toString()) }
+    }
+
+    /**
+     * Appends the [messages] to the file of the channel.
+     * Record format: `[channelUrl: UTF]([length: int][serialized message])*`
+     */
+    @WorkerThread
+    private fun append(channelUrl: String, messages: List<BaseMessage>) {
+        val file = getFile(channelUrl) ?: return
+        try {
+            file.parentFile?.mkdirs()
+            val isNewFile = file.length() == 0L
+            DataOutputStream(FileOutputStream(file, true).buffered()).use { output ->
+                if (isNewFile) output.writeUTF(channelUrl)
+                messages.forEach { writeMessage(output, it) }
+            }
+        } catch (e: IOException) {
+            Logger.w(e)
+        }
+    }
+
+    /**
+     * Rewrites the file with the messages waiting to be sent, or deletes it if there's none.
+     */
+    @WorkerThread
+    private fun write(channelUrl: String) {
+        val file = getFile(channelUrl) ?: return
+        val messages = synchronized(lock) { states[channelUrl]?.pendingMessages?.values?.toList() }.orEmpty()
+        try {
+            if (messages.isEmpty()) {
+                file.delete()
+                return
+            }
+            val tempFile = File(file.path + ".tmp")
+            DataOutputStream(tempFile.outputStream().buffered()).use { output ->
+                output.writeUTF(channelUrl)
+                messages.forEach { writeMessage(output, it) }
+            }
+            if (!tempFile.renameTo(file)) tempFile.delete()
+        } catch (e: IOException) {
+            Logger.w(e)
+        }
+    }
+
+    private fun writeMessage(output: DataOutputStream, message: BaseMessage) {
+        val bytes = message.serialize()
+        output.writeInt(bytes.size)
+        output.write(bytes)
+    }
+
+    @WorkerThread
+    private fun read(channelUrl: String): List<BaseMessage> {
+        val file = getFile(channelUrl) ?: return emptyList()
+        if (!file.exists()) return emptyList()
+        return try {
+            DataInputStream(file.inputStream().buffered()).use { input ->
+                // the file names are the hash of the urls, so the url is checked.
+                if (input.readUTF() != channelUrl) return emptyList()
+                val messages = ArrayList<BaseMessage>()
+                try {
+                    while (true) {
+                        val bytes = ByteArray(input.readInt())
+                        input.readFully(bytes)
+                        BaseMessage.buildFromSerializedData(bytes)?.let { messages.add(it) }
+                    }
+                } catch (e: EOFException) {
+                    // the end of the file, or of the record the process was killed while appending.
+                }
+                messages
+            }
+        } catch (e: Exception) {
+            Logger.w(e)
+            file.delete()
+            emptyList()
+        }
+    }
+}
@@ -9,8 +9,9 @@ import com.sendbird.android.params.NotificationTemplateListParams
 import com.sendbird.message.template.model.MessageTemplate
 import com.sendbird.message.template.providers.MessageTemplateProvider
 import com.sendbird.uikit.internal.model.notifications.NotificationTemplateList
+import com.sendbird.uikit.internal.utils.KeyValueFileStore
 import com.sendbird.uikit.log.Logger
-import java.util.concurrent.ConcurrentHashMap
+import java.io.File
 import java.util.concurrent.CountDownLatch
 import java.util.concurrent.atomic.AtomicReference
 
@@ -18,11 +19,23 @@ private const val TEMPLATE_KEY_PREFIX = "SB_TEMPLATE_"
 private const val LAST_UPDATED_TEMPLATE_LIST_TOKEN = "LAST_UPDATED_TEMPLATE_LIST_AT"
 private const val TEMPLATE_COUNT = "TEMPLATE_COUNT"
 private const val PREFERENCE_FILE_NAME = "com.sendbird.notifications.templates"
+private const val TEMPLATE_STORE_FILE_NAME = "sendbird_notification_templates.dat"
 private const val MAX_CACHED_TEMPLATE_COUNT = 1000
 
 internal class NotificationTemplateRepository(context: Context) : MessageTemplateProvider, TemplateMapperDataProvider {
-    private val templateCache: MutableMap<String, MessageTemplate> = ConcurrentHashMap()
     private val preferences = BaseSharedPreference(context.applicationContext, PREFERENCE_FILE_NAME)
+    private val templateCache = TemplateCache(
+        "NotificationTemplateRepository",
+        KeyValueFileStore(File(context.applicationContext.filesDir, TEMPLATE_STORE_FILE_NAME), MAX_CACHED_TEMPLATE_COUNT) { putIfAbsent ->
+            // the templates used to be stored in the preferences. They're moved to the store once.
+            if (preferences.contains(TEMPLATE_COUNT)) {
+                preferences.moveAll(TEMPLATE_KEY_PREFIX) { key, value ->
+                    putIfAbsent(key.removePrefix(TEMPLATE_KEY_PREFIX), value)
+                }
+                preferences.remove(TEMPLATE_COUNT)
+            }
+        }
+    )
     private var lastCacheToken: String = ""
         get() {
             return field.ifEmpty {
@@ -37,35 +50,22 @@ internal class NotificationTemplateRepository(context: Context) : MessageTemplat
             }
         }
 
-    init {
-        checkCountLimit()
-        preferences.loadAll({ key ->
-            key.startsWith(TEMPLATE_KEY_PREFIX)
-        }, { key, value ->
-            templateCache[key] = MessageTemplate.fromJson(value.toString())
-        }).also {
-            preferences.putInt(TEMPLATE_COUNT, templateCache.size)
-        }
-    }
+    /**
+     * The time it took to load the index of the cached templates in milliseconds, or -1 if it's not loaded yet.
+     */
+    internal val warmUpTimeMillis: Long
+        get() = templateCache.warmUpTimeMillis
 
-    private fun checkCountLimit() {
-        val count = preferences.getInt(TEMPLATE_COUNT)
-        Logger.d("++ cached template count = $count")
-        if (count > MAX_CACHED_TEMPLATE_COUNT) {
-            clearAll()
-        }
+    init {
+        // the templates are not parsed here. They're parsed when they're requested first.
+        templateCache.warmUp()
     }
 
-    private fun getCacheKey(key: String) = "${TEMPLATE_KEY_PREFIX}$key"
-
     @WorkerThread
     @Synchronized
     private fun saveToCache(template: MessageTemplate) {
         Logger.d(">> NotificationTemplateRepository::saveToCache() key=${template.templateKey}")
-        val key = getCacheKey(template.templateKey)
-        templateCache[key] = template
-        preferences.putString(key, template.toString())
-        preferences.putInt(TEMPLATE_COUNT, templateCache.size)
+        templateCache.put(template)
     }
 
     internal fun needToUpdateTemplateList(latestUpdatedToken: String?): Boolean {
@@ -74,7 +74,7 @@ internal class NotificationTemplateRepository(context: Context) : MessageTemplat
 
     internal fun getTemplate(key: String): MessageTemplate? {
         Logger.d(">> NotificationTemplateRepository::getTemplate() key=$key")
-        return templateCache[getCacheKey(key)]
+        return templateCache.get(key)
     }
 
     @WorkerThread
@@ -168,7 +168,7 @@ internal class NotificationTemplateRepository(context: Context) : MessageTemplat
         } ?: false
     }
 
-    override fun hasTemplate(key: String): Boolean = getTemplate(key) != null
+    override fun hasTemplate(key: String): Boolean = templateCache.contains(key)
     override fun getTemplateKey(message: BaseMessage): String? = message.notificationData?.templateKey
     override fun childTemplateKeys(message: BaseMessage): List<String> = emptyList()
 
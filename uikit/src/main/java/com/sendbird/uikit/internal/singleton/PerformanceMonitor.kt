@@ -0,0 +1,77 @@
+package com.sendbird.uikit.internal.singleton
+
+import com.sendbird.uikit.consts.PerformanceMetricType
+import com.sendbird.uikit.model.PerformanceHistogram
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+
+/**
+ * Aggregates the performance metrics into the histograms in memory.
+ *
+ * While it's disabled, [now] returns 0 without reading the clock and the values are dropped,
+ * so the measured code only pays for a volatile read.
+ * The values are recorded without a lock, so a snapshot taken while the values are recorded can be off by the values being recorded.
+ */
+internal object PerformanceMonitor {
+    private class Recorder {
+        val sum = AtomicLong()
+        val max = AtomicLong()
+        val bucketCounts = AtomicLongArray(PerformanceHistogram.BUCKET_COUNT)
+
+        fun record(value: Long) {
+            sum.addAndGet(value)
+            bucketCounts.incrementAndGet(PerformanceHistogram.getBucketIndex(value))
+            var current = max.get()
+            while (value > current && !max.compareAndSet(current, value)) {
+                current = max.get()
+            }
+        }
+    }
+
+    private val metricTypes = PerformanceMetricType.values()
+    private val recorders = Array(metricTypes.size) { ConcurrentHashMap<String, Recorder>() }
+
+    @JvmStatic
+    @Volatile
+    var isEnabled: Boolean = false
+
+    /**
+     * Returns the time to measure the duration from, or 0 if it's disabled.
+     */
+    @JvmStatic
+    fun now(): Long = if (isEnabled) System.nanoTime() else 0L
+
+    /**
+     * Records the duration from the [startNanos] returned by [now] in microseconds.
+     */
+    @JvmStatic
+    fun recordSince(type: PerformanceMetricType, label: String, startNanos: Long) {
+        if (startNanos == 0L || !isEnabled) return
+        record(type, label, (System.nanoTime() - startNanos) / 1000)
+    }
+
+    @JvmStatic
+    fun record(type: PerformanceMetricType, label: String, value: Long) {
+        if (!isEnabled) return
+        val recordersOfType = recorders[type.ordinal]
+        val recorder = recordersOfType[label] ?: recordersOfType.getOrPut(label) { Recorder() }
+        recorder.record(value.coerceAtLeast(0L))
+    }
+
+    @JvmStatic
+    fun snapshot(): List<PerformanceHistogram> {
+        return metricTypes.flatMap { type ->
+            recorders[type.ordinal].map { (label, recorder) ->
+                // the count is taken from the buckets, so it matches the percentiles.
+                val bucketCounts = LongArray(PerformanceHistogram.BUCKET_COUNT) { recorder.bucketCounts.get(it) }
+                PerformanceHistogram(type, label, bucketCounts.sum(), recorder.sum.get(), recorder.max.get(), bucketCounts)
+            }
+        }
+    }
+
+    @JvmStatic
+    fun reset() {
+        recorders.forEach { it.clear() }
+    }
+}
@@ -0,0 +1,78 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.util.LruCache
+import com.sendbird.message.template.model.MessageTemplate
+import com.sendbird.uikit.consts.PerformanceMetricType
+import com.sendbird.uikit.internal.tasks.JobTask
+import com.sendbird.uikit.internal.tasks.TaskQueue
+import com.sendbird.uikit.internal.utils.KeyValueFileStore
+import com.sendbird.uikit.log.Logger
+import java.util.concurrent.TimeUnit
+
+/**
+ * Keeps the templates in the serialized form in the [KeyValueFileStore], and parses a template only when it's requested.
+ * The parsed templates are memoized up to [maxParsedCount], so opening a channel only pays for the templates it draws.
+ * A template parsed already is returned from the memory without touching the store.
+ */
+internal class TemplateCache(
+    private val name: String,
+    private val store: KeyValueFileStore,
+    maxParsedCount: Int = DEFAULT_MAX_PARSED_COUNT
+) {
+    private val parsedTemplates = LruCache<String, MessageTemplate>(maxParsedCount)
+
+    /**
+     * The time it took to load the index of the stored templates in milliseconds, or -1 if it's not loaded yet.
+     */
+    @Volatile
+    var warmUpTimeMillis: Long = -1L
+        private set
+
+    /**
+     * Loads the index of the stored templates on a background thread. It doesn't parse any template.
+     * The duration is recorded as [PerformanceMetricType.TEMPLATE_WARM_UP] with the [name] as the label.
+     */
+    fun warmUp() {
+        TaskQueue.addTask(object : JobTask<Unit>() {
+            override fun call() {
+                val startNanos = System.nanoTime()
+                store.load()
+                val elapsedNanos = System.nanoTime() - startNanos
+                warmUpTimeMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos)
+                PerformanceMonitor.record(PerformanceMetricType.TEMPLATE_WARM_UP, name, TimeUnit.NANOSECONDS.toMicros(elapsedNanos))
+                Logger.i("++ $name warm-up took ${warmUpTimeMillis}ms. stored templates=${store.size}")
+            }
+        })
+    }
+
+    fun get(key: String): MessageTemplate? {
+        parsedTemplates.get(key)?.let { return it }
+        val json = store.get(key) ?: return null
+        return try {
+            MessageTemplate.fromJson(json).also { parsedTemplates.put(key, it) }
+        } catch (e: Throwable) {
+            Logger.w(e)
+            store.remove(key)
+            null
+        }
+    }
+
+    /**
+     * Checks whether the template is stored without parsing it or waiting for the index. It's false until the index is loaded.
+     */
+    fun contains(key: String): Boolean = store.contains(key)
+
+    fun put(template: MessageTemplate) {
+        parsedTemplates.put(template.templateKey, template)
+        store.put(template.templateKey, template.toString())
+    }
+
+    fun clear() {
+        parsedTemplates.evictAll()
+        store.clear()
+    }
+
+    companion object {
+        private const val DEFAULT_MAX_PARSED_COUNT = 100
+    }
+}
@@ -0,0 +1,130 @@
+package com.sendbird.uikit.internal.singleton
+
+import com.sendbird.uikit.log.Logger
+import java.lang.ref.WeakReference
+import java.util.WeakHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Coalesces the template fetches of all [MessageTemplateMapper]s using the same [TemplateMapperDataProvider].
+ *
+ * The keys requested within [windowMillis] are fetched in one request of up to [MAX_KEY_COUNT] keys.
+ * A key which is already being fetched is not requested again, and the caller waits for the running request instead.
+ * The callbacks are invoked on the thread the request ran on, once all the requests covering the keys are finished.
+ */
+internal class TemplateFetchCoordinator(
+    dataProvider: TemplateMapperDataProvider,
+    private val windowMillis: Long = DEFAULT_WINDOW_MILLIS
+) {
+    // the coordinator is kept by the data provider in a weak map, so it must not hold the provider strongly.
+    private val dataProviderRef = WeakReference(dataProvider)
+
+    private class Batch {
+        val keys = LinkedHashSet<String>()
+        val callbacks = mutableListOf<() -> Unit>()
+        var isDispatched = false
+    }
+
+    private val lock = Any()
+    private var pendingBatch: Batch? = null
+    // the batches each key is waiting for or being fetched by.
+    private val inFlightBatches = HashMap<String, Batch>()
+
+    /**
+     * Fetches the templates of the [keys], and calls [onComplete] when they're fetched or failed to fetch.
+     * The result has to be checked with [TemplateMapperDataProvider.hasTemplate].
+     */
+    fun fetch(keys: Collection<String>, onComplete: () -> Unit) {
+        val fullBatches = mutableListOf<Batch>()
+        val hasNothingToWait = synchronized(lock) {
+            val waitingBatches = LinkedHashSet<Batch>()
+            for (key in keys) {
+                val inFlightBatch = inFlightBatches[key]
+                if (inFlightBatch != null) {
+                    waitingBatches.add(inFlightBatch)
+                    continue
+                }
+                val batch = pendingBatch ?: Batch().also {
+                    pendingBatch = it
+                    scheduler.schedule({ flush(it) }, windowMillis, TimeUnit.MILLISECONDS)
+                }
+                batch.keys.add(key)
+                inFlightBatches[key] = batch
+                waitingBatches.add(batch)
+                if (batch.keys.size >= MAX_KEY_COUNT) {
+                    pendingBatch = null
+                    fullBatches.add(batch)
+                }
+            }
+
+            if (waitingBatches.isNotEmpty()) {
+                val remaining = AtomicInteger(waitingBatches.size)
+                val callback = { if (remaining.decrementAndGet() == 0) onComplete() }
+                waitingBatches.forEach { it.callbacks.add(callback) }
+            }
+            waitingBatches.isEmpty()
+        }
+
+        fullBatches.forEach { dispatch(it) }
+        if (hasNothingToWait) onComplete()
+    }
+
+    private fun flush(batch: Batch) {
+        synchronized(lock) {
+            if (pendingBatch === batch) pendingBatch = null
+        }
+        dispatch(batch)
+    }
+
+    private fun dispatch(batch: Batch) {
+        synchronized(lock) {
+            if (batch.isDispatched) return
+            batch.isDispatched = true
+        }
+        fetchExecutor.execute {
+            try {
+                Logger.d(">> TemplateFetchCoordinator::dispatch() keys=${batch.keys.size}")
+                dataProviderRef.get()?.requestTemplateListBlocking(batch.keys.toList())
+            } catch (e: Exception) {
+                Logger.w(e)
+            }
+            val callbacks = synchronized(lock) {
+                batch.keys.forEach { key ->
+                    if (inFlightBatches[key] === batch) inFlightBatches.remove(key)
+                }
+                batch.callbacks.toList()
+            }
+            callbacks.forEach {
+                try {
+                    it()
+                } catch (e: Exception) {
+                    Logger.e(e)
+                }
+            }
+        }
+    }
+
+    companion object {
+        // the maximum number of the keys the server accepts in a request.
+        const val MAX_KEY_COUNT = 100
+        private const val DEFAULT_WINDOW_MILLIS = 50L
+
+        private val scheduler: ScheduledExecutorService by lazy { Executors.newSingleThreadScheduledExecutor() }
+        private val fetchExecutor: ExecutorService by lazy { Executors.newCachedThreadPool() }
+        private val coordinators = WeakHashMap<TemplateMapperDataProvider, TemplateFetchCoordinator>()
+
+        /**
+         * Returns the coordinator shared by the mappers using the [dataProvider].
+         */
+        @JvmStatic
+        fun of(dataProvider: TemplateMapperDataProvider): TemplateFetchCoordinator {
+            return synchronized(coordinators) {
+                coordinators.getOrPut(dataProvider) { TemplateFetchCoordinator(dataProvider) }
+            }
+        }
+    }
+}
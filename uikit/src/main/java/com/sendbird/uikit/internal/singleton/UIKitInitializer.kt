@@ -0,0 +1,86 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.os.SystemClock
+import com.sendbird.uikit.consts.InitStage
+import com.sendbird.uikit.log.Logger
+import java.util.EnumMap
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.FutureTask
+import java.util.concurrent.atomic.AtomicReferenceArray
+
+/**
+ * Runs the [InitStage]s of [com.sendbird.uikit.SendbirdUIKit.init] and keeps how long each of them took.
+ *
+ * A deferred stage runs on a background thread in the order it's started, and the subsystem it prepares [await]s it
+ * when it's used first. If the stage hasn't started yet by then, the caller runs it instead of waiting for the stages before it.
+ */
+internal object UIKitInitializer {
+    private val pendingStages = AtomicReferenceArray<FutureTask<Unit>?>(InitStage.values().size)
+    private val durations = ConcurrentHashMap<InitStage, Long>()
+    // the stage the current thread is running, so the subsystem doesn't wait for itself while it's prepared.
+    private val runningStage = ThreadLocal<InitStage>()
+    private val executor: ExecutorService by lazy { Executors.newSingleThreadExecutor() }
+
+    /**
+     * Runs the [block] of the [stage] right away, or on the background thread if [isDeferred] is true.
+     */
+    @JvmStatic
+    fun run(stage: InitStage, isDeferred: Boolean, block: Runnable) {
+        if (!isDeferred) {
+            measure(stage, block)
+            return
+        }
+        lateinit var task: FutureTask<Unit>
+        task = FutureTask<Unit> {
+            try {
+                measure(stage, block)
+            } catch (e: Exception) {
+                Logger.w(e)
+            } finally {
+                // the stage may have been started again by another init.
+                pendingStages.compareAndSet(stage.ordinal, task, null)
+            }
+        }
+        pendingStages.set(stage.ordinal, task)
+        executor.execute(task)
+    }
+
+    /**
+     * Waits until the [stage] is finished. It's returned right away if the stage isn't deferred or is finished already.
+     */
+    @JvmStatic
+    fun await(stage: InitStage) {
+        val task = pendingStages.get(stage.ordinal) ?: return
+        if (runningStage.get() == stage) return
+        // runs the stage on this thread if the background thread hasn't started it yet. It's ignored otherwise.
+        task.run()
+        try {
+            task.get()
+        } catch (e: InterruptedException) {
+            Thread.currentThread().interrupt()
+        }
+    }
+
+    /**
+     * Returns the durations of the finished stages in milliseconds, in the order of [InitStage].
+     */
+    @JvmStatic
+    fun getDurations(): Map<InitStage, Long> = EnumMap<InitStage, Long>(InitStage::class.java).apply { putAll(durations) }
+
+    private fun measure(stage: InitStage, block: Runnable) {
+        val startedAt = SystemClock.elapsedRealtime()
+        // a stage can run another one inline, so the outer stage is restored afterwards.
+        val outerStage = runningStage.get()
+        runningStage.set(stage)
+        try {
+            block.run()
+        } finally {
+            if (outerStage != null) runningStage.set(outerStage) else runningStage.remove()
+            val duration = SystemClock.elapsedRealtime() - startedAt
+            durations[stage] = duration
+            Logger.i("++ UIKitInitializer::measure() stage=$stage took ${duration}ms on ${Thread.currentThread().name}")
+        }
+    }
+}
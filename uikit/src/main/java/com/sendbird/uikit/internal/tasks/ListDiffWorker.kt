@@ -0,0 +1,141 @@
+package com.sendbird.uikit.internal.tasks
+
+import com.sendbird.uikit.log.Logger
+import java.util.ArrayDeque
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Runs the list submissions of an adapter in order on a thread pool shared by all list adapters.
+ *
+ * Every submission gets a generation number. When a submission is about to run and a newer one has already been submitted,
+ * it's skipped without calculating the diff, and its callback is handed over to the newer submission.
+ * The callbacks have to be invoked in order after the list of the newer submission is applied.
+ *
+ * @param C The type of the callback of a submission.
+ */
+internal class ListDiffWorker<C : Any> {
+    fun interface Job<C> {
+        /**
+         * Calculates the diff and applies the new list.
+         *
+         * @param skippedCallbacks The callbacks of the submissions skipped in favor of this one, in the submitted order.
+         */
+        fun run(skippedCallbacks: List<C>)
+    }
+
+    private val lock = Any()
+    private val queue = ArrayDeque<Runnable>()
+    private val skippedCallbacks = ArrayList<C>()
+    private var generation = 0L
+    private var isDraining = false
+
+    /**
+     * Submits a new list. Submissions which are not started yet are skipped.
+     *
+     * @param callback The callback of the submission, which will be passed to the next submission if this one is skipped.
+     * @param job The job to calculate the diff and apply the new list.
+     */
+    fun submit(callback: C?, job: Job<C>) {
+        val shouldStartDraining = synchronized(lock) {
+            val submitted = ++generation
+            queue.add(Runnable { runSubmission(submitted, callback, job) })
+            !isDraining.also { isDraining = true }
+        }
+        if (shouldStartDraining) {
+            sharedExecutor.execute { drain() }
+        }
+    }
+
+    /**
+     * Runs the [job] on the calling thread if no submission is waiting or running, so the new list is applied
+     * before this returns. The submissions made after it are applied after it.
+     *
+     * @return `true` if the [job] has run, `false` if it has to be submitted instead.
+     */
+    fun runNowIfIdle(job: Job<C>): Boolean {
+        val callbacks: List<C> = synchronized(lock) {
+            if (isDraining) return false
+            // the submissions made while the job runs wait for it.
+            isDraining = true
+            ++generation
+            ArrayList(skippedCallbacks).also { skippedCallbacks.clear() }
+        }
+        try {
+            job.run(callbacks)
+        } finally {
+            val shouldStartDraining = synchronized(lock) { queue.isNotEmpty().also { isDraining = it } }
+            if (shouldStartDraining) {
+                sharedExecutor.execute { drain() }
+            }
+        }
+        return true
+    }
+
+    /**
+     * Cancels the submissions which are not started yet, so the thread the worker uses is returned to the shared pool
+     * as soon as the running one finishes. The worker can still be used after it.
+     */
+    fun release() {
+        Logger.d(">> ListDiffWorker::release()")
+        synchronized(lock) {
+            queue.clear()
+            skippedCallbacks.clear()
+        }
+    }
+
+    private fun runSubmission(submitted: Long, callback: C?, job: Job<C>) {
+        val callbacks: List<C> = synchronized(lock) {
+            if (submitted != generation) {
+                Logger.d("-- ListDiffWorker skipped a stale submission. generation=$submitted, latest=$generation")
+                callback?.let { skippedCallbacks.add(it) }
+                return
+            }
+            ArrayList(skippedCallbacks).also { skippedCallbacks.clear() }
+        }
+        job.run(callbacks)
+    }
+
+    private fun drain() {
+        while (true) {
+            val next = synchronized(lock) {
+                val polled = queue.poll()
+                if (polled == null) isDraining = false
+                polled
+            } ?: return
+            try {
+                next.run()
+            } catch (e: Exception) {
+                Logger.e(e)
+            }
+        }
+    }
+
+    companion object {
+        private const val KEEP_ALIVE_SECONDS = 30L
+        private val POOL_SIZE = Runtime.getRuntime().availableProcessors().coerceIn(2, 4)
+
+        /**
+         * The pool shared by all [ListDiffWorker]. The idle threads are terminated after [KEEP_ALIVE_SECONDS].
+         */
+        private val sharedExecutor: ExecutorService by lazy {
+            ThreadPoolExecutor(
+                POOL_SIZE,
+                POOL_SIZE,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                LinkedBlockingQueue(),
+                object : ThreadFactory {
+                    private val count = AtomicInteger()
+                    override fun newThread(runnable: Runnable): Thread {
+                        return Thread(runnable, "sb_uikit_list_diff_${count.incrementAndGet()}")
+                    }
+                }
+            ).apply { allowCoreThreadTimeOut(true) }
+        }
+    }
+}
@@ -18,6 +18,7 @@ import com.sendbird.uikit.internal.model.template_messages.KeySet
 import com.sendbird.uikit.internal.model.template_messages.TemplateParamsCreator
 import com.sendbird.uikit.internal.model.templates.MessageTemplateStatus
 import com.sendbird.uikit.internal.singleton.NotificationChannelManager
+import com.sendbird.uikit.internal.utils.TemplateViewCachePool
 import com.sendbird.uikit.log.Logger
 import com.sendbird.uikit.model.Action
 
@@ -26,6 +27,9 @@ internal abstract class BaseNotificationView @JvmOverloads internal constructor(
     attrs: AttributeSet? = null,
     defStyle: Int = 0
 ) : BaseMessageView(context, attrs, defStyle) {
+    var templateViewCachePool: TemplateViewCachePool? = null
+    // the template view taken from the pool, which is returned to the pool when it's replaced.
+    private var cachedView: Pair<String, View>? = null
 
     internal fun makeTemplateView(
         message: BaseMessage,
@@ -38,6 +42,7 @@ internal abstract class BaseNotificationView @JvmOverloads internal constructor(
         val templateVariables = notificationData?.templateVariables ?: mapOf()
         val layout: View = try {
             parentView.removeAllViews()
+            recycleCachedView()
 
             if (templateKey.isEmpty()) {
                 throw IllegalArgumentException("this message must have template key.")
@@ -45,6 +50,12 @@ internal abstract class BaseNotificationView @JvmOverloads internal constructor(
             message.isContentDisplayed = true
             when (message.messageTemplateStatus) {
                 MessageTemplateStatus.CACHED -> {
+                    val cacheKey = "notification_${message.messageId}_${message.updatedAt}_$themeMode"
+                    templateViewCachePool?.obtain(cacheKey)?.let {
+                        cachedView = cacheKey to it
+                        parentView.addView(it)
+                        return
+                    }
                     val templateParams = NotificationChannelManager.parseTemplate(templateKey, themeMode, templateVariables)
                     ViewGenerator.inflateViews(
                         context,
@@ -63,6 +74,7 @@ internal abstract class BaseNotificationView @JvmOverloads internal constructor(
                         }
                     ).also {
                         message.isContentDisplayed = true
+                        if (templateViewCachePool != null) cachedView = cacheKey to it
                     }
                 }
                 MessageTemplateStatus.LOADING -> TemplateParamsCreator.createNotificationLoadingView(context, !message.isFeedChannel, themeMode)
@@ -77,6 +89,12 @@ internal abstract class BaseNotificationView @JvmOverloads internal constructor(
         parentView.addView(layout)
     }
 
+    private fun recycleCachedView() {
+        val pool = templateViewCachePool
+        cachedView?.let { (cacheKey, view) -> pool?.recycle(cacheKey, view) }
+        cachedView = null
+    }
+
     private fun createFallbackNotification(
         message: BaseMessage,
         themeMode: NotificationThemeMode,
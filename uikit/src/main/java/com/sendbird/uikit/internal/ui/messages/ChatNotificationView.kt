@@ -67,9 +67,8 @@ internal class ChatNotificationView @JvmOverloads internal constructor(
 
     fun drawMessage(channel: GroupChannel, message: BaseMessage, config: NotificationConfig? = null) {
         binding.tvLabel.text = MessageUtils.getNotificationLabel(message)
-        binding.tvLabel.visibility = if (channel.isTemplateLabelEnabled) View.VISIBLE else View.INVISIBLE
         binding.tvSentAt.text = DateUtils.formatDateTime(context, message.createdAt)
-        binding.ivProfileView.loadCircle(channel.coverUrl)
+        drawChannel(channel)
 
         // apply config
         config?.let {
@@ -105,4 +104,12 @@ internal class ChatNotificationView @JvmOverloads internal constructor(
             onNotificationTemplateActionHandler
         )
     }
+
+    /**
+     * Draws the values of the [channel] without drawing the message.
+     */
+    fun drawChannel(channel: GroupChannel) {
+        binding.tvLabel.visibility = if (channel.isTemplateLabelEnabled) View.VISIBLE else View.INVISIBLE
+        binding.ivProfileView.loadCircle(channel.coverUrl)
+    }
 }
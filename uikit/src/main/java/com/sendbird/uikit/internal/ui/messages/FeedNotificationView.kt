@@ -13,6 +13,7 @@ import com.sendbird.uikit.R
 import com.sendbird.uikit.databinding.SbViewFeedNotificationComponentBinding
 import com.sendbird.uikit.interfaces.OnNotificationTemplateActionHandler
 import com.sendbird.uikit.internal.extensions.addRipple
+import com.sendbird.uikit.internal.extensions.hasCategoryFilter
 import com.sendbird.uikit.internal.extensions.setAppearance
 import com.sendbird.uikit.internal.extensions.setTypeface
 import com.sendbird.uikit.internal.model.notifications.NotificationConfig
@@ -75,27 +76,9 @@ internal class FeedNotificationView @JvmOverloads internal constructor(
     @JvmOverloads
     fun drawMessage(message: BaseMessage, channel: FeedChannel, lastSeen: Long, config: NotificationConfig? = null) {
         binding.tvLabel.text = MessageUtils.getNotificationLabel(message)
-        binding.tvLabel.visibility = if (channel.isTemplateLabelEnabled) View.VISIBLE else View.INVISIBLE
         binding.tvSentAt.text = DateUtils.formatDateTime(context, message.createdAt)
-        binding.ivUnreadIndicator.visibility =
-            if (message.createdAt > lastSeen) View.VISIBLE else View.GONE
-
-        // UI padding is different when category filter is enabled
-        if (channel.isCategoryFilterEnabled && channel.notificationCategories.isNotEmpty()) {
-            binding.root.setPaddingRelative(
-                binding.root.paddingStart,
-                0,
-                binding.root.paddingEnd,
-                context.resources.getDimensionPixelSize(R.dimen.sb_size_16)
-            )
-        } else {
-            binding.root.setPaddingRelative(
-                binding.root.paddingStart,
-                context.resources.getDimensionPixelSize(R.dimen.sb_size_8),
-                binding.root.paddingEnd,
-                context.resources.getDimensionPixelSize(R.dimen.sb_size_8)
-            )
-        }
+        drawNewBadge(message, lastSeen)
+        drawChannel(channel)
 
         // apply config
         config?.let {
@@ -137,4 +120,36 @@ internal class FeedNotificationView @JvmOverloads internal constructor(
             onNotificationTemplateActionHandler
         )
     }
+
+    /**
+     * Draws whether the [message] is new without drawing the rest of the message.
+     */
+    fun drawNewBadge(message: BaseMessage, lastSeen: Long) {
+        binding.ivUnreadIndicator.visibility =
+            if (message.createdAt > lastSeen) View.VISIBLE else View.GONE
+    }
+
+    /**
+     * Draws the values of the [channel] without drawing the message.
+     */
+    fun drawChannel(channel: FeedChannel) {
+        binding.tvLabel.visibility = if (channel.isTemplateLabelEnabled) View.VISIBLE else View.INVISIBLE
+
+        // UI padding is different when category filter is enabled
+        if (channel.hasCategoryFilter) {
+            binding.root.setPaddingRelative(
+                binding.root.paddingStart,
+                0,
+                binding.root.paddingEnd,
+                context.resources.getDimensionPixelSize(R.dimen.sb_size_16)
+            )
+        } else {
+            binding.root.setPaddingRelative(
+                binding.root.paddingStart,
+                context.resources.getDimensionPixelSize(R.dimen.sb_size_8),
+                binding.root.paddingEnd,
+                context.resources.getDimensionPixelSize(R.dimen.sb_size_8)
+            )
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.sendbird.uikit.internal.ui.messages
 
 import android.content.Context
 import android.util.AttributeSet
+import android.view.View
 import androidx.core.content.ContextCompat
 import com.sendbird.message.template.ViewGenerator
 import com.sendbird.message.template.interfaces.OnViewLifecycleHandler
@@ -20,6 +21,9 @@ internal class MessageTemplateView @JvmOverloads internal constructor(
     autoAdjustHeightWhenInvisible: Boolean = true,
 ) : RoundCornerLayout(context, attrs, defStyle, autoAdjustHeightWhenInvisible) {
     var maxWidth: Int = Int.MAX_VALUE
+    // the view drawn with the cache key is returned to the pool when it's replaced.
+    private var cachedView: Triple<String, View, TemplateViewCachePool>? = null
+
     init {
         this.setBackgroundColor(ContextCompat.getColor(context, android.R.color.transparent))
         this.radius = 0f
@@ -43,10 +47,11 @@ internal class MessageTemplateView @JvmOverloads internal constructor(
             this.removeAllViews()
         }
 
-        if (cacheKey != null) {
-            val cachedView = viewCachePool?.getScrappedView(cacheKey)
-            if (cachedView != null) {
-                this.addView(cachedView)
+        if (cacheKey != null && viewCachePool != null) {
+            val scrappedView = viewCachePool.obtain(cacheKey)
+            if (scrappedView != null) {
+                this.addView(scrappedView)
+                holdCachedView(cacheKey, scrappedView, viewCachePool)
                 return
             }
         }
@@ -58,8 +63,22 @@ internal class MessageTemplateView @JvmOverloads internal constructor(
             val fallbackParams = TemplateParamsCreator.createFallbackViewParams(context, errorMessage)
             ViewGenerator.inflateViews(context, theme, fallbackParams, onViewCreated, onChildViewCreated)
         }
-        if (cacheKey != null) viewCachePool?.cacheView(cacheKey, view)
         this.addView(view)
+        if (cacheKey != null && viewCachePool != null) holdCachedView(cacheKey, view, viewCachePool)
+    }
+
+    private fun holdCachedView(cacheKey: String, view: View, viewCachePool: TemplateViewCachePool) {
+        cachedView = Triple(cacheKey, view, viewCachePool)
+    }
+
+    override fun removeAllViews() {
+        super.removeAllViews()
+        recycleCachedView()
+    }
+
+    private fun recycleCachedView() {
+        cachedView?.let { (cacheKey, view, viewCachePool) -> viewCachePool.recycle(cacheKey, view) }
+        cachedView = null
     }
 
     override fun onMeasure(widthMeasureSpec: Int, heightMeasureSpec: Int) {
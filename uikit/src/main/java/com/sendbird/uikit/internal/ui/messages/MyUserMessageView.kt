@@ -110,8 +110,6 @@ internal class MyUserMessageView @JvmOverloads internal constructor(
     }
 
     override fun drawMessage(channel: GroupChannel, message: BaseMessage, params: MessageListUIParams) {
-        val messageGroupType = params.messageGroupType
-        val isSent = message.sendingStatus == SendingStatus.SUCCEEDED
         val enableOgTag = message.ogMetaData != null && ChannelConfig.getEnableOgTag(params.channelConfig)
         val enableMention = params.channelConfig.enableMention
         val enableReactions =
@@ -122,8 +120,7 @@ internal class MyUserMessageView @JvmOverloads internal constructor(
         binding.rvEmojiReactionList.visibility = if (enableReactions) VISIBLE else GONE
         binding.ogtagBackground.visibility = if (enableOgTag) VISIBLE else GONE
         binding.ovOgtag.visibility = if (enableOgTag) VISIBLE else GONE
-        binding.tvSentAt.visibility =
-            if (isSent && (messageGroupType === MessageGroupType.GROUPING_TYPE_TAIL || messageGroupType === MessageGroupType.GROUPING_TYPE_SINGLE)) VISIBLE else GONE
+        drawMessageGroupType(message, params)
         binding.ivStatus.drawStatus(message, channel, params.shouldUseMessageReceipt())
 
         messageUIConfig?.let {
@@ -156,11 +153,6 @@ internal class MyUserMessageView @JvmOverloads internal constructor(
         ViewUtils.drawReactionEnabled(binding.rvEmojiReactionList, channel, params.channelConfig)
         ViewUtils.drawSentAt(binding.tvSentAt, message, messageUIConfig)
 
-        val paddingTop =
-            resources.getDimensionPixelSize(if (messageGroupType === MessageGroupType.GROUPING_TYPE_TAIL || messageGroupType === MessageGroupType.GROUPING_TYPE_BODY) R.dimen.sb_size_1 else R.dimen.sb_size_8)
-        val paddingBottom =
-            resources.getDimensionPixelSize(if (messageGroupType === MessageGroupType.GROUPING_TYPE_HEAD || messageGroupType === MessageGroupType.GROUPING_TYPE_BODY) R.dimen.sb_size_1 else R.dimen.sb_size_8)
-        binding.root.setPaddingRelative(binding.root.paddingStart, paddingTop, binding.root.paddingEnd, paddingBottom)
         if (params.shouldUseQuotedView()) {
             ViewUtils.drawQuotedMessage(
                 binding.quoteReplyPanel,
@@ -174,4 +166,20 @@ internal class MyUserMessageView @JvmOverloads internal constructor(
         }
         ViewUtils.drawThreadInfo(binding.threadInfo, message, params)
     }
+
+    /**
+     * Draws only the sent time and the paddings, which depend on the message group type.
+     */
+    fun drawMessageGroupType(message: BaseMessage, params: MessageListUIParams) {
+        val messageGroupType = params.messageGroupType
+        val isSent = message.sendingStatus == SendingStatus.SUCCEEDED
+        binding.tvSentAt.visibility =
+            if (isSent && (messageGroupType === MessageGroupType.GROUPING_TYPE_TAIL || messageGroupType === MessageGroupType.GROUPING_TYPE_SINGLE)) VISIBLE else GONE
+
+        val paddingTop =
+            resources.getDimensionPixelSize(if (messageGroupType === MessageGroupType.GROUPING_TYPE_TAIL || messageGroupType === MessageGroupType.GROUPING_TYPE_BODY) R.dimen.sb_size_1 else R.dimen.sb_size_8)
+        val paddingBottom =
+            resources.getDimensionPixelSize(if (messageGroupType === MessageGroupType.GROUPING_TYPE_HEAD || messageGroupType === MessageGroupType.GROUPING_TYPE_BODY) R.dimen.sb_size_1 else R.dimen.sb_size_8)
+        binding.root.setPaddingRelative(binding.root.paddingStart, paddingTop, binding.root.paddingEnd, paddingBottom)
+    }
 }
@@ -8,6 +8,8 @@ import androidx.annotation.VisibleForTesting
 import com.sendbird.android.channel.TemplateContainerOptions
 import com.sendbird.android.message.BaseMessage
 import com.sendbird.android.message.FeedbackStatus
+import com.sendbird.message.template.ViewGenerator
+import com.sendbird.message.template.model.ViewParams
 import com.sendbird.uikit.R
 import com.sendbird.uikit.SendbirdUIKit
 import com.sendbird.uikit.consts.ReplyType
@@ -18,6 +20,7 @@ import com.sendbird.uikit.internal.extensions.*
 import com.sendbird.uikit.internal.interfaces.OnFeedbackRatingClickListener
 import com.sendbird.uikit.internal.model.template_messages.TemplateParamsCreator
 import com.sendbird.uikit.internal.model.templates.MessageTemplateStatus
+import com.sendbird.uikit.internal.singleton.MessageTemplateParamsCache
 import com.sendbird.uikit.internal.utils.TemplateViewCachePool
 import com.sendbird.uikit.log.Logger
 import com.sendbird.uikit.model.Action
@@ -132,7 +135,7 @@ internal class OtherTemplateMessageView @JvmOverloads internal constructor(
             }
             MessageTemplateStatus.CACHED -> {
                 // Params could be null if it's failed to parse template (e.g. there's a parent template but no child templates)
-                val params = message.messageTemplateParams ?: run {
+                val params = message.messageTemplateParams ?: MessageTemplateParamsCache.get(message) ?: run {
                     message.saveParamsFromTemplate()
                     message.messageTemplateParams
                 }
@@ -142,22 +145,47 @@ internal class OtherTemplateMessageView @JvmOverloads internal constructor(
         }
 
         val theme = SendbirdUIKit.getDefaultThemeMode().toTemplateTheme()
-        val cacheKey = "${message.messageId}_${message.messageTemplateStatus}"
+        val cacheKey = createCacheKey(message)
         binding.messageTemplateView.draw(
             params,
             theme,
             cacheKey,
             viewCachePool,
-            onViewCreated = { v, p ->
-                p.action?.register(v, message) { view, action, message ->
-                    handler?.onHandleAction(view, Action.from(action), message)
-                }
-            },
-            onChildViewCreated = { v, p ->
-                p.action?.register(v, message) { view, action, message ->
-                    handler?.onHandleAction(view, Action.from(action), message)
-                }
-            }
+            onViewCreated = { v, p -> registerAction(v, p, message, handler) },
+            onChildViewCreated = { v, p -> registerAction(v, p, message, handler) }
         )
     }
+
+    companion object {
+        @JvmStatic
+        fun createCacheKey(message: BaseMessage): String = "${message.messageId}_${message.messageTemplateStatus}"
+
+        /**
+         * Creates the template view of the [message] before it's displayed, so it can be put into the [TemplateViewCachePool].
+         *
+         * @return The template view, or null if the layout model of the message isn't parsed yet
+         */
+        @JvmStatic
+        fun createTemplateViewAhead(
+            context: Context,
+            message: BaseMessage,
+            handler: OnMessageTemplateActionHandler?
+        ): View? {
+            if (message.messageTemplateStatus != MessageTemplateStatus.CACHED) return null
+            val params = message.messageTemplateParams ?: MessageTemplateParamsCache.get(message) ?: return null
+            return ViewGenerator.inflateViews(
+                context,
+                SendbirdUIKit.getDefaultThemeMode().toTemplateTheme(),
+                params,
+                onViewCreated = { v, p -> registerAction(v, p, message, handler) },
+                onChildViewCreated = { v, p -> registerAction(v, p, message, handler) }
+            )
+        }
+
+        private fun registerAction(view: View, params: ViewParams, message: BaseMessage, handler: OnMessageTemplateActionHandler?) {
+            params.action?.register(view, message) { v, action, message ->
+                handler?.onHandleAction(v, Action.from(action), message)
+            }
+        }
+    }
 }
@@ -131,28 +131,18 @@ internal class OtherUserMessageView @JvmOverloads internal constructor(
     }
 
     override fun drawMessage(channel: GroupChannel, message: BaseMessage, params: MessageListUIParams) {
-        val messageGroupType = params.messageGroupType
-        val isSent = message.sendingStatus == SendingStatus.SUCCEEDED
         val enableOgTag = message.ogMetaData != null && ChannelConfig.getEnableOgTag(params.channelConfig)
         val enableMention = params.channelConfig.enableMention
         val enableReactions =
             message.reactions.isNotEmpty() && ChannelConfig.getEnableReactions(params.channelConfig, channel)
         val enableMarkdown = params.channelConfig.enableMarkdownForUserMessage
-        val showProfile =
-            messageGroupType == MessageGroupType.GROUPING_TYPE_SINGLE || messageGroupType == MessageGroupType.GROUPING_TYPE_TAIL
-        val showNickname =
-            (messageGroupType == MessageGroupType.GROUPING_TYPE_SINGLE || messageGroupType == MessageGroupType.GROUPING_TYPE_HEAD) &&
-                (!params.shouldUseQuotedView() || !MessageUtils.hasParentMessage(message))
 
-        binding.ivProfileView.visibility = if (showProfile) VISIBLE else INVISIBLE
-        binding.tvNickname.visibility = if (showNickname) VISIBLE else GONE
+        drawMessageGroupType(message, params)
         binding.newLineView.visibility = if (message.isNewLineMessage) VISIBLE else GONE
         binding.emojiReactionListBackground.visibility = if (enableReactions) VISIBLE else GONE
         binding.rvEmojiReactionList.visibility = if (enableReactions) VISIBLE else GONE
         binding.ogtagBackground.visibility = if (enableOgTag) VISIBLE else GONE
         binding.ovOgtag.visibility = if (enableOgTag) VISIBLE else GONE
-        binding.tvSentAt.visibility =
-            if (isSent && (messageGroupType == MessageGroupType.GROUPING_TYPE_TAIL || messageGroupType == MessageGroupType.GROUPING_TYPE_SINGLE)) VISIBLE else INVISIBLE
 
         messageUIConfig?.let {
             it.otherEditedTextMarkUIConfig.mergeFromTextAppearance(context, editedAppearance)
@@ -195,11 +185,6 @@ internal class OtherUserMessageView @JvmOverloads internal constructor(
 
         ViewUtils.drawSentAt(binding.tvSentAt, message, messageUIConfig)
 
-        val paddingTop =
-            resources.getDimensionPixelSize(if (messageGroupType == MessageGroupType.GROUPING_TYPE_TAIL || messageGroupType == MessageGroupType.GROUPING_TYPE_BODY) R.dimen.sb_size_1 else R.dimen.sb_size_8)
-        val paddingBottom =
-            resources.getDimensionPixelSize(if (messageGroupType == MessageGroupType.GROUPING_TYPE_HEAD || messageGroupType == MessageGroupType.GROUPING_TYPE_BODY) R.dimen.sb_size_1 else R.dimen.sb_size_8)
-        binding.root.setPaddingRelative(binding.root.paddingStart, paddingTop, binding.root.paddingEnd, paddingBottom)
         if (params.shouldUseQuotedView()) {
             ViewUtils.drawQuotedMessage(
                 binding.quoteReplyPanel,
@@ -237,4 +222,28 @@ internal class OtherUserMessageView @JvmOverloads internal constructor(
             suggestedRepliesViewStub?.visibility = View.GONE
         }
     }
+
+    /**
+     * Draws only the profile, the nickname, the sent time and the paddings, which depend on the message group type.
+     */
+    fun drawMessageGroupType(message: BaseMessage, params: MessageListUIParams) {
+        val messageGroupType = params.messageGroupType
+        val isSent = message.sendingStatus == SendingStatus.SUCCEEDED
+        val showProfile =
+            messageGroupType == MessageGroupType.GROUPING_TYPE_SINGLE || messageGroupType == MessageGroupType.GROUPING_TYPE_TAIL
+        val showNickname =
+            (messageGroupType == MessageGroupType.GROUPING_TYPE_SINGLE || messageGroupType == MessageGroupType.GROUPING_TYPE_HEAD) &&
+                (!params.shouldUseQuotedView() || !MessageUtils.hasParentMessage(message))
+
+        binding.ivProfileView.visibility = if (showProfile) VISIBLE else INVISIBLE
+        binding.tvNickname.visibility = if (showNickname) VISIBLE else GONE
+        binding.tvSentAt.visibility =
+            if (isSent && (messageGroupType == MessageGroupType.GROUPING_TYPE_TAIL || messageGroupType == MessageGroupType.GROUPING_TYPE_SINGLE)) VISIBLE else INVISIBLE
+
+        val paddingTop =
+            resources.getDimensionPixelSize(if (messageGroupType == MessageGroupType.GROUPING_TYPE_TAIL || messageGroupType == MessageGroupType.GROUPING_TYPE_BODY) R.dimen.sb_size_1 else R.dimen.sb_size_8)
+        val paddingBottom =
+            resources.getDimensionPixelSize(if (messageGroupType == MessageGroupType.GROUPING_TYPE_HEAD || messageGroupType == MessageGroupType.GROUPING_TYPE_BODY) R.dimen.sb_size_1 else R.dimen.sb_size_8)
+        binding.root.setPaddingRelative(binding.root.paddingStart, paddingTop, binding.root.paddingEnd, paddingBottom)
+    }
 }
@@ -11,6 +11,8 @@ import com.sendbird.android.message.FileMessage
 import com.sendbird.uikit.R
 import com.sendbird.uikit.databinding.SbViewVoiceMessageBinding
 import com.sendbird.uikit.internal.extensions.setAppearance
+import com.sendbird.uikit.internal.model.VoiceFilePrefetcher
+import com.sendbird.uikit.internal.model.VoiceMetadataCache
 import com.sendbird.uikit.internal.model.VoicePlayer
 import com.sendbird.uikit.internal.model.VoicePlayerManager
 import com.sendbird.uikit.log.Logger
@@ -25,7 +27,9 @@ internal class VoiceMessageView @JvmOverloads internal constructor(
     private val binding: SbViewVoiceMessageBinding
     private val onUpdateListener: VoicePlayer.OnUpdateListener
     private val onProgressUpdateListener: VoicePlayer.OnProgressUpdateListener
+    private val onMetadataUpdateListener: VoiceMetadataCache.OnMetadataUpdateListener
     private var key: String? = null
+    private var message: FileMessage? = null
     private var duration: Int = 0
 
     init {
@@ -55,6 +59,14 @@ internal class VoiceMessageView @JvmOverloads internal constructor(
                     ViewUtils.drawVoicePlayerProgress(binding.voiceProgressView, milliseconds, duration)
                 }
             }
+            onMetadataUpdateListener = VoiceMetadataCache.OnMetadataUpdateListener { metadataKey, metadata ->
+                val message = this@VoiceMessageView.message ?: return@OnMetadataUpdateListener
+                if (metadataKey != VoiceMetadataCache.createKey(message)) return@OnMetadataUpdateListener
+                binding.voiceProgressView.amplitudes = metadata.amplitudes
+                if (metadata.duration == duration) return@OnMetadataUpdateListener
+                duration = metadata.duration
+                key?.let { drawVoiceMessage(it) }
+            }
         } finally {
             a.recycle()
         }
@@ -97,6 +109,9 @@ internal class VoiceMessageView @JvmOverloads internal constructor(
     override fun onAttachedToWindow() {
         super.onAttachedToWindow()
         Logger.i("_________VoiceMessageView::onAttachedToWindow()")
+        VoiceMetadataCache.addOnMetadataUpdateListener(onMetadataUpdateListener)
+        // the metadata may have been updated while the view was bound ahead.
+        message?.let { drawMetadata(it) }
         key?.let {
             drawVoiceMessage(it)
         }
@@ -105,6 +120,8 @@ internal class VoiceMessageView @JvmOverloads internal constructor(
     override fun onDetachedFromWindow() {
         super.onDetachedFromWindow()
         Logger.i("_________VoiceMessageView::onDetachedFromWindow()")
+        VoiceMetadataCache.removeOnMetadataUpdateListener(onMetadataUpdateListener)
+        message?.let { VoiceFilePrefetcher.cancel(it) }
         key?.let {
             VoicePlayerManager.removeOnUpdateListener(it, onUpdateListener)
             VoicePlayerManager.removeOnProgressListener(it, onProgressUpdateListener)
@@ -115,7 +132,9 @@ internal class VoiceMessageView @JvmOverloads internal constructor(
         Logger.i("_________VoiceMessageView::drawVoiceMessage()")
         val key = MessageUtils.getVoiceMessageKey(fileMessage)
         this@VoiceMessageView.key = key
-        duration = MessageUtils.extractDuration(fileMessage)
+        this@VoiceMessageView.message = fileMessage
+        drawMetadata(fileMessage)
+        VoiceFilePrefetcher.prefetch(context, fileMessage)
         binding.ibtnPlay.setOnClickListener {
             VoicePlayerManager.play(context, key, fileMessage, onUpdateListener, onProgressUpdateListener)
         }
@@ -125,6 +144,12 @@ internal class VoiceMessageView @JvmOverloads internal constructor(
         drawVoiceMessage(key)
     }
 
+    private fun drawMetadata(fileMessage: FileMessage) {
+        val metadata = VoiceMetadataCache.get(context, fileMessage)
+        duration = metadata.duration
+        binding.voiceProgressView.amplitudes = metadata.amplitudes
+    }
+
     private fun drawVoiceMessage(key: String) {
         if (VoicePlayerManager.getCurrentKey() == key) {
             VoicePlayerManager.addOnUpdateListener(key, onUpdateListener)
@@ -20,14 +20,16 @@ import com.sendbird.uikit.interfaces.OnItemLongClickListener
 import com.sendbird.uikit.interfaces.OnMessageListUpdateHandler
 import com.sendbird.uikit.interfaces.OnNotificationTemplateActionHandler
 import com.sendbird.uikit.internal.model.NotificationDiffCallback
+import com.sendbird.uikit.internal.model.NotificationPayload
 import com.sendbird.uikit.internal.model.notifications.NotificationConfig
+import com.sendbird.uikit.internal.tasks.ListDiffWorker
 import com.sendbird.uikit.internal.ui.viewholders.ChatNotificationViewHolder
 import com.sendbird.uikit.internal.ui.viewholders.NotificationTimelineViewHolder
 import com.sendbird.uikit.internal.ui.viewholders.NotificationViewHolder
+import com.sendbird.uikit.internal.utils.TemplateViewCachePool
 import com.sendbird.uikit.model.TimelineMessage
 import java.util.Collections
 import java.util.concurrent.CountDownLatch
-import java.util.concurrent.Executors
 
 internal class ChatNotificationListAdapter(
     private var channel: GroupChannel,
@@ -35,8 +37,8 @@ internal class ChatNotificationListAdapter(
 ) : RecyclerView.Adapter<NotificationViewHolder>() {
     private var messageList: List<BaseMessage> = listOf()
 
-    // the worker must be a single thread.
-    private val differWorker by lazy { Executors.newSingleThreadExecutor() }
+    private val differWorker = ListDiffWorker<OnMessageListUpdateHandler>()
+    private var templateViewCachePool: TemplateViewCachePool? = null
     var onMessageTemplateActionHandler: OnNotificationTemplateActionHandler? = null
     var onItemClickListener: OnItemClickListener<BaseMessage>? = null
     var onItemLongClickListener: OnItemLongClickListener<BaseMessage>? = null
@@ -63,6 +65,8 @@ internal class ChatNotificationListAdapter(
         }
         return ChatNotificationViewHolder(SbViewChatNotificationBinding.inflate(inflater, parent, false)).apply {
             binding.chatNotification.onNotificationTemplateActionHandler = onMessageTemplateActionHandler
+            binding.chatNotification.templateViewCachePool = templateViewCachePool
+                ?: TemplateViewCachePool.of(parent.context).also { templateViewCachePool = it }
             binding.chatNotification.binding.contentPanel.setOnClickListener {
                 val position = this.bindingAdapterPosition
                 if (position == RecyclerView.NO_POSITION) return@setOnClickListener
@@ -92,6 +96,17 @@ internal class ChatNotificationListAdapter(
         holder.bind(channel, message, notificationConfig)
     }
 
+    /**
+     * Redraws only the parts of the item the [NotificationPayload]s point, or the whole item if there's any other payload.
+     */
+    override fun onBindViewHolder(holder: NotificationViewHolder, position: Int, payloads: List<Any>) {
+        if (payloads.isEmpty() || payloads.any { it !is NotificationPayload }) {
+            super.onBindViewHolder(holder, position, payloads)
+            return
+        }
+        if (payloads.contains(NotificationPayload.CHANNEL)) holder.bindChannel(channel)
+    }
+
     /**
      * Return the view type of the [NotificationViewHolder].
      * Notification channel always returns [MessageType.VIEW_TYPE_CHAT_NOTIFICATION]
@@ -118,7 +133,7 @@ internal class ChatNotificationListAdapter(
     fun setItems(channel: GroupChannel, messageList: List<BaseMessage>, callback: OnMessageListUpdateHandler?) {
         val copiedChannel = GroupChannel.clone(channel)
         val copiedMessage = Collections.unmodifiableList(messageList)
-        differWorker.submit<Boolean> {
+        differWorker.submit(callback) { skippedCallbacks ->
             val lock = CountDownLatch(1)
             val diffCallback = NotificationDiffCallback(
                 this@ChatNotificationListAdapter.messageList,
@@ -127,19 +142,48 @@ internal class ChatNotificationListAdapter(
             val diffResult = DiffUtil.calculateDiff(diffCallback)
             SendbirdUIKit.runOnUIThread {
                 try {
+                    val oldChannel = this@ChatNotificationListAdapter.channel
                     this@ChatNotificationListAdapter.messageList = copiedMessage
                     this@ChatNotificationListAdapter.channel = copiedChannel
                     diffResult.dispatchUpdatesTo(this@ChatNotificationListAdapter)
+                    // the items kept by the diff are still drawn with the old channel.
+                    if (isChannelChanged(oldChannel, copiedChannel)) notifyItemRangeChanged(0, itemCount, NotificationPayload.CHANNEL)
+                    skippedCallbacks.forEach { it.onListUpdated(messageList) }
                     callback?.onListUpdated(messageList)
                 } finally {
                     lock.countDown()
                 }
             }
             lock.await()
-            true
         }
     }
 
+    /**
+     * Sets the latest channel, and redraws the values of the channel the items draw if they're changed.
+     *
+     * @param channel The latest group channel
+     * @since 3.27.0
+     */
+    fun updateChannel(channel: GroupChannel) {
+        val oldChannel = this.channel
+        this.channel = GroupChannel.clone(channel)
+        if (isChannelChanged(oldChannel, channel)) notifyItemRangeChanged(0, itemCount, NotificationPayload.CHANNEL)
+    }
+
+    // whether the values of the channel the items draw are changed.
+    private fun isChannelChanged(oldChannel: GroupChannel, newChannel: GroupChannel): Boolean {
+        return oldChannel.isTemplateLabelEnabled != newChannel.isTemplateLabelEnabled || oldChannel.coverUrl != newChannel.coverUrl
+    }
+
+    /**
+     * Cancels the lists which are not applied yet and releases the thread used to calculate the differences of the lists.
+     *
+     * @since 3.27.0
+     */
+    fun release() {
+        differWorker.release()
+    }
+
     /**
      * Returns the total number of items in the data set held by the adapter.
      *
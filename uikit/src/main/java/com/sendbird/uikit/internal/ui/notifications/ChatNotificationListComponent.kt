@@ -73,8 +73,11 @@ internal open class ChatNotificationListComponent @JvmOverloads constructor(
      * @since 3.5.0
      */
     fun notifyChannelChanged(channel: GroupChannel) {
+        val adapter = adapter
         if (adapter == null) {
-            adapter = ChatNotificationListAdapter(channel, uiConfig)
+            this.adapter = ChatNotificationListAdapter(channel, uiConfig)
+        } else {
+            adapter.updateChannel(channel)
         }
     }
 
@@ -96,6 +99,15 @@ internal open class ChatNotificationListComponent @JvmOverloads constructor(
         }
     }
 
+    /**
+     * Releases the resources the adapter uses to apply the notification list.
+     *
+     * @since 3.27.0
+     */
+    fun release() {
+        adapter?.release()
+    }
+
     /**
      * A collection of parameters, which can be applied to a default View. The values of params are not dynamically applied at runtime.
      * Params cannot be created directly, and it is automatically created together when components are created.
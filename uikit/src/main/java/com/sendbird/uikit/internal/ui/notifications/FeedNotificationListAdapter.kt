@@ -18,12 +18,15 @@ import com.sendbird.uikit.interfaces.OnItemClickListener
 import com.sendbird.uikit.interfaces.OnItemLongClickListener
 import com.sendbird.uikit.interfaces.OnMessageListUpdateHandler
 import com.sendbird.uikit.interfaces.OnNotificationTemplateActionHandler
+import com.sendbird.uikit.internal.extensions.hasCategoryFilter
 import com.sendbird.uikit.internal.model.NotificationDiffCallback
+import com.sendbird.uikit.internal.model.NotificationPayload
 import com.sendbird.uikit.internal.model.notifications.NotificationConfig
+import com.sendbird.uikit.internal.tasks.ListDiffWorker
 import com.sendbird.uikit.internal.ui.viewholders.FeedNotificationViewHolder
+import com.sendbird.uikit.internal.utils.TemplateViewCachePool
 import java.util.Collections
 import java.util.concurrent.CountDownLatch
-import java.util.concurrent.Executors
 
 internal class FeedNotificationListAdapter(
     private var channel: FeedChannel,
@@ -33,8 +36,8 @@ internal class FeedNotificationListAdapter(
     private var prevLastSeenAt = 0L
     private var currentLastSeenAt: Long = 0
 
-    // the worker must be a single thread.
-    private val dataWorker by lazy { Executors.newSingleThreadExecutor() }
+    private val dataWorker = ListDiffWorker<OnMessageListUpdateHandler>()
+    private var templateViewCachePool: TemplateViewCachePool? = null
     var onMessageTemplateActionHandler: OnNotificationTemplateActionHandler? = null
     var onItemClickListener: OnItemClickListener<BaseMessage>? = null
     var onItemLongClickListener: OnItemLongClickListener<BaseMessage>? = null
@@ -63,6 +66,8 @@ internal class FeedNotificationListAdapter(
         val inflater = LayoutInflater.from(contextWrapper)
         return FeedNotificationViewHolder(SbViewFeedNotificationBinding.inflate(inflater, parent, false)).apply {
             binding.feedNotification.onNotificationTemplateActionHandler = onMessageTemplateActionHandler
+            binding.feedNotification.templateViewCachePool = templateViewCachePool
+                ?: TemplateViewCachePool.of(parent.context).also { templateViewCachePool = it }
             binding.feedNotification.binding.contentPanel.setOnClickListener {
                 val position = this.bindingAdapterPosition
                 if (position == RecyclerView.NO_POSITION) return@setOnClickListener
@@ -91,6 +96,22 @@ internal class FeedNotificationListAdapter(
         holder.bind(channel, getItem(position), currentLastSeenAt, notificationConfig)
     }
 
+    /**
+     * Redraws only the parts of the item the [NotificationPayload]s point, or the whole item if there's any other payload.
+     */
+    override fun onBindViewHolder(holder: FeedNotificationViewHolder, position: Int, payloads: List<Any>) {
+        if (payloads.isEmpty() || payloads.any { it !is NotificationPayload }) {
+            super.onBindViewHolder(holder, position, payloads)
+            return
+        }
+        payloads.toSet().forEach {
+            when (it) {
+                NotificationPayload.NEW_BADGE -> holder.bindNewBadge(getItem(position), currentLastSeenAt)
+                NotificationPayload.CHANNEL -> holder.bindChannel(channel)
+            }
+        }
+    }
+
     /**
      * Return the view type of the [FeedNotificationViewHolder].
      * Notification channel always returns [MessageType.VIEW_TYPE_FEED_NOTIFICATION]
@@ -113,7 +134,7 @@ internal class FeedNotificationListAdapter(
     fun setItems(channel: FeedChannel, messageList: List<BaseMessage>, callback: OnMessageListUpdateHandler?) {
         val copiedChannel = FeedChannel.clone(channel)
         val copiedMessage = Collections.unmodifiableList(messageList)
-        dataWorker.submit {
+        dataWorker.submit(callback) { skippedCallbacks ->
             val lock = CountDownLatch(1)
             val diffCallback = NotificationDiffCallback(
                 this@FeedNotificationListAdapter.messageList,
@@ -124,9 +145,13 @@ internal class FeedNotificationListAdapter(
             val diffResult = DiffUtil.calculateDiff(diffCallback)
             SendbirdUIKit.runOnUIThread {
                 try {
+                    val oldChannel = this@FeedNotificationListAdapter.channel
                     this@FeedNotificationListAdapter.messageList = copiedMessage
                     this@FeedNotificationListAdapter.channel = copiedChannel
                     diffResult.dispatchUpdatesTo(this@FeedNotificationListAdapter)
+                    // the items kept by the diff are still drawn with the old channel.
+                    if (isChannelChanged(oldChannel, copiedChannel)) notifyItemRangeChanged(0, itemCount, NotificationPayload.CHANNEL)
+                    skippedCallbacks.forEach { it.onListUpdated(messageList) }
                     callback?.onListUpdated(messageList)
                 } finally {
                     lock.countDown()
@@ -144,14 +169,24 @@ internal class FeedNotificationListAdapter(
     @SuppressLint("NotifyDataSetChanged")
     fun clear() {
         // use dataWorker to prevent the data synchronization problem.
-        dataWorker.submit {
+        dataWorker.submit(null) { skippedCallbacks ->
             SendbirdUIKit.runOnUIThread {
                 this.messageList = Collections.emptyList()
                 notifyDataSetChanged()
+                skippedCallbacks.forEach { it.onListUpdated(this.messageList) }
             }
         }
     }
 
+    /**
+     * Cancels the lists which are not applied yet and releases the thread used to calculate the differences of the lists.
+     *
+     * @since 3.27.0
+     */
+    fun release() {
+        dataWorker.release()
+    }
+
     /**
      * Returns the total number of items in the data set held by the adapter.
      *
@@ -185,14 +220,41 @@ internal class FeedNotificationListAdapter(
 
     /**
      * Set the current user's last read timestamp in channel.
+     * Only the items whose new badges are changed are redrawn.
      *
      * @param lastSeenAt the current user's last read timestamp in channel.
      * @since 3.5.0
      */
     @Synchronized
     fun updateLastSeenAt(lastSeenAt: Long) {
-        // set the previous lastSeenAt value due to compare the message changing status.
-        prevLastSeenAt = currentLastSeenAt
+        val oldLastSeenAt = currentLastSeenAt
+        // the items are redrawn here, so the next list is compared with the items drawn with the new value.
+        prevLastSeenAt = lastSeenAt
         currentLastSeenAt = lastSeenAt
+        if (oldLastSeenAt == lastSeenAt) return
+
+        messageList.forEachIndexed { position, message ->
+            if ((message.createdAt > oldLastSeenAt) != (message.createdAt > lastSeenAt)) {
+                notifyItemChanged(position, NotificationPayload.NEW_BADGE)
+            }
+        }
+    }
+
+    /**
+     * Sets the latest channel, and redraws the values of the channel the items draw if they're changed.
+     *
+     * @param channel The latest feed channel
+     * @since 3.27.0
+     */
+    fun updateChannel(channel: FeedChannel) {
+        val oldChannel = this.channel
+        this.channel = FeedChannel.clone(channel)
+        if (isChannelChanged(oldChannel, channel)) notifyItemRangeChanged(0, itemCount, NotificationPayload.CHANNEL)
+    }
+
+    // whether the values of the channel the items draw are changed.
+    private fun isChannelChanged(oldChannel: FeedChannel, newChannel: FeedChannel): Boolean {
+        return oldChannel.isTemplateLabelEnabled != newChannel.isTemplateLabelEnabled ||
+            oldChannel.hasCategoryFilter != newChannel.hasCategoryFilter
     }
 }
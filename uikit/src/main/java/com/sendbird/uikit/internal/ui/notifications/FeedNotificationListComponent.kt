@@ -1,6 +1,5 @@
 package com.sendbird.uikit.internal.ui.notifications
 
-import android.annotation.SuppressLint
 import android.content.Context
 import android.os.Bundle
 import android.util.TypedValue
@@ -14,6 +13,7 @@ import com.sendbird.uikit.interfaces.OnItemLongClickListener
 import com.sendbird.uikit.interfaces.OnMessageListUpdateHandler
 import com.sendbird.uikit.interfaces.OnNotificationCategorySelectListener
 import com.sendbird.uikit.interfaces.OnNotificationTemplateActionHandler
+import com.sendbird.uikit.internal.extensions.hasCategoryFilter
 import com.sendbird.uikit.internal.extensions.intToDp
 import com.sendbird.uikit.internal.extensions.isContentDisplayed
 import com.sendbird.uikit.internal.extensions.setTypeface
@@ -99,23 +99,21 @@ internal open class FeedNotificationListComponent @JvmOverloads constructor(
 
     private fun onVisibleItemDetected(firstVisibleItem: Int, lastVisibleItem: Int) {
         Logger.d(">> onVisibleItemDetected(), firstVisibleItem: $firstVisibleItem, lastVisibleItem: $lastVisibleItem")
-        if (adapter == null) return
+        val adapter = adapter ?: return
         if (firstVisibleItem < 0 || lastVisibleItem < 0) return
 
         onNotificationViewedDetectedListener?.let {
-            val range = if (firstVisibleItem <= lastVisibleItem) firstVisibleItem..lastVisibleItem else lastVisibleItem..firstVisibleItem
-            val copiedList = adapter?.getItems()?.toList()
-            if (copiedList != null) {
-                try {
-                    val items = range.mapNotNull { i ->
-                        val message = copiedList[i]
-                        if (!message.isContentDisplayed) null else message
-                    }
-                    if (items.isNotEmpty()) {
-                        it.onNotificationViewedDetected(items)
-                    }
-                } catch (ignore: Exception) {
-                }
+            // reads the visible items only instead of copying the list. the logged items are filtered out by the receiver.
+            val start = minOf(firstVisibleItem, lastVisibleItem)
+            val end = minOf(maxOf(firstVisibleItem, lastVisibleItem), adapter.itemCount - 1)
+            if (start > end) return
+            val items = ArrayList<BaseMessage>(end - start + 1)
+            for (i in start..end) {
+                val message = adapter.getItem(i)
+                if (message.isContentDisplayed) items.add(message)
+            }
+            if (items.isNotEmpty()) {
+                it.onNotificationViewedDetected(items)
             }
         }
     }
@@ -127,12 +125,9 @@ internal open class FeedNotificationListComponent @JvmOverloads constructor(
      * @param lastSeenAt the timestamp last viewed by the user.
      * @since 3.5.0
      */
-    @SuppressLint("NotifyDataSetChanged")
     fun notifyLastSeenUpdated(lastSeenAt: Long) {
-        adapter?.let {
-            it.updateLastSeenAt(lastSeenAt)
-            it.notifyDataSetChanged()
-        }
+        // redraws only the new badges which are changed.
+        adapter?.updateLastSeenAt(lastSeenAt)
     }
 
     /**
@@ -142,14 +137,17 @@ internal open class FeedNotificationListComponent @JvmOverloads constructor(
      * @since 3.5.0
      */
     fun notifyChannelChanged(channel: FeedChannel) {
+        val adapter = adapter
         if (adapter == null) {
-            adapter = FeedNotificationListAdapter(channel, uiConfig)
+            this.adapter = FeedNotificationListAdapter(channel, uiConfig)
+        } else {
+            adapter.updateChannel(channel)
         }
 
         // if the category filter view is already set it shouldn't be set it again (spec)
         if (isSetCategoryFilter.get()) return
         notificationListView?.let { recyclerView ->
-            recyclerView.enableCategoryFilterView(channel.isCategoryFilterEnabled && channel.notificationCategories.isNotEmpty())
+            recyclerView.enableCategoryFilterView(channel.hasCategoryFilter)
             Logger.i("++ channel.categories size: ${channel.notificationCategories.size}")
             channel.notificationCategories.forEach { category ->
                 Logger.i("++ category: $category")
@@ -223,6 +221,15 @@ internal open class FeedNotificationListComponent @JvmOverloads constructor(
         adapter?.clear()
     }
 
+    /**
+     * Releases the resources the adapter uses to apply the notification list.
+     *
+     * @since 3.27.0
+     */
+    fun release() {
+        adapter?.release()
+    }
+
     /**
      * A collection of parameters, which can be applied to a default View. The values of params are not dynamically applied at runtime.
      * Params cannot be created directly, and it is automatically created together when components are created.
@@ -12,4 +12,8 @@ internal class ChatNotificationViewHolder internal constructor(
     override fun bind(channel: GroupChannel, message: BaseMessage, config: NotificationConfig?) {
         binding.chatNotification.drawMessage(channel, message, config)
     }
+
+    override fun bindChannel(channel: GroupChannel) {
+        binding.chatNotification.drawChannel(channel)
+    }
 }
@@ -18,4 +18,12 @@ internal class FeedNotificationViewHolder internal constructor(
     ) {
         binding.feedNotification.drawMessage(message, channel, lastSeenAt, config)
     }
+
+    fun bindNewBadge(message: BaseMessage, lastSeenAt: Long) {
+        binding.feedNotification.drawNewBadge(message, lastSeenAt)
+    }
+
+    fun bindChannel(channel: FeedChannel) {
+        binding.feedNotification.drawChannel(channel)
+    }
 }
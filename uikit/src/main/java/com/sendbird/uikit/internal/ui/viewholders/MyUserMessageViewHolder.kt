@@ -26,6 +26,10 @@ internal class MyUserMessageViewHolder internal constructor(
         }
     }
 
+    override fun bindMessageGroupType(channel: BaseChannel, message: BaseMessage, params: MessageListUIParams) {
+        binding.myUserMessage.drawMessageGroupType(message, params)
+    }
+
     override fun setEmojiReaction(
         reactionList: List<Reaction>,
         emojiReactionClickListener: OnItemClickListener<String>?,
@@ -11,4 +11,9 @@ internal abstract class NotificationViewHolder internal constructor(
 ) : RecyclerView.ViewHolder(view) {
 
     abstract fun bind(channel: GroupChannel, message: BaseMessage, config: NotificationConfig?)
+
+    /**
+     * Draws the values of the [channel] without drawing the message again.
+     */
+    open fun bindChannel(channel: GroupChannel) {}
 }
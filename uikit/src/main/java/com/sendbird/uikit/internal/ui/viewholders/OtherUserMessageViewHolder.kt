@@ -27,6 +27,10 @@ internal class OtherUserMessageViewHolder internal constructor(
         }
     }
 
+    override fun bindMessageGroupType(channel: BaseChannel, message: BaseMessage, params: MessageListUIParams) {
+        binding.otherMessageView.drawMessageGroupType(message, params)
+    }
+
     override fun setEmojiReaction(
         reactionList: List<Reaction>,
         emojiReactionClickListener: OnItemClickListener<String>?,
@@ -4,6 +4,7 @@ import android.content.Context
 import android.graphics.RectF
 import android.text.Selection
 import android.text.Spannable
+import android.text.Spanned
 import android.text.method.LinkMovementMethod
 import android.text.style.BackgroundColorSpan
 import android.text.style.ClickableSpan
@@ -30,7 +31,8 @@ internal class AutoLinkTextView @JvmOverloads internal constructor(
     override fun setText(text: CharSequence?, type: BufferType?) {
         super.setText(text, type)
         try {
-            Linkify.addLinks(this, linkifyMask)
+            // the links of the marked text are detected in the background.
+            if (!text.hasLinkDetection(linkifyMask)) Linkify.addLinks(this, linkifyMask)
             movementMethod = SBLinkMovementMethod(
                 onLinkClickListener = onLinkClickListener,
                 onLinkLongClickListener = onLinkLongClickListener,
@@ -43,6 +45,17 @@ internal class AutoLinkTextView @JvmOverloads internal constructor(
     }
 }
 
+/**
+ * Marks the text whose links are detected, or being detected, with the [linkifyMask] off the main thread,
+ * so [AutoLinkTextView] doesn't scan the text again when it's set.
+ */
+internal class LinkDetectionSpan(val linkifyMask: Int)
+
+internal fun CharSequence?.hasLinkDetection(linkifyMask: Int): Boolean {
+    if (this !is Spanned) return false
+    return getSpans(0, length, LinkDetectionSpan::class.java).any { it.linkifyMask == linkifyMask }
+}
+
 internal interface OnLinkClickListener {
     /**
      * @param textView The TextView on which a click was registered.
@@ -1,11 +1,14 @@
 package com.sendbird.uikit.internal.ui.widgets
 
 import android.content.Context
+import android.os.SystemClock
 import android.util.AttributeSet
 import androidx.recyclerview.widget.LinearLayoutManager
 import androidx.recyclerview.widget.RecyclerView
 import com.sendbird.uikit.interfaces.OnPagedDataLoader
+import com.sendbird.uikit.interfaces.PagedDataPrefetchPolicy
 import org.jetbrains.annotations.TestOnly
+import java.util.concurrent.ExecutorService
 import java.util.concurrent.Executors
 import java.util.concurrent.atomic.AtomicBoolean
 
@@ -56,6 +59,13 @@ internal class PagerRecyclerView @JvmOverloads constructor(
         onScrollListener.threshold = threshold
     }
 
+    /**
+     * Sets the policy deciding when the pages are loaded. If it's null, the pages are loaded ahead by the scrolling speed.
+     */
+    fun setPrefetchPolicy(prefetchPolicy: PagedDataPrefetchPolicy?) {
+        onScrollListener.prefetchPolicy = prefetchPolicy
+    }
+
     @TestOnly
     fun getThreshold(): Int = onScrollListener.threshold
 
@@ -95,64 +105,131 @@ internal class PagerRecyclerView @JvmOverloads constructor(
 
     private class OnScrollListener constructor(var layoutManager: LinearLayoutManager?) :
         RecyclerView.OnScrollListener() {
-        var threshold = 1
+        private val defaultPrefetchPolicy = VelocityPrefetchPolicy(1)
+        var threshold
+            get() = defaultPrefetchPolicy.threshold
             set(value) {
                 require(value > 0) { "illegal threshold: $value" }
-                field = value
+                defaultPrefetchPolicy.threshold = value
             }
+        var prefetchPolicy: PagedDataPrefetchPolicy? = null
         var pager: OnPagedDataLoader<*>? = null
         var scrollEndDetectListener: OnScrollEndDetectListener? = null
-        private val prevLoadingWorker = Executors.newSingleThreadExecutor()
-        private val nextLoadingWorker = Executors.newSingleThreadExecutor()
         private val prevLoading = AtomicBoolean(false)
         private val nextLoading = AtomicBoolean(false)
         var useReverseData: Boolean = false
 
+        // the scrolling speed toward the larger adapter positions, in the number of items per second.
+        private var positionsPerSecond = 0f
+        private var lastScrolledAt = 0L
+        @Volatile
+        private var averageLoadTimeMillis = DEFAULT_LOAD_TIME_MILLIS
+
+        override fun onScrollStateChanged(recyclerView: RecyclerView, newState: Int) {
+            if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+                positionsPerSecond = 0f
+                lastScrolledAt = 0L
+            }
+        }
+
         override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
             layoutManager?.run {
-                val lastVisibleItemPosition = findLastVisibleItemPosition()
-                val firstVisibleItemPosition = findFirstVisibleItemPosition()
+                updateVelocity(dy)
                 if (!recyclerView.canScrollVertically(ScrollDirection.Bottom.direction)) {
                     scrollEndDetectListener?.onScrollEnd(ScrollDirection.Bottom)
                 }
                 if (!recyclerView.canScrollVertically(ScrollDirection.Top.direction)) {
                     scrollEndDetectListener?.onScrollEnd(ScrollDirection.Top)
                 }
-                pager?.run {
-                    val prevLoadMore =
-                        hasPrevious() && if (useReverseData) itemCount - lastVisibleItemPosition <= threshold else firstVisibleItemPosition <= threshold
-                    if (!prevLoading.get() && prevLoadMore) {
-                        prevLoading.set(true)
-                        prevLoadingWorker.submit {
-                            try {
-                                loadPrevious()
-                            } catch (ignore: Exception) {
-                            } finally {
-                                prevLoading.set(false)
-                            }
-                        }
-                    }
+                loadIfNeeded(recyclerView)
+            }
+        }
+
+        private fun LinearLayoutManager.loadIfNeeded(recyclerView: RecyclerView) {
+            val pager = pager ?: return
+            val policy = prefetchPolicy ?: defaultPrefetchPolicy
+            val lastVisibleItemPosition = findLastVisibleItemPosition()
+            val firstVisibleItemPosition = findFirstVisibleItemPosition()
+            val remainingToEnd = itemCount - lastVisibleItemPosition
+            val remainingToStart = firstVisibleItemPosition
+            val speedToEnd = positionsPerSecond.coerceAtLeast(0f)
+            val speedToStart = (-positionsPerSecond).coerceAtLeast(0f)
+
+            val prevLoadMore = pager.hasPrevious() && if (useReverseData) {
+                policy.shouldLoad(remainingToEnd, speedToEnd, averageLoadTimeMillis)
+            } else {
+                policy.shouldLoad(remainingToStart, speedToStart, averageLoadTimeMillis)
+            }
+            if (prevLoadMore && prevLoading.compareAndSet(false, true)) {
+                load(recyclerView, prevLoading) { pager.loadPrevious() }
+            }
+
+            val nextLoadMore = pager.hasNext() && if (useReverseData) {
+                policy.shouldLoad(remainingToStart, speedToStart, averageLoadTimeMillis)
+            } else {
+                policy.shouldLoad(remainingToEnd, speedToEnd, averageLoadTimeMillis)
+            }
+            if (nextLoadMore && nextLoading.compareAndSet(false, true)) {
+                load(recyclerView, nextLoading) { pager.loadNext() }
+            }
+        }
 
-                    val nextLoadMore =
-                        hasNext() && if (useReverseData) firstVisibleItemPosition <= threshold else itemCount - lastVisibleItemPosition <= threshold
-                    if (!nextLoading.get() && nextLoadMore) {
-                        nextLoading.set(true)
-                        nextLoadingWorker.submit {
-                            try {
-                                loadNext()
-                            } catch (ignore: Exception) {
-                            } finally {
-                                nextLoading.set(false)
-                            }
-                        }
+        private fun load(recyclerView: RecyclerView, loading: AtomicBoolean, loader: () -> Unit) {
+            loaderExecutor.execute {
+                val startedAt = SystemClock.elapsedRealtime()
+                var loaded = false
+                try {
+                    loader()
+                    loaded = true
+                    val loadTime = SystemClock.elapsedRealtime() - startedAt
+                    averageLoadTimeMillis = (averageLoadTimeMillis * (LOAD_TIME_WEIGHT - 1) + loadTime) / LOAD_TIME_WEIGHT
+                } catch (ignore: Exception) {
+                } finally {
+                    loading.set(false)
+                }
+                // if the list is still scrolling fast, the following page is loaded right away.
+                if (loaded) {
+                    recyclerView.post {
+                        if (recyclerView.scrollState != RecyclerView.SCROLL_STATE_IDLE) layoutManager?.loadIfNeeded(recyclerView)
                     }
                 }
             }
         }
 
-        fun dispose() {
-            prevLoadingWorker.shutdown()
-            nextLoadingWorker.shutdown()
+        private fun LinearLayoutManager.updateVelocity(dy: Int) {
+            if (dy == 0) return
+            val now = SystemClock.uptimeMillis()
+            val elapsed = now - lastScrolledAt
+            lastScrolledAt = now
+            if (elapsed <= 0 || elapsed > MAX_SAMPLING_INTERVAL_MILLIS) return
+            val itemHeight = averageItemHeight()
+            if (itemHeight <= 0) return
+
+            // the positions decrease as the reversed list is scrolled down.
+            val direction = if (reverseLayout) -1 else 1
+            val speed = direction * dy * 1000f / elapsed / itemHeight
+            positionsPerSecond = if (positionsPerSecond == 0f) speed else positionsPerSecond + (speed - positionsPerSecond) * SMOOTHING_FACTOR
+        }
+
+        private fun LinearLayoutManager.averageItemHeight(): Float {
+            var totalHeight = 0
+            var count = 0
+            for (i in 0 until childCount) {
+                val child = getChildAt(i) ?: continue
+                totalHeight += child.height
+                count++
+            }
+            return if (count == 0) 0f else totalHeight.toFloat() / count
+        }
+
+        companion object {
+            private const val DEFAULT_LOAD_TIME_MILLIS = 300L
+            private const val LOAD_TIME_WEIGHT = 4
+            private const val MAX_SAMPLING_INTERVAL_MILLIS = 100L
+            private const val SMOOTHING_FACTOR = 0.3f
+
+            // shared by all lists. the loading flags keep a list from loading the same direction concurrently.
+            private val loaderExecutor: ExecutorService by lazy { Executors.newCachedThreadPool() }
         }
     }
 
@@ -164,3 +241,20 @@ internal class PagerRecyclerView @JvmOverloads constructor(
         Top(-1), Bottom(1);
     }
 }
+
+/**
+ * Loads the page when the remaining items are no more than the [threshold],
+ * or no more than the items the list scrolls through while the page is loading.
+ */
+internal class VelocityPrefetchPolicy(var threshold: Int) : PagedDataPrefetchPolicy {
+    override fun shouldLoad(remainingItemCount: Int, itemsPerSecond: Float, averageLoadTimeMillis: Long): Boolean {
+        if (remainingItemCount <= threshold) return true
+        // the loaded items are also bound before they're shown, so the margin is added to the load time.
+        val itemsScrolledWhileLoading = itemsPerSecond * averageLoadTimeMillis * LOAD_TIME_MARGIN / 1000f
+        return remainingItemCount <= threshold + itemsScrolledWhileLoading
+    }
+
+    companion object {
+        private const val LOAD_TIME_MARGIN = 1.5f
+    }
+}
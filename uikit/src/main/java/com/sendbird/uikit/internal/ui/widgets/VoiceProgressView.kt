@@ -42,12 +42,24 @@ internal class VoiceProgressView @JvmOverloads constructor(
             invalidate()
         }
     var animationDuration: Long = 100
+
+    /**
+     * The peak amplitudes of the equal parts of the voice, from 0 to 255.
+     * If it's set, the bars of the amplitudes are drawn instead of the track.
+     */
+    var amplitudes: ByteArray = ByteArray(0)
+        set(value) {
+            if (field.contentEquals(value)) return
+            field = value
+            invalidate()
+        }
     private val trackPaint: Paint = Paint()
     private var trackRectF: RectF = RectF()
     private val trackRectPath = Path()
     private val progressPaint: Paint = Paint()
     private var progressRectF: RectF = RectF()
     private var animator: ValueAnimator? = null
+    private val barRectF: RectF = RectF()
 
     override fun onSizeChanged(w: Int, h: Int, oldw: Int, oldh: Int) {
         super.onSizeChanged(w, h, oldw, oldh)
@@ -61,8 +73,29 @@ internal class VoiceProgressView @JvmOverloads constructor(
         super.onDraw(canvas)
         canvas.apply {
             clipPath(trackRectPath)
-            drawRect(trackRectF, trackPaint)
-            drawRect(progressRectF, progressPaint)
+            if (amplitudes.isEmpty()) {
+                drawRect(trackRectF, trackPaint)
+                drawRect(progressRectF, progressPaint)
+                return
+            }
+            drawAmplitudes(this, trackPaint)
+            save()
+            clipRect(progressRectF)
+            drawAmplitudes(this, progressPaint)
+            restore()
+        }
+    }
+
+    private fun drawAmplitudes(canvas: Canvas, paint: Paint) {
+        val barSpace = width.toFloat() / amplitudes.size
+        val barWidth = barSpace * BAR_WIDTH_RATIO
+        val minBarHeight = min(barWidth, height.toFloat())
+        amplitudes.forEachIndexed { index, amplitude ->
+            val barHeight = maxOf(minBarHeight, (amplitude.toInt() and 0xFF) * height.toFloat() / 255)
+            val left = index * barSpace + (barSpace - barWidth) / 2
+            val top = (height - barHeight) / 2
+            barRectF.set(left, top, left + barWidth, top + barHeight)
+            canvas.drawRoundRect(barRectF, barWidth / 2, barWidth / 2, paint)
         }
     }
 
@@ -114,4 +147,9 @@ internal class VoiceProgressView @JvmOverloads constructor(
     private fun calculateProgressWidth(): Float {
         return min(progress, max) * width.toFloat() / max
     }
+
+    private companion object {
+        // the ratio of the width of a bar to the space of an amplitude.
+        const val BAR_WIDTH_RATIO = 0.6F
+    }
 }
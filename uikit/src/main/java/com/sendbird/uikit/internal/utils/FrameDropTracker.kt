@@ -0,0 +1,105 @@
+package com.sendbird.uikit.internal.utils
+
+import android.os.Build
+import android.os.Handler
+import android.os.HandlerThread
+import android.view.FrameMetrics
+import android.view.Window
+import androidx.annotation.MainThread
+import androidx.annotation.RequiresApi
+import com.sendbird.uikit.consts.PerformanceMetricType
+import com.sendbird.uikit.internal.singleton.PerformanceMonitor
+import com.sendbird.uikit.log.Logger
+
+/**
+ * Records the frames of a window dropped while each frame was drawn, while the performance metrics are enabled.
+ *
+ * A window has one listener however many screens are resumed on it, and each frame is recorded for the screen resumed last,
+ * which is the one on the top. The listener is removed when no screen is resumed on the window.
+ * The frames are read from [FrameMetrics], so only the frames actually drawn are counted and no frame is requested by this.
+ * It's available from Android 7.0 (API level 24), and does nothing on the older versions.
+ */
+internal class FrameDropTracker private constructor(private val window: Window) {
+    // the screens resumed on the window in the order they're resumed, so the last one is on the top.
+    private val screens = ArrayList<Pair<Any, String>>()
+    // read on the thread the frames are delivered to.
+    @Volatile
+    private var topScreenName: String? = null
+    private var listener: Window.OnFrameMetricsAvailableListener? = null
+
+    @MainThread
+    private fun add(screen: Any, screenName: String) {
+        screens.removeAll { it.first === screen }
+        screens.add(screen to screenName)
+        topScreenName = screenName
+        if (listener != null || Build.VERSION.SDK_INT < Build.VERSION_CODES.N) return
+        val listener = createListener(getFrameIntervalNanos(window))
+        window.addOnFrameMetricsAvailableListener(listener, handler)
+        this.listener = listener
+    }
+
+    @MainThread
+    private fun remove(screen: Any) {
+        screens.removeAll { it.first === screen }
+        topScreenName = screens.lastOrNull()?.second
+    }
+
+    @MainThread
+    private fun release() {
+        val listener = this.listener ?: return
+        this.listener = null
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N) return
+        try {
+            window.removeOnFrameMetricsAvailableListener(listener)
+        } catch (e: IllegalArgumentException) {
+            // the window has removed the listeners already.
+            Logger.w(e)
+        }
+    }
+
+    @RequiresApi(Build.VERSION_CODES.N)
+    private fun createListener(frameIntervalNanos: Long): Window.OnFrameMetricsAvailableListener {
+        return Window.OnFrameMetricsAvailableListener { _, frameMetrics, _ ->
+            val screenName = topScreenName ?: return@OnFrameMetricsAvailableListener
+            val duration = frameMetrics.getMetric(FrameMetrics.TOTAL_DURATION)
+            PerformanceMonitor.record(PerformanceMetricType.DROPPED_FRAMES, screenName, duration / frameIntervalNanos)
+        }
+    }
+
+    private fun getFrameIntervalNanos(window: Window): Long {
+        @Suppress("DEPRECATION")
+        val refreshRate = window.windowManager.defaultDisplay.refreshRate
+        return (1_000_000_000L / (if (refreshRate > 0f) refreshRate else DEFAULT_REFRESH_RATE)).toLong()
+    }
+
+    companion object {
+        private const val DEFAULT_REFRESH_RATE = 60f
+
+        private val trackers = HashMap<Window, FrameDropTracker>()
+
+        private val handler: Handler by lazy {
+            Handler(HandlerThread("sb_frame_metrics").apply { start() }.looper)
+        }
+
+        /**
+         * Records the frames of the [window] for the [screen] until [stop] is called with it.
+         * The [screen] is on the top of the [window] until another screen is started.
+         */
+        @JvmStatic
+        @MainThread
+        fun start(window: Window, screen: Any, screenName: String) {
+            if (!PerformanceMonitor.isEnabled) return
+            trackers.getOrPut(window) { FrameDropTracker(window) }.add(screen, screenName)
+        }
+
+        @JvmStatic
+        @MainThread
+        fun stop(window: Window, screen: Any) {
+            val tracker = trackers[window] ?: return
+            tracker.remove(screen)
+            if (tracker.screens.isNotEmpty()) return
+            trackers.remove(window)
+            tracker.release()
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.sendbird.uikit.internal.utils
+
+import androidx.annotation.VisibleForTesting
+import androidx.annotation.WorkerThread
+import com.sendbird.uikit.log.Logger
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.EOFException
+import java.io.File
+import java.io.IOException
+import java.io.RandomAccessFile
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * Stores the string values by the keys in an append-only file. (e.g. the serialized templates)
+ *
+ * Only the keys and the positions of the values are loaded when the store is opened, and a value is read from the file
+ * when it's requested. Every change is appended as a record, so a change doesn't rewrite the other values.
+ * When the number of the values exceeds [maxEntryCount], the least recently used one is removed.
+ * The file is compacted when the records of the removed or overwritten values take more than half of it.
+ *
+ * The index is loaded by [load], which also runs the [migration], and the other methods except [contains] wait until it's done.
+ * [contains] answers from the keys kept in memory without waiting, so it can be called on the main thread,
+ * and it returns false for every key until the index is loaded.
+ *
+ * Record format: `[op: byte][key: UTF][length: int][value: UTF-8 bytes]`. The remove record has no length and value.
+ */
+internal class KeyValueFileStore(
+    private val file: File,
+    private val maxEntryCount: Int,
+    // moves the values stored by the previous version. A value is put only if its key isn't stored yet, so a newer value wins.
+    private val migration: (putIfAbsent: (String, String) -> Unit) -> Unit = {}
+) {
+    private class Entry(val valueOffset: Long, val length: Int, val recordSize: Long)
+
+    // access-ordered, so the first entry is the least recently used value.
+    private val index = LinkedHashMap<String, Entry>(16, 0.75f, true)
+    private var fileLength = 0L
+    private var liveBytes = 0L
+    // the keys of the index, which are read without the lock.
+    private val keys: MutableSet<String> = ConcurrentHashMap.newKeySet()
+    private val isLoadStarted = AtomicBoolean(false)
+    private val loadLatch = CountDownLatch(1)
+
+    // opens the file to append a record.
+    @VisibleForTesting
+    internal var openForAppend: (File) -> RandomAccessFile = { RandomAccessFile(it, "rw") }
+
+    val size: Int
+        get() {
+            awaitLoaded()
+            return keys.size
+        }
+
+    /**
+     * Loads the index and runs the migration. If it isn't called first, the thread which calls any other method first runs it.
+     */
+    @WorkerThread
+    fun load() {
+        if (!isLoadStarted.compareAndSet(false, true)) return
+        try {
+            synchronized(this) {
+                open()
+                migration { key, value ->
+                    if (!index.containsKey(key)) putInternal(key, value)
+                }
+            }
+        } finally {
+            loadLatch.countDown()
+        }
+    }
+
+    /**
+     * Checks whether the [key] is stored without waiting for [load]. It's false until the index is loaded.
+     */
+    fun contains(key: String): Boolean = keys.contains(key)
+
+    /**
+     * Reads the value of the [key] from the file.
+     */
+    fun get(key: String): String? {
+        awaitLoaded()
+        if (!keys.contains(key)) return null
+        return synchronized(this) { read(key) }
+    }
+
+    private fun read(key: String): String? {
+        val entry = index[key] ?: return null
+        return try {
+            RandomAccessFile(file, "r").use { raf ->
+                val bytes = ByteArray(entry.length)
+                raf.seek(entry.valueOffset)
+                raf.readFully(bytes)
+                String(bytes, Charsets.UTF_8)
+            }
+        } catch (e: IOException) {
+            Logger.w(e)
+            null
+        }
+    }
+
+    @WorkerThread
+    fun put(key: String, value: String) {
+        awaitLoaded()
+        synchronized(this) { putInternal(key, value) }
+    }
+
+    private fun putInternal(key: String, value: String) {
+        val bytes = value.toByteArray(Charsets.UTF_8)
+        val record = ByteArrayOutputStream(bytes.size + key.length + RECORD_HEADER_SIZE)
+        val headerSize = DataOutputStream(record).use {
+            it.writeByte(OP_PUT.toInt())
+            it.writeUTF(key)
+            it.writeInt(bytes.size)
+            it.size()
+        }
+        record.write(bytes)
+        val offset = fileLength
+        if (!append(record.toByteArray())) return
+
+        index.remove(key)?.let { liveBytes -= it.recordSize }
+        val recordSize = (headerSize + bytes.size).toLong()
+        index[key] = Entry(offset + headerSize, bytes.size, recordSize)
+        keys.add(key)
+        liveBytes += recordSize
+        trimToSize()
+        compactIfNeeded()
+    }
+
+    @WorkerThread
+    fun remove(key: String) {
+        awaitLoaded()
+        synchronized(this) {
+            if (!index.containsKey(key)) return
+            appendRemoveRecord(key)
+            compactIfNeeded()
+        }
+    }
+
+    @WorkerThread
+    fun clear() {
+        awaitLoaded()
+        synchronized(this) {
+            index.clear()
+            keys.clear()
+            liveBytes = 0
+            fileLength = 0
+            if (file.exists() && !file.delete()) {
+                Logger.w("-- KeyValueFileStore::clear() failed to delete the file. path=${file.path}")
+            }
+        }
+    }
+
+    private fun awaitLoaded() {
+        load()
+        try {
+            loadLatch.await()
+        } catch (e: InterruptedException) {
+            Thread.currentThread().interrupt()
+        }
+    }
+
+    private fun open() {
+        if (!file.exists()) return
+
+        var validLength = 0L
+        try {
+            DataInputStream(file.inputStream().buffered()).use { input ->
+                while (true) {
+                    val op = try {
+                        input.readByte()
+                    } catch (e: EOFException) {
+                        break
+                    }
+                    val recordStart = validLength
+                    val key = input.readUTF()
+                    // 1 byte for the op and 2 bytes for the length of the key in modified UTF-8.
+                    val keySize = 1 + 2 + modifiedUtf8Length(key)
+                    when (op) {
+                        OP_PUT -> {
+                            val length = input.readInt()
+                            skipFully(input, length.toLong())
+                            val headerSize = keySize + 4
+                            val recordSize = (headerSize + length).toLong()
+                            index.remove(key)?.let { liveBytes -= it.recordSize }
+                            index[key] = Entry(recordStart + headerSize, length, recordSize)
+                            liveBytes += recordSize
+                            validLength += recordSize
+                        }
+                        OP_REMOVE -> {
+                            index.remove(key)?.let { liveBytes -= it.recordSize }
+                            validLength += keySize
+                        }
+                        else -> throw IOException("unknown record type $op")
+                    }
+                }
+            }
+        } catch (e: IOException) {
+            // the last record could be written partially when the process is killed.
+            Logger.w("-- KeyValueFileStore::open() the file is broken at $validLength. ${e.message}")
+        }
+
+        if (validLength < file.length()) {
+            try {
+                RandomAccessFile(file, "rw").use { it.setLength(validLength) }
+            } catch (e: IOException) {
+                Logger.w(e)
+            }
+        }
+        fileLength = validLength
+        keys.addAll(index.keys)
+        Logger.d(">> KeyValueFileStore::open() path=${file.name}, count=${index.size}, bytes=$fileLength")
+    }
+
+    // the value is removed from the index even if the record isn't appended, so the eviction doesn't retry the same key forever.
+    // the value may be back when the file is opened again, which only keeps one more value than needed.
+    private fun appendRemoveRecord(key: String) {
+        val record = ByteArrayOutputStream(key.length + 3)
+        DataOutputStream(record).use {
+            it.writeByte(OP_REMOVE.toInt())
+            it.writeUTF(key)
+        }
+        append(record.toByteArray())
+        index.remove(key)?.let { liveBytes -= it.recordSize }
+        keys.remove(key)
+    }
+
+    private fun append(record: ByteArray): Boolean {
+        return try {
+            file.parentFile?.mkdirs()
+            openForAppend(file).use { raf ->
+                raf.seek(fileLength)
+                raf.write(record)
+            }
+            fileLength += record.size
+            true
+        } catch (e: IOException) {
+            Logger.w(e)
+            false
+        }
+    }
+
+    private fun trimToSize() {
+        while (index.size > maxEntryCount) {
+            val eldest = index.keys.first()
+            Logger.d("-- KeyValueFileStore evicts the least recently used value. key=$eldest")
+            appendRemoveRecord(eldest)
+        }
+    }
+
+    private fun compactIfNeeded() {
+        if (fileLength < MIN_COMPACTION_BYTES || liveBytes * 2 > fileLength) return
+        Logger.d(">> KeyValueFileStore::compact() bytes=$fileLength, live=$liveBytes")
+        val temp = File(file.path + ".tmp")
+        try {
+            val newIndex = LinkedHashMap<String, Entry>(index.size * 2, 0.75f, true)
+            var offset = 0L
+            RandomAccessFile(file, "r").use { source ->
+                DataOutputStream(temp.outputStream().buffered()).use { output ->
+                    // keeps the access order, so the recently used values stay at the end of the file.
+                    for ((key, entry) in index.entries.toList()) {
+                        val bytes = ByteArray(entry.length)
+                        source.seek(entry.valueOffset)
+                        source.readFully(bytes)
+                        val start = output.size()
+                        output.writeByte(OP_PUT.toInt())
+                        output.writeUTF(key)
+                        output.writeInt(bytes.size)
+                        val headerSize = output.size() - start
+                        output.write(bytes)
+                        newIndex[key] = Entry(offset + headerSize, bytes.size, entry.recordSize)
+                        offset += headerSize + bytes.size
+                    }
+                }
+            }
+            if (!temp.renameTo(file)) throw IOException("failed to replace the file")
+            index.clear()
+            index.putAll(newIndex)
+            fileLength = offset
+            liveBytes = offset
+        } catch (e: IOException) {
+            Logger.w(e)
+            temp.delete()
+        }
+    }
+
+    private fun skipFully(input: DataInputStream, count: Long) {
+        var remaining = count
+        while (remaining > 0) {
+            val skipped = input.skip(remaining)
+            if (skipped <= 0) {
+                if (input.read() == -1) throw EOFException()
+                remaining--
+            } else {
+                remaining -= skipped
+            }
+        }
+    }
+
+    private fun modifiedUtf8Length(value: String): Int {
+        var length = 0
+        for (c in value) {
+            length += when {
+                c.code in 0x0001..0x007F -> 1
+                c.code > 0x07FF -> 3
+                else -> 2
+            }
+        }
+        return length
+    }
+
+    companion object {
+        private const val OP_PUT: Byte = 1
+        private const val OP_REMOVE: Byte = 2
+        private const val RECORD_HEADER_SIZE = 7
+        private const val MIN_COMPACTION_BYTES = 256 * 1024L
+    }
+}
@@ -0,0 +1,171 @@
+package com.sendbird.uikit.internal.utils
+
+import android.content.Context
+import android.graphics.BitmapFactory
+import android.net.Uri
+import android.provider.OpenableColumns
+import androidx.annotation.WorkerThread
+import androidx.exifinterface.media.ExifInterface
+import com.sendbird.uikit.SendbirdUIKit
+import com.sendbird.uikit.consts.StringSet
+import com.sendbird.uikit.internal.singleton.FileCacheManager
+import com.sendbird.uikit.log.Logger
+import com.sendbird.uikit.model.FileInfo
+import com.sendbird.uikit.utils.FileUtils
+import com.sendbird.uikit.utils.ImageUtils
+import java.io.IOException
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Semaphore
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Prepares the media files to be sent in parallel.
+ *
+ * Up to a file per core (at most [MAX_WORKER_COUNT]) is prepared at once, and the bitmaps being decoded
+ * don't take more than an eighth of the heap together. The images to be resized are decoded from the content uri directly
+ * instead of being copied to a temporary file first, and the size of the resized image is taken from the bitmap.
+ * The other files are copied as they are.
+ */
+internal object MediaPreprocessor {
+    private const val MAX_WORKER_COUNT = 4
+    private const val BYTES_PER_PIXEL = 4
+    private const val MAX_COMPRESS_QUALITY = 100
+
+    private val workerCount = Runtime.getRuntime().availableProcessors().coerceIn(1, MAX_WORKER_COUNT)
+    private val executor: ExecutorService by lazy { Executors.newFixedThreadPool(workerCount) }
+    // in kilobytes, so the budget of a large heap fits the permits.
+    private val memoryBudgetKb = (Runtime.getRuntime().maxMemory() / 8 / 1024).toInt().coerceAtLeast(1)
+    private val memoryBudget = Semaphore(memoryBudgetKb, true)
+    private val resizedFileCount = AtomicInteger()
+
+    /**
+     * Prepares the files of the [uris] in parallel and blocks until all of them are prepared.
+     *
+     * @return The prepared files in the order of the [uris]. The files failed are null.
+     * @throws Exception The error of the first file if none of the files is prepared.
+     */
+    @WorkerThread
+    @Throws(Exception::class)
+    fun processBlocking(context: Context, uris: List<Uri>, useImageCompression: Boolean): List<FileInfo?> {
+        val appContext = context.applicationContext
+        val results = arrayOfNulls<FileInfo>(uris.size)
+        val errors = arrayOfNulls<Exception>(uris.size)
+        val futures = uris.mapIndexed { index, uri ->
+            executor.submit {
+                val fileInfo = try {
+                    process(appContext, uri, useImageCompression)
+                } catch (e: Exception) {
+                    Logger.w(e)
+                    errors[index] = e
+                    null
+                }
+                results[index] = fileInfo
+            }
+        }
+        futures.forEach {
+            try {
+                it.get()
+            } catch (e: ExecutionException) {
+                Logger.w(e)
+            }
+        }
+        if (results.all { it == null }) errors.firstOrNull { it != null }?.let { throw it }
+        return results.toList()
+    }
+
+    @WorkerThread
+    @Throws(IOException::class)
+    private fun process(context: Context, uri: Uri, useImageCompression: Boolean): FileInfo? {
+        val mimeType = context.contentResolver.getType(uri)
+        if (!useImageCompression || mimeType == null || !FileInfo.isCompressible(mimeType)) {
+            return FileInfo.uriToFileInfo(context, uri, useImageCompression)
+        }
+
+        val resizingSize = SendbirdUIKit.getResizingSize()
+        val quality = SendbirdUIKit.getCompressQuality()
+        require(!(quality < 0 || quality > MAX_COMPRESS_QUALITY)) { "quality must be 0..100" }
+        val bounds = BitmapFactory.Options().apply { inJustDecodeBounds = true }
+        context.contentResolver.openInputStream(uri)?.use { BitmapFactory.decodeStream(it, null, bounds) }
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+            return FileInfo.uriToFileInfo(context, uri, true)
+        }
+        val inSampleSize = ImageUtils.calculateInSampleSize(bounds.outWidth, bounds.outHeight, resizingSize.first, resizingSize.second)
+        // When it comes to compressing is ignored if the image's mine-type is a PNG.
+        if (inSampleSize <= 1 && (mimeType.endsWith(StringSet.png) || quality >= MAX_COMPRESS_QUALITY)) {
+            // there's nothing to resize, so the file is copied as it is.
+            return FileInfo.uriToFileInfo(context, uri, false)
+        }
+        return resize(context, uri, mimeType, quality, inSampleSize, bounds) ?: FileInfo.uriToFileInfo(context, uri, true)
+    }
+
+    /**
+     * Decodes the image from the [uri] with the [inSampleSize], and writes it to a file in the cache directory.
+     *
+     * @return The resized file, or null if the image couldn't be read from the [uri].
+     */
+    @WorkerThread
+    @Throws(IOException::class)
+    private fun resize(
+        context: Context,
+        uri: Uri,
+        mimeType: String,
+        quality: Int,
+        inSampleSize: Int,
+        bounds: BitmapFactory.Options
+    ): FileInfo? {
+        val resolver = context.contentResolver
+        // the providers may not have the columns, so the name is taken from the uri and the size is unknown (-1) without them.
+        val (name, originSize) = resolver.query(uri, null, null, null, null)?.use { cursor ->
+            if (!cursor.moveToFirst()) return null
+            val nameIndex = cursor.getColumnIndex(OpenableColumns.DISPLAY_NAME)
+            val sizeIndex = cursor.getColumnIndex(OpenableColumns.SIZE)
+            val name = (if (nameIndex >= 0) cursor.getString(nameIndex) else null) ?: uri.lastPathSegment.orEmpty()
+            val size = if (sizeIndex >= 0 && !cursor.isNull(sizeIndex)) cursor.getLong(sizeIndex) else -1L
+            name to size
+        } ?: return null
+        val degree = resolver.openInputStream(uri)?.use {
+            ImageUtils.exifOrientationToDegrees(ExifInterface(it).getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL))
+        } ?: 0
+
+        // the rotated bitmap is created while the decoded one is alive.
+        val decodedBytes = (bounds.outWidth / inSampleSize).toLong() * (bounds.outHeight / inSampleSize) * BYTES_PER_PIXEL
+        val permits = ((if (degree != 0) decodedBytes * 2 else decodedBytes) / 1024).toInt().coerceIn(1, memoryBudgetKb)
+        memoryBudget.acquire(permits)
+        try {
+            val options = BitmapFactory.Options().apply { this.inSampleSize = inSampleSize }
+            var bitmap = resolver.openInputStream(uri)?.use { BitmapFactory.decodeStream(it, null, options) } ?: return null
+            if (degree != 0) {
+                val originBitmap = bitmap
+                bitmap = ImageUtils.rotate(originBitmap, degree.toFloat())
+                if (bitmap != originBitmap) originBitmap.recycle()
+            }
+            val extension = FileUtils.extractExtension(mimeType) ?: StringSet.jpg
+            val fileName = "Resized_${quality}_${System.currentTimeMillis()}_${resizedFileCount.incrementAndGet()}.$extension"
+            val destFile = FileUtils.bitmapToFile(
+                bitmap,
+                FileUtils.createCachedDirFile(context, fileName),
+                quality,
+                FileUtils.extractBitmapFormat(mimeType)
+            )
+            FileCacheManager.add(destFile, null)
+            val width = bitmap.width
+            val height = bitmap.height
+            bitmap.recycle()
+            Logger.d("++ MediaPreprocessor::resize() originSize=%s, resizedSize=%s, width=%s, height=%s", originSize, destFile.length(), width, height)
+            return FileInfo(
+                destFile.absolutePath,
+                destFile.length().toInt(),
+                mimeType,
+                name,
+                uri,
+                width,
+                height,
+                destFile.absolutePath
+            )
+        } finally {
+            memoryBudget.release(permits)
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.sendbird.uikit.internal.utils
+
+import android.content.Context
+import android.text.SpannableString
+import android.text.SpannableStringBuilder
+import android.text.Spanned
+import android.text.SpannedString
+import android.text.util.Linkify
+import android.util.LruCache
+import android.view.View
+import android.widget.TextView
+import androidx.annotation.MainThread
+import androidx.annotation.WorkerThread
+import androidx.core.os.ConfigurationCompat
+import androidx.core.text.PrecomputedTextCompat
+import androidx.lifecycle.Lifecycle
+import androidx.lifecycle.LifecycleEventObserver
+import androidx.lifecycle.LifecycleOwner
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.android.message.UserMessage
+import com.sendbird.android.user.User
+import com.sendbird.uikit.interfaces.OnItemClickListener
+import com.sendbird.uikit.internal.extensions.findLifecycleOwner
+import com.sendbird.uikit.internal.extensions.runOnUiThread
+import com.sendbird.uikit.internal.ui.widgets.LinkDetectionSpan
+import com.sendbird.uikit.log.Logger
+import com.sendbird.uikit.model.MessageUIConfig
+import com.sendbird.uikit.model.TextUIConfig
+import com.sendbird.uikit.utils.MessageUtils
+import java.util.WeakHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * Keeps the rendered texts of the user messages, so binding a message view only sets the text which has the mentions,
+ * the markdown, the edited mark and the links applied already.
+ *
+ * The [Spec] of the last drawn message is kept for my messages and the others' messages,
+ * and the texts of the following messages are rendered with it in the background by [prepare].
+ * If a text has to be rendered on the main thread, it's drawn without the links first,
+ * and the links are detected in the background and applied to the views still drawing the message.
+ * The rendered texts don't hold the mention click listener of a view. The listener is looked up when a mention is clicked,
+ * so the same text can be drawn by any view holder.
+ * The texts are cached as immutable [SpannedString]s, and each view gets its own copy, because a view adds its own spans
+ * (e.g. the selection) to the text it draws. A measured text is drawn as it is only once, and kept as a [SpannedString] after that.
+ * The texts rendered in the background use the context of the last drawn view, so they have the theme, the locale and the night mode of the screen.
+ * The locales and the night mode are also a part of the key, so the texts rendered before the configuration changes aren't drawn.
+ *
+ * Use [of] to share a cache between the message views of the same screen.
+ */
+internal class MessageTextCache @JvmOverloads constructor(
+    private val maxCount: Int = DEFAULT_MAX_COUNT
+) {
+    /**
+     * Everything that affects the rendered text besides the message.
+     *
+     * @param linkifyMask The [android.text.util.Linkify] mask of the view, or 0 if the view doesn't detect the links.
+     * @param textMetricsParams The text metrics of the view. If it's set, the texts rendered in the background are also measured.
+     * @param renderer Renders the text of the message with the given context. It has to be callable from any thread.
+     */
+    class Spec(
+        private val uiConfig: MessageUIConfig?,
+        private val mentionedCurrentUserUIConfig: TextUIConfig?,
+        private val enableMention: Boolean,
+        private val enableMarkdown: Boolean,
+        val linkifyMask: Int,
+        val textMetricsParams: PrecomputedTextCompat.Params?,
+        private val renderer: (Context, BaseMessage) -> CharSequence
+    ) {
+        // the message views create their own mentioned current user config, so it's compared by the values.
+        private val keySuffix = "${System.identityHashCode(uiConfig)}_${mentionedCurrentUserUIConfig?.toKey()}_${enableMention}_${enableMarkdown}_$linkifyMask"
+
+        internal fun createKey(message: BaseMessage, configurationKey: String): String {
+            return "${message.requestId}_${message.messageId}_${message.updatedAt}_${keySuffix}_$configurationKey"
+        }
+
+        internal fun render(context: Context, message: BaseMessage): CharSequence = renderer(context, message)
+
+        private fun TextUIConfig.toKey(): String {
+            return "$textColor/$textBackgroundColor/$textStyle/$textSize/$familyName/$customFontRes"
+        }
+    }
+
+    private val cache = LruCache<String, CharSequence>(maxCount)
+    @Volatile
+    private var mySpec: Spec? = null
+    @Volatile
+    private var otherSpec: Spec? = null
+    // the context of the last drawn view. The cache is released with the screen, so it doesn't leak the screen.
+    @Volatile
+    private var renderContext: Context? = null
+    private val mentionClickListeners = WeakHashMap<View, OnItemClickListener<User>>()
+    // the key of the message each view draws.
+    private val boundKeys = WeakHashMap<TextView, String>()
+
+    /**
+     * The listener the rendered texts call when a mention is clicked. It dispatches the click to the listener of the clicked view.
+     */
+    val mentionClickDispatcher = OnItemClickListener<User> { view, position, user ->
+        mentionClickListeners[view]?.onItemClick(view, position, user)
+    }
+
+    /**
+     * Returns the rendered text of the [message] the [view] is going to draw, and renders it if it's not cached.
+     * The text rendered by this doesn't have the links yet. They're applied to the [view] when they're detected.
+     */
+    @MainThread
+    fun get(view: TextView, message: BaseMessage, spec: Spec): CharSequence {
+        if (MessageUtils.isMine(message)) mySpec = spec else otherSpec = spec
+        renderContext = view.context
+        val key = spec.createKey(message, view.context.configurationKey())
+        boundKeys[view] = key
+        cache.get(key)?.let { return obtain(key, it) }
+
+        val text = spec.render(view.context, message)
+        if (spec.linkifyMask == 0 || text.isEmpty()) {
+            val renderedText = SpannedString(text)
+            cache.put(key, renderedText)
+            return SpannableString(renderedText)
+        }
+        val pendingText = SpannedString(
+            SpannableStringBuilder(text).apply {
+                setSpan(LinkDetectionSpan(spec.linkifyMask), 0, length, Spanned.SPAN_INCLUSIVE_INCLUSIVE)
+            }
+        )
+        cache.put(key, pendingText)
+        linkDetectionExecutor.execute {
+            try {
+                detectLinks(text, spec.linkifyMask).runOnUiThread { onLinksDetected(key, pendingText, it) }
+            } catch (e: Exception) {
+                Logger.w(e)
+            }
+        }
+        return SpannableString(pendingText)
+    }
+
+    // returns the copy of the cached text, which the view can change.
+    @MainThread
+    private fun obtain(key: String, cached: CharSequence): CharSequence {
+        if (cached is PrecomputedTextCompat) {
+            // the measured text is handed over to the view, and the others get the copies of it.
+            cache.put(key, SpannedString(cached))
+            return cached
+        }
+        return SpannableString(cached)
+    }
+
+    /**
+     * Stops applying the detected links to the [view], because it doesn't draw a cached text anymore.
+     */
+    @MainThread
+    fun unbind(view: TextView) {
+        boundKeys.remove(view)
+    }
+
+    @MainThread
+    private fun onLinksDetected(key: String, pendingText: CharSequence, text: Spanned) {
+        if (cache.get(key) === pendingText) cache.put(key, text)
+        boundKeys.entries.filter { it.value == key }.forEach { it.key.text = SpannableString(text) }
+    }
+
+    @MainThread
+    fun setMentionClickListener(view: View, listener: OnItemClickListener<User>?) {
+        if (listener != null) mentionClickListeners[view] = listener else mentionClickListeners.remove(view)
+    }
+
+    /**
+     * Renders the texts of the user messages which are not cached yet, with the spec of the last drawn message.
+     * Nothing is rendered until a message is drawn, because the spec depends on the views.
+     */
+    @WorkerThread
+    fun prepare(messages: List<BaseMessage>) {
+        val context = renderContext ?: return
+        val configurationKey = context.configurationKey()
+        var renderedCount = 0
+        for (message in messages) {
+            // leaves the room for the messages being drawn.
+            if (renderedCount >= maxCount / 2) break
+            if (message !is UserMessage || MessageUtils.isUnknownType(message)) continue
+            val spec = (if (MessageUtils.isMine(message)) mySpec else otherSpec) ?: continue
+            val key = spec.createKey(message, configurationKey)
+            if (cache.get(key) != null) continue
+            try {
+                val rendered = spec.render(context, message)
+                val text = if (spec.linkifyMask != 0 && rendered.isNotEmpty()) detectLinks(rendered, spec.linkifyMask) else SpannedString(rendered)
+                val params = spec.textMetricsParams
+                cache.put(key, if (params != null) PrecomputedTextCompat.create(text, params) else text)
+                renderedCount++
+            } catch (e: Exception) {
+                Logger.w(e)
+            }
+        }
+        if (renderedCount > 0) Logger.d(">> MessageTextCache::prepare() rendered=$renderedCount")
+    }
+
+    @MainThread
+    fun clear() {
+        cache.evictAll()
+        mySpec = null
+        otherSpec = null
+        renderContext = null
+        mentionClickListeners.clear()
+        boundKeys.clear()
+    }
+
+    private fun Context.configurationKey(): String {
+        val configuration = resources.configuration
+        return "${ConfigurationCompat.getLocales(configuration).toLanguageTags()}_${configuration.uiMode}"
+    }
+
+    @WorkerThread
+    private fun detectLinks(text: CharSequence, linkifyMask: Int): Spanned {
+        val builder = SpannableStringBuilder(text).apply {
+            Linkify.addLinks(this, linkifyMask)
+            setSpan(LinkDetectionSpan(linkifyMask), 0, length, Spanned.SPAN_INCLUSIVE_INCLUSIVE)
+        }
+        return SpannedString(builder)
+    }
+
+    companion object {
+        private const val DEFAULT_MAX_COUNT = 300
+
+        private val linkDetectionExecutor: ExecutorService by lazy { Executors.newSingleThreadExecutor() }
+
+        private val caches = HashMap<LifecycleOwner, MessageTextCache>()
+
+        /**
+         * Returns the cache shared by the screen the [context] belongs to.
+         * The cache is cleared and released when the screen is destroyed.
+         * If the [context] doesn't belong to a [LifecycleOwner], a new cache is returned.
+         */
+        @JvmStatic
+        @MainThread
+        fun of(context: Context): MessageTextCache {
+            val owner = context.findLifecycleOwner() ?: return MessageTextCache()
+            if (owner.lifecycle.currentState == Lifecycle.State.DESTROYED) return MessageTextCache()
+            return caches.getOrPut(owner) {
+                MessageTextCache().also { cache ->
+                    owner.lifecycle.addObserver(object : LifecycleEventObserver {
+                        override fun onStateChanged(source: LifecycleOwner, event: Lifecycle.Event) {
+                            if (event != Lifecycle.Event.ON_DESTROY) return
+                            source.lifecycle.removeObserver(this)
+                            caches.remove(source)
+                            cache.clear()
+                        }
+                    })
+                }
+            }
+        }
+    }
+}
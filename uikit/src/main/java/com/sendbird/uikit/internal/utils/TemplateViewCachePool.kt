@@ -1,28 +1,187 @@
 package com.sendbird.uikit.internal.utils
 
+import android.content.Context
 import android.view.View
+import androidx.annotation.MainThread
+import androidx.lifecycle.Lifecycle
+import androidx.lifecycle.LifecycleEventObserver
+import androidx.lifecycle.LifecycleOwner
+import com.sendbird.uikit.consts.PerformanceMetricType
+import com.sendbird.uikit.internal.extensions.findLifecycleOwner
+import com.sendbird.uikit.internal.singleton.PerformanceMonitor
 import com.sendbird.uikit.log.Logger
-import java.util.concurrent.ConcurrentHashMap
+import java.util.ArrayDeque
 
 /**
- * Be careful that this TemplateViewCachePool is not referenced by multiple objects.
- * Consider java's garbage collection policy so that when a component with a cache pool is freed from memory,
- * this cache pool is also freed.
+ * Keeps the template views which are not attached to any parent, so they can be reused when the same template is drawn again.
+ *
+ * The pool only holds the idle views. A view is returned to the pool with [recycle] when it's removed from its parent,
+ * and is taken out with [obtain] in O(1).
+ * The number of the idle views is bounded per key by [maxIdleCountPerKey] and in total by [maxIdleCount].
+ * When the total exceeds the limit, the views of the least recently used key are evicted first.
+ *
+ * Use [of] to share a pool between the list adapters of the same screen. The adapters get the pool when they create
+ * their first view holder. The counters of the pool are recorded as [PerformanceMetricType.TEMPLATE_VIEW_CACHE] when the screen is destroyed.
  */
-internal class TemplateViewCachePool {
-    private val viewCachePool: MutableMap<String, MutableList<View>> = ConcurrentHashMap()
+internal class TemplateViewCachePool @JvmOverloads constructor(
+    private val maxIdleCountPerKey: Int = DEFAULT_MAX_IDLE_COUNT_PER_KEY,
+    private val maxIdleCount: Int = DEFAULT_MAX_IDLE_COUNT
+) {
+    /**
+     * The counters of the pool, used to size it.
+     *
+     * @property hitCount The number of [obtain] calls that returned a cached view
+     * @property missCount The number of [obtain] calls that returned nothing
+     * @property evictionCount The number of the views dropped because of the limits
+     * @property idleCount The number of the views currently held by the pool
+     */
+    data class Stats(
+        val hitCount: Long,
+        val missCount: Long,
+        val evictionCount: Long,
+        val idleCount: Int
+    ) {
+        internal fun record() {
+            val type = PerformanceMetricType.TEMPLATE_VIEW_CACHE
+            PerformanceMonitor.record(type, LABEL_HIT, hitCount)
+            PerformanceMonitor.record(type, LABEL_MISS, missCount)
+            PerformanceMonitor.record(type, LABEL_EVICTION, evictionCount)
+            PerformanceMonitor.record(type, LABEL_IDLE, idleCount.toLong())
+        }
+    }
+
+    // access-ordered, so the first entry is the least recently used key.
+    private val idleViews = LinkedHashMap<String, ArrayDeque<View>>(16, 0.75f, true)
+    private var idleCount = 0
+    // the keys whose views have been taken out, so they are not pre-warmed again while they are displayed.
+    private val inUseKeys = LinkedHashSet<String>()
+    private var hitCount = 0L
+    private var missCount = 0L
+    private var evictionCount = 0L
 
     /**
-     * get scrapped view which is not attached to any parent from cache pool
+     * Takes out an idle view cached with the [key].
+     *
+     * @return The cached view which is not attached to any parent, or null if there's no such view
      */
-    internal fun getScrappedView(key: String): View? {
-        val views = viewCachePool[key]
-        return views?.firstOrNull { it.parent == null }.also {
-            Logger.d("key: $key, view cache ${if (it != null) "hit" else "missed"}")
+    @Synchronized
+    internal fun obtain(key: String): View? {
+        val views = idleViews[key]
+        var view: View? = null
+        while (views != null && views.isNotEmpty() && view == null) {
+            idleCount--
+            // the view could be attached to another parent after it's recycled.
+            view = views.pollLast()?.takeIf { it.parent == null }
         }
+        if (views != null && views.isEmpty()) idleViews.remove(key)
+
+        if (view != null) hitCount++ else missCount++
+        markInUse(key)
+        Logger.d("key: $key, view cache ${if (view != null) "hit" else "missed"}")
+        return view
+    }
+
+    /**
+     * Returns the view removed from its parent to the pool.
+     */
+    @Synchronized
+    internal fun recycle(key: String, view: View) {
+        if (view.parent != null) return
+        inUseKeys.remove(key)
+        val views = idleViews.getOrPut(key) { ArrayDeque() }
+        if (views.any { it === view }) return
+        views.addLast(view)
+        idleCount++
+        if (views.size > maxIdleCountPerKey) {
+            views.pollFirst()
+            idleCount--
+            evictionCount++
+        }
+        trimToSize(maxIdleCount)
+    }
+
+    /**
+     * Checks whether a view of the [key] needs to be created ahead of time.
+     *
+     * @return `true` if the pool has no idle view of the [key] and no view of it is displayed
+     */
+    @Synchronized
+    internal fun needsWarmUp(key: String): Boolean {
+        return !inUseKeys.contains(key) && idleViews[key].isNullOrEmpty()
     }
 
-    internal fun cacheView(key: String, view: View) {
-        viewCachePool.getOrPut(key) { mutableListOf() }.add(view)
+    /**
+     * Evicts all idle views.
+     */
+    @Synchronized
+    internal fun clear() {
+        evictionCount += idleCount
+        idleViews.clear()
+        idleCount = 0
+        inUseKeys.clear()
+    }
+
+    @Synchronized
+    internal fun stats(): Stats = Stats(hitCount, missCount, evictionCount, idleCount)
+
+    private fun markInUse(key: String) {
+        inUseKeys.remove(key)
+        inUseKeys.add(key)
+        // the views of the destroyed view holders are never recycled, so the oldest keys are forgotten.
+        if (inUseKeys.size > maxIdleCount * IN_USE_KEYS_RATIO) {
+            inUseKeys.remove(inUseKeys.first())
+        }
+    }
+
+    private fun trimToSize(maxSize: Int) {
+        val iterator = idleViews.values.iterator()
+        while (idleCount > maxSize && iterator.hasNext()) {
+            val views = iterator.next()
+            while (idleCount > maxSize && views.isNotEmpty()) {
+                views.pollFirst()
+                idleCount--
+                evictionCount++
+            }
+            if (views.isEmpty()) iterator.remove()
+        }
+    }
+
+    companion object {
+        private const val DEFAULT_MAX_IDLE_COUNT_PER_KEY = 2
+        private const val DEFAULT_MAX_IDLE_COUNT = 64
+        private const val IN_USE_KEYS_RATIO = 4
+        private const val LABEL_HIT = "hit"
+        private const val LABEL_MISS = "miss"
+        private const val LABEL_EVICTION = "eviction"
+        private const val LABEL_IDLE = "idle"
+
+        private val pools = HashMap<LifecycleOwner, TemplateViewCachePool>()
+
+        /**
+         * Returns the pool shared by the screen the [context] belongs to.
+         * The pool is cleared and released when the screen is destroyed.
+         * If the [context] doesn't belong to a [LifecycleOwner], a new pool is returned.
+         */
+        @JvmStatic
+        @MainThread
+        fun of(context: Context): TemplateViewCachePool {
+            val owner = context.findLifecycleOwner() ?: return TemplateViewCachePool()
+            if (owner.lifecycle.currentState == Lifecycle.State.DESTROYED) return TemplateViewCachePool()
+            return pools.getOrPut(owner) {
+                TemplateViewCachePool().also { pool ->
+                    owner.lifecycle.addObserver(object : LifecycleEventObserver {
+                        override fun onStateChanged(source: LifecycleOwner, event: Lifecycle.Event) {
+                            if (event != Lifecycle.Event.ON_DESTROY) return
+                            source.lifecycle.removeObserver(this)
+                            pools.remove(source)
+                            val stats = pool.stats()
+                            Logger.d(">> TemplateViewCachePool::release() stats=$stats")
+                            stats.record()
+                            pool.clear()
+                        }
+                    })
+                }
+            }
+        }
     }
 }
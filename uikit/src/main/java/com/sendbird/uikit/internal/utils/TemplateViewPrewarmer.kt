@@ -0,0 +1,74 @@
+package com.sendbird.uikit.internal.utils
+
+import android.os.Looper
+import android.os.MessageQueue
+import android.view.View
+import androidx.annotation.MainThread
+import com.sendbird.uikit.log.Logger
+
+/**
+ * Creates the template views ahead of the visible window and puts them into the [TemplateViewCachePool].
+ *
+ * The views are created on the main thread because the template views load their images while they're created,
+ * but only when the main thread is idle, one view at a time, so the scrolling frames are not affected.
+ * The layout models have to be parsed in the background before the views are requested.
+ */
+internal class TemplateViewPrewarmer(private val viewCachePool: TemplateViewCachePool) {
+    private val pending = LinkedHashMap<String, () -> View?>()
+    private var isScheduled = false
+
+    private val idleHandler = MessageQueue.IdleHandler {
+        val next = pending.entries.firstOrNull()
+        if (next != null) {
+            pending.remove(next.key)
+            warmUp(next.key, next.value)
+        }
+        pending.isNotEmpty().also { isScheduled = it }
+    }
+
+    /**
+     * Requests a view of the [key] to be created when the main thread is idle.
+     * It's ignored if the view of the [key] is already in the pool or displayed.
+     *
+     * @param key The cache key of the view
+     * @param creator Creates the view. It returns null if the view can't be created ahead of time.
+     */
+    @MainThread
+    fun enqueue(key: String, creator: () -> View?) {
+        if (!viewCachePool.needsWarmUp(key) || pending.containsKey(key)) return
+        if (pending.size >= MAX_PENDING_COUNT) {
+            // the oldest requests are the farthest from the visible window.
+            pending.remove(pending.keys.first())
+        }
+        pending[key] = creator
+        if (!isScheduled) {
+            isScheduled = true
+            Looper.myQueue().addIdleHandler(idleHandler)
+        }
+    }
+
+    /**
+     * Cancels the requests that are not handled yet.
+     */
+    @MainThread
+    fun cancel() {
+        pending.clear()
+        if (isScheduled) {
+            Looper.myQueue().removeIdleHandler(idleHandler)
+            isScheduled = false
+        }
+    }
+
+    private fun warmUp(key: String, creator: () -> View?) {
+        if (!viewCachePool.needsWarmUp(key)) return
+        try {
+            creator()?.let { viewCachePool.recycle(key, it) }
+        } catch (e: Exception) {
+            Logger.w(e)
+        }
+    }
+
+    companion object {
+        private const val MAX_PENDING_COUNT = 16
+    }
+}
@@ -0,0 +1,36 @@
+package com.sendbird.uikit.internal.utils
+
+import android.content.BroadcastReceiver
+import android.content.Context
+import android.content.Intent
+import android.content.IntentFilter
+import com.sendbird.uikit.log.Logger
+import com.sendbird.uikit.utils.DateUtils
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * Clears the time zone cached by [DateUtils] when the system time zone or locale changes.
+ */
+internal object TimeZoneChangeReceiver : BroadcastReceiver() {
+    private val registered = AtomicBoolean(false)
+
+    @JvmStatic
+    fun register(context: Context) {
+        if (!registered.compareAndSet(false, true)) return
+        val filter = IntentFilter().apply {
+            addAction(Intent.ACTION_TIMEZONE_CHANGED)
+            addAction(Intent.ACTION_LOCALE_CHANGED)
+        }
+        try {
+            context.applicationContext.registerReceiver(this, filter)
+        } catch (e: Exception) {
+            Logger.w(e)
+            registered.set(false)
+        }
+    }
+
+    override fun onReceive(context: Context, intent: Intent) {
+        Logger.d(">> TimeZoneChangeReceiver::onReceive() action=${intent.action}")
+        DateUtils.clearTimeZoneCache()
+    }
+}
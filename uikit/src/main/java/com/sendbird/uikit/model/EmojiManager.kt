@@ -4,8 +4,11 @@ import android.util.Base64
 import com.sendbird.android.message.Emoji
 import com.sendbird.android.message.EmojiCategory
 import com.sendbird.android.message.EmojiContainer
+import com.sendbird.uikit.consts.InitStage
 import com.sendbird.uikit.consts.StringSet
+import com.sendbird.uikit.internal.singleton.UIKitInitializer
 import com.sendbird.uikit.utils.UIKitPrefs
+import java.util.Collections
 
 /**
  * Manager providing emoji information from Sendbird server.
@@ -13,6 +16,8 @@ import com.sendbird.uikit.utils.UIKitPrefs
  * @since 1.1.0
  */
 object EmojiManager {
+    private const val MAX_EMOJI_LIST_CACHE_SIZE = 32
+
     /**
      * Returns the emoji hash
      *
@@ -21,10 +26,27 @@ object EmojiManager {
      */
     @JvmStatic
     var emojiHash: String? = null
+        get() {
+            awaitInit()
+            return field
+        }
         private set
     private val emojiLock = Any()
     private var emojiCategoryMap = LinkedHashMap<Long, EmojiCategory>()
     private var allEmojiMap = LinkedHashMap<String, Emoji>()
+    // the emojis of each set of categories, so the list isn't flattened again whenever a message is bound.
+    private var emojiListCache = createEmojiListCache()
+
+    /**
+     * The emojis of all the categories, which is kept until the emojis are updated.
+     */
+    @Volatile
+    internal var allEmojiList: List<Emoji> = emptyList()
+        get() {
+            awaitInit()
+            return field
+        }
+        private set
 
     @JvmStatic
     fun init() {
@@ -37,6 +59,8 @@ object EmojiManager {
 
     @JvmStatic
     fun upsertEmojiContainer(emojiContainer: EmojiContainer) {
+        // the cached emojis loaded later must not overwrite the new ones.
+        awaitInit()
         upsertEmojiContainer(emojiContainer, true)
     }
 
@@ -51,6 +75,8 @@ object EmojiManager {
                     allEmojiMap[emoji.key] = emoji
                 }
             }
+            emojiListCache = createEmojiListCache()
+            allEmojiList = Collections.unmodifiableList(allEmojiMap.values.toList())
         }
         if (saveToFile) {
             val emojiContainerSerialized: String = encodeEmojiContainer(emojiContainer)
@@ -67,6 +93,7 @@ object EmojiManager {
      */
     @JvmStatic
     fun getEmojiUrl(key: String): String? {
+        awaitInit()
         return synchronized(emojiLock) {
             allEmojiMap[key]?.url
         }
@@ -80,7 +107,10 @@ object EmojiManager {
          * @return The list of Emoji category list
          * @since 1.1.0
          */
-        get() = emojiCategoryMap.values.toList()
+        get() {
+            awaitInit()
+            return emojiCategoryMap.values.toList()
+        }
 
     @JvmStatic
     val allEmojis: List<Emoji>
@@ -90,7 +120,10 @@ object EmojiManager {
          * @return The list of Emoji registering Sendbird server
          * @since 1.1.0
          */
-        get() = allEmojiMap.values.toList()
+        get() {
+            awaitInit()
+            return allEmojiMap.values.toList()
+        }
 
     /**
      * Returns the [List] corresponding to emoji category id
@@ -101,19 +134,34 @@ object EmojiManager {
      */
     @JvmStatic
     fun getEmojis(emojiCategoryId: Long): List<Emoji>? {
+        awaitInit()
         return synchronized(emojiLock) {
             emojiCategoryMap[emojiCategoryId]?.emojis?.toList()
         }
     }
 
-    internal fun getEmojis(emojiCategoryIds: List<Long>): List<Emoji>? {
+    internal fun getEmojis(emojiCategoryIds: List<Long>): List<Emoji> {
+        awaitInit()
         return synchronized(emojiLock) {
-            emojiCategoryIds.distinct().mapNotNull { emojiCategoryId ->
-                emojiCategoryMap[emojiCategoryId]?.emojis?.toList()
-            }.flatten()
+            emojiListCache[emojiCategoryIds] ?: Collections.unmodifiableList(
+                emojiCategoryIds.distinct().flatMap { emojiCategoryMap[it]?.emojis.orEmpty() }
+            ).also {
+                // the ids are copied, because the caller may change its list.
+                emojiListCache[emojiCategoryIds.toList()] = it
+            }
         }
     }
 
+    private fun createEmojiListCache(): MutableMap<List<Long>, List<Emoji>> {
+        return object : LinkedHashMap<List<Long>, List<Emoji>>(16, 0.75f, true) {
+            override fun removeEldestEntry(eldest: MutableMap.MutableEntry<List<Long>, List<Emoji>>?): Boolean {
+                return size > MAX_EMOJI_LIST_CACHE_SIZE
+            }
+        }
+    }
+
+    private fun awaitInit() = UIKitInitializer.await(InitStage.EMOJI)
+
     private fun encodeEmojiContainer(container: EmojiContainer): String {
         return Base64.encodeToString(container.serialize(), Base64.DEFAULT)
     }
@@ -15,8 +15,10 @@ import com.sendbird.uikit.SendbirdUIKit
 import com.sendbird.uikit.consts.StringSet
 import com.sendbird.uikit.interfaces.OnResultHandler
 import com.sendbird.uikit.internal.model.VoiceMetaInfo
+import com.sendbird.uikit.internal.singleton.FileCacheManager
 import com.sendbird.uikit.internal.tasks.JobResultTask
 import com.sendbird.uikit.internal.tasks.TaskQueue.addTask
+import com.sendbird.uikit.internal.utils.MediaPreprocessor
 import com.sendbird.uikit.log.Logger
 import com.sendbird.uikit.utils.FileUtils
 import com.sendbird.uikit.utils.ImageUtils
@@ -99,6 +101,7 @@ class FileInfo internal constructor(
         Logger.d(">> FileInfo::clear()")
         if (path.isNotEmpty()) {
             val file = File(path)
+            FileCacheManager.remove(file)
             if (file.exists()) {
                 val deleted = file.delete()
                 Logger.d("-- file delete=%s, path=%s", deleted, path)
@@ -141,7 +144,7 @@ class FileInfo internal constructor(
             )
         }
 
-        private fun isCompressible(mimeType: String): Boolean {
+        internal fun isCompressible(mimeType: String): Boolean {
             return mimeType.startsWith(StringSet.image) &&
                 (mimeType.endsWith(StringSet.jpeg) || mimeType.endsWith(StringSet.jpg) || mimeType.endsWith(StringSet.png))
         }
@@ -198,10 +201,9 @@ class FileInfo internal constructor(
             handler: OnResultHandler<List<FileInfo?>>?
         ): Future<List<FileInfo?>> {
             return addTask(object : JobResultTask<List<FileInfo?>>() {
-                @Throws(IOException::class)
+                @Throws(Exception::class)
                 override fun call(): List<FileInfo?>? {
-                    return uris.map { uriToFileInfo(context, it, useImageCompression) }
-                        .takeIf { it.isNotEmpty() }
+                    return MediaPreprocessor.processBlocking(context, uris, useImageCompression).takeIf { it.isNotEmpty() }
                 }
 
                 override fun onResultForUiThread(result: List<FileInfo?>?, e: SendbirdException?) {
@@ -310,12 +312,14 @@ class FileInfo internal constructor(
                 }
                 val bitmap = ImageUtils.getBitmap(path, width, height)
                 Logger.d("++ resized image with=%s, height=%s", bitmap.width, bitmap.height)
-                return FileUtils.bitmapToFile(
+                val resizedFile = FileUtils.bitmapToFile(
                     bitmap,
                     destFile,
                     quality,
                     FileUtils.extractBitmapFormat(mimeType)
-                ).absolutePath
+                )
+                FileCacheManager.add(resizedFile, null)
+                return resizedFile.absolutePath
             }
             return path
         }
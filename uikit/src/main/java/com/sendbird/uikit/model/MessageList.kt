@@ -4,6 +4,7 @@ import com.sendbird.android.message.BaseMessage
 import com.sendbird.android.message.CustomizableMessage
 import com.sendbird.uikit.log.Logger
 import com.sendbird.uikit.utils.DateUtils
+import java.util.Collections
 import java.util.TreeSet
 import java.util.concurrent.ConcurrentHashMap
 
@@ -28,7 +29,17 @@ internal class MessageList @JvmOverloads constructor(private val order: Order =
         }
     }
 
-    private val timelineMap: MutableMap<String, BaseMessage> = ConcurrentHashMap()
+    // timeline messages keyed by the epoch day of the messages they precede.
+    private val timelineMap: MutableMap<Long, BaseMessage> = ConcurrentHashMap()
+
+    // secondary indexes over [messages]. Timeline messages are only indexed by createdAt.
+    private val messageIdIndex: MutableMap<Long, BaseMessage> = HashMap()
+    private val requestIdIndex: MutableMap<String, BaseMessage> = HashMap()
+    private val createdAtIndex: MutableMap<Long, MutableList<BaseMessage>> = HashMap()
+
+    // immutable copy of [messages] which is reused until the list is modified.
+    @Volatile
+    private var cachedSnapshot: List<BaseMessage>? = null
 
     /**
      * @return the latest message.
@@ -52,46 +63,64 @@ internal class MessageList @JvmOverloads constructor(private val order: Order =
         @JvmName("size") // TODO : remove it if there is no place to use it on the java-side.
         get() = messages.size
 
+    /**
+     * @return a new mutable list of the messages. Use [snapshot] if the list doesn't need to be modified.
+     */
     fun toList(): MutableList<BaseMessage> {
-        return messages.toMutableList()
+        return ArrayList(snapshot())
+    }
+
+    /**
+     * Returns an immutable view of the messages.
+     * The same instance is returned until this list is modified, so it can be shared without copying.
+     *
+     * @return the immutable list of the messages.
+     */
+    @Synchronized
+    fun snapshot(): List<BaseMessage> {
+        return cachedSnapshot ?: Collections.unmodifiableList(ArrayList(messages)).also { cachedSnapshot = it }
     }
 
     @Synchronized
     fun clear() {
         messages.clear()
         timelineMap.clear()
+        messageIdIndex.clear()
+        requestIdIndex.clear()
+        createdAtIndex.clear()
+        cachedSnapshot = null
     }
 
     @Synchronized
     fun add(message: BaseMessage) {
         Logger.d(">> MessageList::addAll()")
         if (!useTimeline) {
-            BaseMessage.clone(message)?.let { messages.add(it) }
+            BaseMessage.clone(message)?.let { insert(it) }
             return
         }
         val createdAt = message.createdAt
-        val dateStr = DateUtils.getDateString(createdAt)
-        var timeline = timelineMap[dateStr]
+        val epochDay = DateUtils.getEpochDay(createdAt)
+        var timeline = timelineMap[epochDay]
         // create new timeline message if not exists
         if (timeline == null) {
             timeline = createTimelineMessage(message)
-            messages.add(timeline)
-            timelineMap[dateStr] = timeline
-            messages.remove(message)
-            BaseMessage.clone(message)?.let { messages.add(it) }
+            insert(timeline)
+            timelineMap[epochDay] = timeline
+            remove(message)
+            BaseMessage.clone(message)?.let { insert(it) }
             return
         }
 
         // remove previous timeline message if it exists.
         val timelineCreatedAt = timeline.createdAt
         if (timelineCreatedAt > createdAt) {
-            messages.remove(timeline)
+            remove(timeline)
             val newTimeline = createTimelineMessage(message)
-            timelineMap[dateStr] = newTimeline
-            messages.add(newTimeline)
+            timelineMap[epochDay] = newTimeline
+            insert(newTimeline)
         }
-        messages.remove(message)
-        BaseMessage.clone(message)?.let { messages.add(it) }
+        remove(message)
+        BaseMessage.clone(message)?.let { insert(it) }
     }
 
     fun addAll(messages: List<BaseMessage>) {
@@ -103,27 +132,27 @@ internal class MessageList @JvmOverloads constructor(private val order: Order =
     @Synchronized
     fun delete(message: BaseMessage): Boolean {
         Logger.d(">> MessageList::deleteMessage()")
-        val removed = messages.remove(message)
+        val removed = remove(message)
         if (removed && useTimeline) {
             val createdAt = message.createdAt
-            val dateStr = DateUtils.getDateString(createdAt)
-            val timeline = timelineMap[dateStr] ?: return true
+            val epochDay = DateUtils.getEpochDay(createdAt)
+            val timeline = timelineMap[epochDay] ?: return true
 
             // check below item.
             val lower = messages.lower(message)
-            if (lower != null && DateUtils.hasSameDate(createdAt, lower.createdAt)) {
+            if (lower != null && epochDay == DateUtils.getEpochDay(lower.createdAt)) {
                 return true
             }
 
             // check above item.
             val higher = messages.higher(message)
-            if (higher != null && DateUtils.hasSameDate(createdAt, higher.createdAt)) {
+            if (higher != null && epochDay == DateUtils.getEpochDay(higher.createdAt)) {
                 if (timeline != higher) {
                     return true
                 }
             }
-            if (timelineMap.remove(dateStr) != null) {
-                messages.remove(timeline)
+            if (timelineMap.remove(epochDay) != null) {
+                remove(timeline)
             }
         }
         return removed
@@ -136,15 +165,15 @@ internal class MessageList @JvmOverloads constructor(private val order: Order =
 
     @Synchronized
     fun deleteByMessageId(msgId: Long): BaseMessage? {
-        return messages.find { it.messageId == msgId }?.also { delete(it) }
+        return messageIdIndex[msgId]?.also { delete(it) }
     }
 
     @Synchronized
     fun update(message: BaseMessage): BaseMessage? {
         Logger.d(">> MessageList::updateMessage()")
         if (message is CustomizableMessage) return null
-        return if (messages.remove(message)) {
-            BaseMessage.clone(message)?.also { messages.add(it) }
+        return if (remove(message)) {
+            BaseMessage.clone(message)?.also { insert(it) }
         } else {
             null
         }
@@ -157,13 +186,56 @@ internal class MessageList @JvmOverloads constructor(private val order: Order =
 
     @Synchronized
     fun getById(messageId: Long): BaseMessage? {
-        return messages.find { it.messageId == messageId }
+        return messageIdIndex[messageId]
+    }
+
+    @Synchronized
+    fun getByRequestId(requestId: String): BaseMessage? {
+        if (requestId.isEmpty()) return null
+        return requestIdIndex[requestId]
     }
 
     @Synchronized
     fun getByCreatedAt(createdAt: Long): List<BaseMessage> {
         if (createdAt == 0L) return emptyList()
-        return messages.filter { it.createdAt == createdAt }
+        return createdAtIndex[createdAt]?.toList() ?: emptyList()
+    }
+
+    private fun insert(message: BaseMessage): Boolean {
+        if (!messages.add(message)) return false
+        cachedSnapshot = null
+        if (message !is TimelineMessage) {
+            messageIdIndex[message.messageId] = message
+            if (message.requestId.isNotEmpty()) {
+                requestIdIndex[message.requestId] = message
+            }
+        }
+        val sameTimeMessages = createdAtIndex.getOrPut(message.createdAt) { ArrayList(1) }
+        sameTimeMessages.add(message)
+        if (sameTimeMessages.size > 1) {
+            sameTimeMessages.sortWith(messages.comparator())
+        }
+        return true
+    }
+
+    private fun remove(message: BaseMessage): Boolean {
+        // finds the stored instance to clean up the indexes with the values it was indexed with.
+        val stored = messages.ceiling(message)?.takeIf { messages.comparator().compare(it, message) == 0 } ?: return false
+        messages.remove(stored)
+        cachedSnapshot = null
+        if (stored !is TimelineMessage) {
+            if (messageIdIndex[stored.messageId] === stored) {
+                messageIdIndex.remove(stored.messageId)
+            }
+            if (requestIdIndex[stored.requestId] === stored) {
+                requestIdIndex.remove(stored.requestId)
+            }
+        }
+        createdAtIndex[stored.createdAt]?.let { sameTimeMessages ->
+            sameTimeMessages.removeAll { it === stored }
+            if (sameTimeMessages.isEmpty()) createdAtIndex.remove(stored.createdAt)
+        }
+        return true
     }
 
     companion object {
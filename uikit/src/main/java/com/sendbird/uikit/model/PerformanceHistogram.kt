@@ -0,0 +1,100 @@
+package com.sendbird.uikit.model
+
+import com.sendbird.uikit.consts.PerformanceMetricType
+import kotlin.math.ceil
+
+/**
+ * The distribution of the values UIKit measured while the performance metrics are enabled.
+ * The values are counted in the buckets whose upper bounds are the powers of 2 minus 1,
+ * so a percentile is accurate within a factor of 2.
+ *
+ * @see com.sendbird.uikit.SendbirdUIKit.getPerformanceMetrics
+ * @since 3.27.0
+ */
+class PerformanceHistogram internal constructor(
+    /**
+     * Returns what the values are.
+     *
+     * @return The [PerformanceMetricType] of the values
+     * @since 3.27.0
+     */
+    val type: PerformanceMetricType,
+    /**
+     * Returns what the values are grouped by, such as the view type or the screen. See [PerformanceMetricType].
+     *
+     * @return The label of the values, or empty if the values are not grouped
+     * @since 3.27.0
+     */
+    val label: String,
+    /**
+     * Returns the number of the values.
+     *
+     * @return The number of the values
+     * @since 3.27.0
+     */
+    val count: Long,
+    /**
+     * Returns the sum of the values.
+     *
+     * @return The sum of the values
+     * @since 3.27.0
+     */
+    val sum: Long,
+    /**
+     * Returns the largest value.
+     *
+     * @return The largest value
+     * @since 3.27.0
+     */
+    val max: Long,
+    private val bucketCounts: LongArray
+) {
+    /**
+     * Returns the average of the values.
+     *
+     * @return The average of the values, or 0 if there's no value
+     * @since 3.27.0
+     */
+    val average: Double
+        get() = if (count == 0L) 0.0 else sum.toDouble() / count
+
+    /**
+     * Returns the number of the values counted in each bucket.
+     * The bucket at the index `i` counts the values from `2^(i-1)` to `2^i - 1`, and the first bucket counts the zeros.
+     *
+     * @return The numbers of the values of the buckets
+     * @since 3.27.0
+     */
+    fun getBucketCounts(): LongArray = bucketCounts.copyOf()
+
+    /**
+     * Returns the upper bound of the bucket the [percentile] of the values falls into.
+     *
+     * @param percentile The percentile from 0 to 100
+     * @return The value of the percentile, or 0 if there's no value
+     * @since 3.27.0
+     */
+    fun getPercentile(percentile: Double): Long {
+        if (count == 0L) return 0L
+        val rank = ceil(count * percentile.coerceIn(0.0, 100.0) / 100).toLong().coerceAtLeast(1L)
+        var accumulated = 0L
+        bucketCounts.forEachIndexed { index, bucketCount ->
+            accumulated += bucketCount
+            if (accumulated >= rank) return minOf(getBucketUpperBound(index), max)
+        }
+        return max
+    }
+
+    override fun toString(): String {
+        return "PerformanceHistogram(type=$type, label='$label', count=$count, average=$average, " +
+            "p50=${getPercentile(50.0)}, p90=${getPercentile(90.0)}, p99=${getPercentile(99.0)}, max=$max)"
+    }
+
+    internal companion object {
+        const val BUCKET_COUNT = 64
+
+        fun getBucketIndex(value: Long): Int = 64 - java.lang.Long.numberOfLeadingZeros(value.coerceAtLeast(0L))
+
+        fun getBucketUpperBound(index: Int): Long = if (index >= 63) Long.MAX_VALUE else (1L shl index) - 1
+    }
+}
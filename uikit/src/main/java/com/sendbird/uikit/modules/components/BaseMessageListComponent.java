@@ -33,6 +33,7 @@ import com.sendbird.uikit.interfaces.OnItemClickListener;
 import com.sendbird.uikit.interfaces.OnItemLongClickListener;
 import com.sendbird.uikit.interfaces.OnMessageListUpdateHandler;
 import com.sendbird.uikit.interfaces.OnPagedDataLoader;
+import com.sendbird.uikit.interfaces.PagedDataPrefetchPolicy;
 import com.sendbird.uikit.internal.extensions.ChannelExtensionsKt;
 import com.sendbird.uikit.internal.extensions.MessageExtensionsKt;
 import com.sendbird.uikit.internal.interfaces.OnFeedbackRatingClickListener;
@@ -90,6 +91,8 @@ abstract public class BaseMessageListComponent<LA extends BaseMessageListAdapter
     @Nullable
     OnPagedDataLoader<List<BaseMessage>> pagedDataLoader;
     @Nullable
+    private PagedDataPrefetchPolicy prefetchPolicy;
+    @Nullable
     private View.OnClickListener tooltipClickListener;
     @Nullable
     @Deprecated
@@ -211,6 +214,7 @@ abstract public class BaseMessageListComponent<LA extends BaseMessageListAdapter
         recyclerView.setHasFixedSize(true);
         recyclerView.setClipToPadding(false);
         recyclerView.setThreshold(5);
+        recyclerView.setPrefetchPolicy(prefetchPolicy);
         recyclerView.setItemAnimator(itemAnimator);
         recyclerView.useReverseData();
         messageRecyclerView.setOnScrollFirstButtonClickListener(this::onScrollFirstButtonClicked);
@@ -366,6 +370,19 @@ abstract public class BaseMessageListComponent<LA extends BaseMessageListAdapter
             messageRecyclerView.getRecyclerView().setPager(pagedDataLoader);
     }
 
+    /**
+     * Sets the policy deciding when the previous or the next messages are loaded while the list is scrolled.
+     * If it's not set, the messages are loaded ahead by the scrolling speed and the time it takes to load them.
+     *
+     * @param prefetchPolicy The policy deciding when the messages are loaded
+     * since 3.27.0
+     */
+    public void setPrefetchPolicy(@Nullable PagedDataPrefetchPolicy prefetchPolicy) {
+        this.prefetchPolicy = prefetchPolicy;
+        if (messageRecyclerView != null)
+            messageRecyclerView.getRecyclerView().setPrefetchPolicy(prefetchPolicy);
+    }
+
     /**
      * Register a callback to be invoked when the message is clicked.
      *
@@ -20,6 +20,7 @@ import com.sendbird.uikit.fragments.ItemAnimator;
 import com.sendbird.uikit.interfaces.OnItemClickListener;
 import com.sendbird.uikit.interfaces.OnItemLongClickListener;
 import com.sendbird.uikit.interfaces.OnPagedDataLoader;
+import com.sendbird.uikit.interfaces.PagedDataPrefetchPolicy;
 import com.sendbird.uikit.internal.ui.widgets.PagerRecyclerView;
 import com.sendbird.uikit.log.Logger;
 import com.sendbird.uikit.model.ChannelListUIParams;
@@ -42,6 +43,8 @@ public class ChannelListComponent {
     private final Params params;
     @Nullable
     private PagerRecyclerView pagerRecyclerView;
+    @Nullable
+    private PagedDataPrefetchPolicy prefetchPolicy;
 
     @Nullable
     private OnItemClickListener<GroupChannel> itemClickListener;
@@ -151,6 +154,7 @@ public class ChannelListComponent {
         this.pagerRecyclerView.setHasFixedSize(true);
         this.pagerRecyclerView.setItemAnimator(new ItemAnimator());
         this.pagerRecyclerView.setThreshold(5);
+        this.pagerRecyclerView.setPrefetchPolicy(prefetchPolicy);
         this.adapter = AdapterProviders.getChannelList().provide(new ChannelListUIParams(
             params.channelListConfig.getEnableTypingIndicator(),
             params.channelListConfig.getEnableMessageReceiptStatus()
@@ -189,6 +193,18 @@ public class ChannelListComponent {
         if (pagerRecyclerView != null) pagerRecyclerView.setPager(pagedDataLoader);
     }
 
+    /**
+     * Sets the policy deciding when the next channels are loaded while the list is scrolled.
+     * If it's not set, the channels are loaded ahead by the scrolling speed and the time it takes to load them.
+     *
+     * @param prefetchPolicy The policy deciding when the channels are loaded
+     * since 3.27.0
+     */
+    public void setPrefetchPolicy(@Nullable PagedDataPrefetchPolicy prefetchPolicy) {
+        this.prefetchPolicy = prefetchPolicy;
+        if (pagerRecyclerView != null) pagerRecyclerView.setPrefetchPolicy(prefetchPolicy);
+    }
+
     /**
      * Called when the channel list is changed.
      *
@@ -3,12 +3,14 @@ package com.sendbird.uikit.utils;
 import android.content.Context;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.sendbird.uikit.R;
 
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Locale;
+import java.util.TimeZone;
 
 /**
  * A class with static util methods.
@@ -16,6 +18,12 @@ import java.util.Locale;
 
 @SuppressWarnings("unused")
 public class DateUtils {
+    private static final long MILLIS_PER_MINUTE = 60 * 1000L;
+    private static final long MILLIS_PER_DAY = 24 * 60 * MILLIS_PER_MINUTE;
+
+    // TimeZone.getDefault() returns a new copy on every call, so the default time zone is cached until it changes.
+    @Nullable
+    private static volatile TimeZone cachedTimeZone;
 
     // This class should not be initialized
     private DateUtils() {
@@ -134,6 +142,55 @@ public class DateUtils {
         return dateFormat.format(dateMillis);
     }
 
+    /**
+     * Returns the number of days from the epoch to the given time in the default time zone.
+     * Two times are of the same day if they have the same epoch day.
+     *
+     * @param timeInMillis The time in milliseconds.
+     * @return The epoch day of the given time.
+     * since 3.27.0
+     */
+    public static long getEpochDay(long timeInMillis) {
+        return floorDiv(timeInMillis + getZoneOffset(timeInMillis), MILLIS_PER_DAY);
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to the given time in the default time zone.
+     * Two times are of the same time up to the minute if they have the same epoch minute.
+     *
+     * @param timeInMillis The time in milliseconds.
+     * @return The epoch minute of the given time.
+     * since 3.27.0
+     */
+    public static long getEpochMinute(long timeInMillis) {
+        return floorDiv(timeInMillis + getZoneOffset(timeInMillis), MILLIS_PER_MINUTE);
+    }
+
+    /**
+     * Clears the cached default time zone used by {@link #getEpochDay(long)} and {@link #getEpochMinute(long)}.
+     * UIKit calls it when the system time zone or locale changes.
+     * If the application changes the default time zone with {@link TimeZone#setDefault(TimeZone)}, it should be called as well.
+     * since 3.27.0
+     */
+    public static void clearTimeZoneCache() {
+        cachedTimeZone = null;
+    }
+
+    private static int getZoneOffset(long timeInMillis) {
+        TimeZone timeZone = cachedTimeZone;
+        if (timeZone == null) {
+            timeZone = TimeZone.getDefault();
+            cachedTimeZone = timeZone;
+        }
+        return timeZone.getOffset(timeInMillis);
+    }
+
+    // Math.floorDiv() requires API level 24.
+    private static long floorDiv(long x, long y) {
+        final long q = x / y;
+        return (x % y != 0 && ((x ^ y) < 0)) ? q - 1 : q;
+    }
+
     /**
      * Checks if two dates are of the same day.
      * @param millisFirst   The time in milliseconds of the first date.
@@ -141,8 +198,7 @@ public class DateUtils {
      * @return Whether {@param millisFirst} and {@param millisSecond} are off the same day.
      */
     public static boolean hasSameDate(long millisFirst, long millisSecond) {
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd", Locale.getDefault());
-        return dateFormat.format(millisFirst).equals(dateFormat.format(millisSecond));
+        return getEpochDay(millisFirst) == getEpochDay(millisSecond);
     }
 
     /**
@@ -154,8 +210,7 @@ public class DateUtils {
      * since 1.2.1
      */
     public static boolean hasSameTimeInMinute(long millisFirst, long millisSecond) {
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm", Locale.getDefault());
-        return dateFormat.format(millisFirst).equals(dateFormat.format(millisSecond));
+        return getEpochMinute(millisFirst) == getEpochMinute(millisSecond);
     }
 
     /**
@@ -18,7 +18,10 @@ import androidx.annotation.RequiresApi;
 import androidx.core.content.FileProvider;
 
 import com.sendbird.android.message.FileMessage;
+import com.sendbird.uikit.consts.InitStage;
 import com.sendbird.uikit.consts.StringSet;
+import com.sendbird.uikit.internal.singleton.FileCacheManager;
+import com.sendbird.uikit.internal.singleton.UIKitInitializer;
 import com.sendbird.uikit.log.Logger;
 
 import java.io.BufferedInputStream;
@@ -34,9 +37,13 @@ import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @SuppressWarnings({"unused", "UnusedReturnValue"})
 public class FileUtils {
+    @NonNull
+    private static final AtomicInteger TEMP_FILE_COUNT = new AtomicInteger();
+
     @SuppressWarnings("ResultOfMethodCallIgnored")
     @NonNull
     public static File getDocumentCacheDir(@NonNull Context context) {
@@ -126,9 +133,12 @@ public class FileUtils {
 
     @NonNull
     public static String uriToPath(@NonNull Context context, @NonNull Uri uri) {
-        String tempFileName = "Temp_" + System.currentTimeMillis() + "." + extractExtension(context, uri);
+        // the files can be copied in parallel, so the count keeps the names unique.
+        String tempFileName = "Temp_" + System.currentTimeMillis() + "_" + TEMP_FILE_COUNT.incrementAndGet() + "." + extractExtension(context, uri);
         File dstFile = createCachedDirFile(context, tempFileName);
-        return copyFromUri(context, uri, dstFile);
+        String path = copyFromUri(context, uri, dstFile);
+        FileCacheManager.add(dstFile, null);
+        return path;
     }
 
     @NonNull
@@ -187,7 +197,7 @@ public class FileUtils {
     }
 
     private static int copy(@Nullable InputStream input, @NonNull OutputStream output) throws Exception {
-        int BUFFER_SIZE = 1024 * 2;
+        int BUFFER_SIZE = 1024 * 16;
         byte[] buffer = new byte[BUFFER_SIZE];
 
         BufferedInputStream in = new BufferedInputStream(input, BUFFER_SIZE);
@@ -251,13 +261,20 @@ public class FileUtils {
     }
 
     public static void removeDeletableDir(@NonNull Context context) {
-        File dir = getDeletableDir(context);
+        File dir = createDeletableDir(context);
         deleteRecursive(dir);
     }
 
-    @SuppressWarnings("ResultOfMethodCallIgnored")
     @NonNull
     public static File getDeletableDir(@NonNull Context context) {
+        // the files left by the previous process may be being removed in the background.
+        UIKitInitializer.await(InitStage.TEMPORARY_FILES);
+        return createDeletableDir(context);
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    @NonNull
+    private static File createDeletableDir(@NonNull Context context) {
         File dir = context.getCacheDir();
         File file = new File(dir, "deletable");
         if (!file.exists()) {
@@ -63,7 +63,17 @@ public class ImageUtils {
         return calculateInSampleSize(options.outWidth, options.outHeight, width, height);
     }
 
-    private static int calculateInSampleSize(int width, int height, int reqWidth, int reqHeight) {
+    /**
+     * Calculates the largest power of 2 to sample the image down by, which keeps the image larger than the requested size.
+     *
+     * @param width     The width of the image.
+     * @param height    The height of the image.
+     * @param reqWidth  The requested width.
+     * @param reqHeight The requested height.
+     * @return The value to set to {@link BitmapFactory.Options#inSampleSize}.
+     * since 3.27.0
+     */
+    public static int calculateInSampleSize(int width, int height, int reqWidth, int reqHeight) {
         // Raw height and width of image
         int inSampleSize = 1;
         Logger.d("++ width=%s, height=%s, reqWidth=%s, reqHeight=%s", width, height, reqWidth, reqHeight);
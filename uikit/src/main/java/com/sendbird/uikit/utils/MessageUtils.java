@@ -78,7 +78,7 @@ public class MessageUtils {
             !backMessage.getSendingStatus().equals(SendingStatus.SUCCEEDED) ||
             !frontMessage.getSendingStatus().equals(SendingStatus.SUCCEEDED) ||
             !frontMessage.getSender().equals(backMessage.getSender()) ||
-            !DateUtils.hasSameTimeInMinute(frontMessage.getCreatedAt(), backMessage.getCreatedAt()) ||
+            DateUtils.getEpochMinute(frontMessage.getCreatedAt()) != DateUtils.getEpochMinute(backMessage.getCreatedAt()) ||
             (messageListUIParams.getChannelConfig().getReplyType() == ReplyType.THREAD && (
                 (!(frontMessage instanceof CustomizableMessage) && frontMessage.getThreadInfo().getReplyCount() > 0) ||
                     (!(backMessage instanceof CustomizableMessage) && backMessage.getThreadInfo().getReplyCount() > 0)
@@ -6,6 +6,8 @@ import android.content.SharedPreferences;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.sendbird.uikit.consts.InitStage;
+import com.sendbird.uikit.internal.singleton.UIKitInitializer;
 import com.sendbird.uikit.log.Logger;
 
 import java.util.concurrent.Executors;
@@ -32,23 +34,32 @@ final public class UIKitPrefs {
         }
     }
 
+    @Nullable
+    private static SharedPreferences getPreferences() {
+        UIKitInitializer.await(InitStage.PREFERENCES);
+        return preferences;
+    }
+
     public static void clearAll() {
-        if (preferences == null) return;
-        SharedPreferences.Editor editor = preferences.edit();
+        final SharedPreferences prefs = getPreferences();
+        if (prefs == null) return;
+        SharedPreferences.Editor editor = prefs.edit();
         editor.clear().apply();
     }
 
     public static void remove(@NonNull String key) {
-        if (preferences == null) return;
-        if (preferences.contains(key)) {
-            SharedPreferences.Editor editor = preferences.edit();
+        final SharedPreferences prefs = getPreferences();
+        if (prefs == null) return;
+        if (prefs.contains(key)) {
+            SharedPreferences.Editor editor = prefs.edit();
             editor.remove(key).apply();
         }
     }
 
     public static void putString(@NonNull String key, @Nullable String value) {
-        if (preferences == null) return;
-        SharedPreferences.Editor editor = preferences.edit();
+        final SharedPreferences prefs = getPreferences();
+        if (prefs == null) return;
+        SharedPreferences.Editor editor = prefs.edit();
         editor.putString(key, value).apply();
     }
 
@@ -59,13 +70,15 @@ final public class UIKitPrefs {
 
     @Nullable
     public static String getString(@NonNull String key, @Nullable String defValue) {
-        if (preferences == null) return defValue == null ? "" : defValue;
-        return preferences.getString(key, defValue);
+        final SharedPreferences prefs = getPreferences();
+        if (prefs == null) return defValue == null ? "" : defValue;
+        return prefs.getString(key, defValue);
     }
 
     public static void putLong(@NonNull String key, long value) {
-        if (preferences == null) return;
-        SharedPreferences.Editor editor = preferences.edit();
+        final SharedPreferences prefs = getPreferences();
+        if (prefs == null) return;
+        SharedPreferences.Editor editor = prefs.edit();
         editor.putLong(key, value).apply();
     }
 
@@ -74,13 +87,15 @@ final public class UIKitPrefs {
     }
 
     public static long getLong(@NonNull String key, long defValue) {
-        if (preferences == null) return defValue;
-        return preferences.getLong(key, defValue);
+        final SharedPreferences prefs = getPreferences();
+        if (prefs == null) return defValue;
+        return prefs.getLong(key, defValue);
     }
 
     public static void putInt(@NonNull String key, int value) {
-        if (preferences == null) return;
-        SharedPreferences.Editor editor = preferences.edit();
+        final SharedPreferences prefs = getPreferences();
+        if (prefs == null) return;
+        SharedPreferences.Editor editor = prefs.edit();
         editor.putInt(key, value).apply();
     }
 
@@ -89,13 +104,15 @@ final public class UIKitPrefs {
     }
 
     public static int getInt(@NonNull String key, int defValue) {
-        if (preferences == null) return defValue;
-        return preferences.getInt(key, defValue);
+        final SharedPreferences prefs = getPreferences();
+        if (prefs == null) return defValue;
+        return prefs.getInt(key, defValue);
     }
 
     public static void putBoolean(@NonNull String key, boolean value) {
-        if (preferences == null) return;
-        SharedPreferences.Editor editor = preferences.edit();
+        final SharedPreferences prefs = getPreferences();
+        if (prefs == null) return;
+        SharedPreferences.Editor editor = prefs.edit();
         editor.putBoolean(key, value).apply();
     }
 
@@ -104,7 +121,8 @@ final public class UIKitPrefs {
     }
 
     public static boolean getBoolean(@NonNull String key, boolean defValue) {
-        if (preferences == null) return defValue;
-        return preferences.getBoolean(key, defValue);
+        final SharedPreferences prefs = getPreferences();
+        if (prefs == null) return defValue;
+        return prefs.getBoolean(key, defValue);
     }
 }
@@ -1,5 +1,6 @@
 package com.sendbird.uikit.utils;
 
+import android.app.Activity;
 import android.content.ActivityNotFoundException;
 import android.content.Context;
 import android.content.Intent;
@@ -21,6 +22,8 @@ import androidx.annotation.DimenRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.appcompat.content.res.AppCompatResources;
+import androidx.core.text.PrecomputedTextCompat;
+import androidx.core.widget.TextViewCompat;
 
 import com.bumptech.glide.Glide;
 import com.bumptech.glide.RequestBuilder;
@@ -53,8 +56,10 @@ import com.sendbird.uikit.internal.ui.messages.OgtagView;
 import com.sendbird.uikit.internal.ui.messages.ThreadInfoView;
 import com.sendbird.uikit.internal.ui.messages.VoiceMessageView;
 import com.sendbird.uikit.internal.ui.reactions.EmojiReactionListView;
+import com.sendbird.uikit.internal.ui.widgets.AutoLinkTextView;
 import com.sendbird.uikit.internal.ui.widgets.RoundCornerView;
 import com.sendbird.uikit.internal.ui.widgets.VoiceProgressView;
+import com.sendbird.uikit.internal.utils.MessageTextCache;
 import com.sendbird.uikit.log.Logger;
 import com.sendbird.uikit.model.FileInfo;
 import com.sendbird.uikit.model.MentionSpan;
@@ -129,13 +134,45 @@ public class ViewUtils {
             return;
         }
 
+        final Context context = textView.getContext();
+        final MessageTextCache textCache = MessageTextCache.of(context);
         if (MessageUtils.isUnknownType(message)) {
+            textCache.unbind(textView);
             drawUnknownMessage(textView, MessageUtils.isMine(message));
             return;
         }
 
+        final int linkifyMask = textView instanceof AutoLinkTextView ? ((AutoLinkTextView) textView).getLinkifyMask() : 0;
+        final PrecomputedTextCompat.Params textMetricsParams = SendbirdUIKit.isUsingPrecomputedMessageText()
+            ? TextViewCompat.getTextMetricsParams(textView)
+            : null;
+        final MessageTextCache.Spec spec = new MessageTextCache.Spec(uiConfig, mentionedCurrentUserUIConfig, enableMention, enableMarkdown, linkifyMask, textMetricsParams,
+            (renderContext, target) -> createTextMessage(renderContext, target, uiConfig, enableMention, enableMarkdown, mentionedCurrentUserUIConfig, textCache.getMentionClickDispatcher()));
+        textCache.setMentionClickListener(textView, mentionClickListener);
+        final CharSequence text = textCache.get(textView, message, spec);
+        if (text instanceof PrecomputedTextCompat) {
+            try {
+                TextViewCompat.setPrecomputedText(textView, (PrecomputedTextCompat) text);
+                return;
+            } catch (IllegalArgumentException e) {
+                // the text metrics of the view are changed after the text is measured.
+                Logger.w(e);
+            }
+        }
+        textView.setText(text);
+    }
+
+    @NonNull
+    private static CharSequence createTextMessage(
+        @NonNull Context context,
+        @NonNull BaseMessage message,
+        @Nullable MessageUIConfig uiConfig,
+        boolean enableMention,
+        boolean enableMarkdown,
+        @Nullable TextUIConfig mentionedCurrentUserUIConfig,
+        @Nullable OnItemClickListener<User> mentionClickListener
+    ) {
         final boolean isMine = MessageUtils.isMine(message);
-        final Context context = textView.getContext();
         final CharSequence text = getDisplayableText(
             context,
             message,
@@ -149,6 +186,10 @@ public class ViewUtils {
         if (enableMarkdown) {
             builder = new SpannableStringBuilder(MarkdownExtensionsKt.applyMarkdown(text, Arrays.asList(MarkdownType.BOLD, MarkdownType.LINK), url -> {
                 Intent intent = new Intent(Intent.ACTION_VIEW, Uri.parse(url));
+                if (!(context instanceof Activity)) {
+                    // the texts rendered in the background have the application context.
+                    intent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
+                }
                 context.startActivity(intent);
                 return Unit.INSTANCE;
             }));
@@ -157,7 +198,7 @@ public class ViewUtils {
         }
 
         if (message.getUpdatedAt() > 0L) {
-            final String edited = textView.getResources().getString(R.string.sb_text_channel_message_badge_edited);
+            final String edited = context.getResources().getString(R.string.sb_text_channel_message_badge_edited);
             final Spannable editedString = new SpannableString(edited);
             if (uiConfig != null) {
                 final TextUIConfig editedTextMarkUIConfig = isMine ? uiConfig.getMyEditedTextMarkUIConfig() : uiConfig.getOtherEditedTextMarkUIConfig();
@@ -165,7 +206,7 @@ public class ViewUtils {
             }
             builder.append(editedString);
         }
-        textView.setText(builder);
+        return builder;
     }
 
     @NonNull
@@ -23,6 +23,7 @@ import com.sendbird.uikit.internal.contracts.SendbirdUIKitImpl;
 import com.sendbird.uikit.internal.contracts.SendbirdUIKitContract;
 import com.sendbird.uikit.internal.contracts.TaskQueueImpl;
 import com.sendbird.uikit.internal.contracts.TaskQueueContract;
+import com.sendbird.uikit.internal.singleton.FileCacheManager;
 import com.sendbird.uikit.log.Logger;
 import com.sendbird.uikit.utils.Available;
 
@@ -85,6 +86,9 @@ public class ChannelListViewModel extends BaseViewModel implements OnPagedDataLo
 
             @Override
             public void onChannelsDeleted(@NonNull GroupChannelContext context, @NonNull List<String> deletedChannelUrls) {
+                for (String channelUrl : deletedChannelUrls) {
+                    FileCacheManager.clearChannel(channelUrl);
+                }
                 notifyChannelChanged();
             }
         };
@@ -264,6 +268,7 @@ public class ChannelListViewModel extends BaseViewModel implements OnPagedDataLo
      */
     public void leaveChannel(@NonNull final GroupChannel channel, @Nullable OnCompleteHandler handler) {
         channel.leave(false, e -> {
+            if (e == null) FileCacheManager.clearChannel(channel.getUrl());
             if (handler != null) handler.onComplete(e);
             Logger.i("++ leave channel");
         });
@@ -18,6 +18,7 @@ import com.sendbird.android.user.RestrictedUser;
 import com.sendbird.android.user.User;
 import com.sendbird.uikit.interfaces.AuthenticateHandler;
 import com.sendbird.uikit.interfaces.OnCompleteHandler;
+import com.sendbird.uikit.internal.singleton.FileCacheManager;
 import com.sendbird.uikit.log.Logger;
 
 /**
@@ -162,6 +163,7 @@ public class ChannelSettingsViewModel extends BaseViewModel {
                 if (isCurrentChannel(channelUrl)) {
                     Logger.i(">> ChannelSettingsViewModel::onChannelDeleted()");
                     Logger.d("++ deleted channel url : " + channelUrl);
+                    FileCacheManager.clearChannel(channelUrl);
                     // will have to finish activity
                     shouldFinish.postValue(true);
                 }
@@ -232,6 +234,7 @@ public class ChannelSettingsViewModel extends BaseViewModel {
             return;
         }
         channel.leave(e -> {
+            if (e == null) FileCacheManager.clearChannel(channel.getUrl());
             if (handler != null) handler.onComplete(e);
             Logger.i("++ leave channel");
         });
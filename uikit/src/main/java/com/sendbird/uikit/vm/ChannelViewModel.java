@@ -29,6 +29,7 @@ import com.sendbird.android.message.CustomizableMessage;
 import com.sendbird.android.message.Feedback;
 import com.sendbird.android.message.FeedbackRating;
 import com.sendbird.android.message.FileMessage;
+import com.sendbird.android.message.MultipleFilesMessage;
 import com.sendbird.android.message.SendingStatus;
 import com.sendbird.android.params.MessageCollectionCreateParams;
 import com.sendbird.android.params.MessageListParams;
@@ -50,6 +51,7 @@ import com.sendbird.uikit.internal.contracts.SendbirdUIKitImpl;
 import com.sendbird.uikit.internal.extensions.ChannelExtensionsKt;
 import com.sendbird.uikit.internal.extensions.MessageExtensionsKt;
 import com.sendbird.uikit.internal.model.ChannelUnreadInfo;
+import com.sendbird.uikit.internal.singleton.FileCacheManager;
 import com.sendbird.uikit.internal.singleton.MessageTemplateManager;
 import com.sendbird.uikit.internal.singleton.MessageTemplateMapper;
 import com.sendbird.uikit.log.Logger;
@@ -135,6 +137,18 @@ public class ChannelViewModel extends BaseMessageListViewModel {
         return result;
     }
 
+    /**
+     * Fetches the message templates of the keys which are not cached yet in the background.
+     * Call it when the channel is opened, if the template keys used by the channel are known in advance.
+     *
+     * @param templateKeys The keys of the message templates to be used in this channel
+     * since 3.27.0
+     */
+    public void prewarmMessageTemplates(@NonNull List<String> templateKeys) {
+        Logger.d(">> ChannelViewModel::prewarmMessageTemplates(), size=%s", templateKeys.size());
+        getMessageTemplateMapper().prewarm(templateKeys);
+    }
+
     @TestOnly
     void injectMessageTemplateMapper(@NonNull MessageTemplateMapper mapper) {
         this.messageTemplateMapper = mapper;
@@ -327,6 +341,7 @@ public class ChannelViewModel extends BaseMessageListViewModel {
             @Override
             public void onChannelDeleted(@NonNull GroupChannelContext context, @NonNull String channelUrl) {
                 Logger.d(">> ChannelViewModel::onChannelDeleted() from=%s", context.getCollectionEventSource());
+                FileCacheManager.clearChannel(channelUrl);
                 notifyChannelDeleted(channelUrl);
                 if (ChannelViewModel.this.handler != null) {
                     ChannelViewModel.this.handler.onChannelDeleted(context, channelUrl);
@@ -632,11 +647,11 @@ public class ChannelViewModel extends BaseMessageListViewModel {
             return;
         }
 
-        List<BaseMessage> messages = cachedMessages.toList();
+        List<BaseMessage> messages = cachedMessages.snapshot();
         // The reason why updates message template status here instead of buildMessageList(),
         // it's difficult for customers to handle message template values by themselves when they override the `buildMessageList()` for their message list customization.
         processMessageTemplate(messages, traceName);
-        markMessagesAsShouldShowSuggestedReplies(cachedMessages.toList());
+        markMessagesAsShouldShowSuggestedReplies(cachedMessages.snapshot());
         final List<BaseMessage> finalMessageList = buildMessageList();
 
         if (finalMessageList.size() == 0) {
@@ -714,17 +729,20 @@ public class ChannelViewModel extends BaseMessageListViewModel {
             removeThreadMessages(failedMessages);
         }
 
-        final List<BaseMessage> copiedList = cachedMessages.toList();
-        if (!hasNext()) {
-            copiedList.addAll(0, pendingMessages);
-            copiedList.addAll(0, failedMessages);
-
-            TypingIndicatorMessage typingIndicatorMessage = createTypingIndicatorMessage();
-            if (typingIndicatorMessage != null) {
-                copiedList.add(0, typingIndicatorMessage);
-            }
+        final List<BaseMessage> cachedList = cachedMessages.snapshot();
+        if (hasNext()) {
+            return new ArrayList<>(cachedList);
         }
 
+        // builds the list front to back instead of inserting at index 0, which shifts the whole history.
+        final List<BaseMessage> copiedList = new ArrayList<>(cachedList.size() + pendingMessages.size() + failedMessages.size() + 1);
+        TypingIndicatorMessage typingIndicatorMessage = createTypingIndicatorMessage();
+        if (typingIndicatorMessage != null) {
+            copiedList.add(typingIndicatorMessage);
+        }
+        copiedList.addAll(failedMessages);
+        copiedList.addAll(pendingMessages);
+        copiedList.addAll(cachedList);
         return copiedList;
     }
 
@@ -933,7 +951,7 @@ public class ChannelViewModel extends BaseMessageListViewModel {
         Integer prevNewLinePositionIndex = prevNewLineData == null ? null : prevNewLineData.getCurrentPosition();
         Integer newLinePositionIndex = null;
 
-        List<BaseMessage> messages = cachedMessages.toList();
+        List<BaseMessage> messages = cachedMessages.snapshot();
 
         // cachedMessages is descending order.
         // run from latest message to oldest message to find first unread message.
@@ -998,6 +1016,8 @@ public class ChannelViewModel extends BaseMessageListViewModel {
                     notifyDataSetChanged(StringSet.ACTION_FAILED_MESSAGE_REMOVED);
                     if (message instanceof FileMessage) {
                         PendingMessageRepository.getInstance().clearFileInfo((FileMessage) message);
+                    } else if (message instanceof MultipleFilesMessage) {
+                        PendingMessageRepository.getInstance().clearFileInfos((MultipleFilesMessage) message);
                     }
                 });
             }
@@ -25,6 +25,7 @@ import com.sendbird.android.params.MessageCollectionCreateParams;
 import com.sendbird.android.params.MessageListParams;
 import com.sendbird.uikit.SendbirdUIKit;
 import com.sendbird.uikit.consts.StringSet;
+import com.sendbird.uikit.consts.SyncResource;
 import com.sendbird.uikit.interfaces.AuthenticateHandler;
 import com.sendbird.uikit.interfaces.OnCompleteHandler;
 import com.sendbird.uikit.interfaces.OnPagedDataLoader;
@@ -96,13 +97,16 @@ public class ChatNotificationChannelViewModel extends BaseViewModel implements O
     public void authenticate(@NonNull AuthenticateHandler handler) {
         connect((user, e) -> {
             if (user != null) {
-                GroupChannel.getChannel(channelUrl, (channel, e1) -> {
-                    ChatNotificationChannelViewModel.this.channel = channel;
-                    if (e1 != null) {
-                        handler.onAuthenticationFailed();
-                    } else {
-                        handler.onAuthenticated();
-                    }
+                // the notifications are drawn with the templates and the settings, so they are waited for if they are synchronized in the background.
+                SendbirdUIKit.runWhenSynced(SyncResource.NOTIFICATION, e2 -> {
+                    GroupChannel.getChannel(channelUrl, (channel, e1) -> {
+                        ChatNotificationChannelViewModel.this.channel = channel;
+                        if (e1 != null) {
+                            handler.onAuthenticationFailed();
+                        } else {
+                            handler.onAuthenticated();
+                        }
+                    });
                 });
             } else {
                 handler.onAuthenticationFailed();
@@ -317,7 +321,7 @@ public class ChatNotificationChannelViewModel extends BaseViewModel implements O
     private synchronized void notifyDataSetChanged(@NonNull String traceName) {
         Logger.d(">> ChatNotificationChannelViewModel::notifyDataSetChanged()");
         if (collection == null) return;
-        final List<BaseMessage> updatedTemplateMessages = messageTemplateMapper.mapTemplate(cachedMessages.toList(), notCachedMessages -> {
+        final List<BaseMessage> updatedTemplateMessages = messageTemplateMapper.mapTemplate(cachedMessages.snapshot(), notCachedMessages -> {
             cachedMessages.updateAll(notCachedMessages);
             SendbirdUIKit.runOnUIThread(() -> notifyDataSetChanged(StringSet.EVENT_MESSAGE_TEMPLATE_UPDATED));
             return Unit.INSTANCE;
@@ -327,7 +331,7 @@ public class ChatNotificationChannelViewModel extends BaseViewModel implements O
             cachedMessages.updateAll(updatedTemplateMessages);
         }
 
-        final List<BaseMessage> copiedList = cachedMessages.toList();
+        final List<BaseMessage> copiedList = cachedMessages.snapshot();
         if (copiedList.isEmpty()) {
             statusFrame.setValue(StatusFrameView.Status.EMPTY);
         } else {
@@ -23,10 +23,12 @@ import com.sendbird.android.message.BaseMessage;
 import com.sendbird.android.params.MessageListParams;
 import com.sendbird.uikit.SendbirdUIKit;
 import com.sendbird.uikit.consts.StringSet;
+import com.sendbird.uikit.consts.SyncResource;
 import com.sendbird.uikit.interfaces.AuthenticateHandler;
 import com.sendbird.uikit.interfaces.OnPagedDataLoader;
 import com.sendbird.uikit.internal.singleton.MessageTemplateMapper;
 import com.sendbird.uikit.internal.singleton.NotificationChannelManager;
+import com.sendbird.uikit.internal.singleton.NotificationImpressionLogger;
 import com.sendbird.uikit.log.Logger;
 import com.sendbird.uikit.model.LiveDataEx;
 import com.sendbird.uikit.model.MessageData;
@@ -93,13 +95,18 @@ public class FeedNotificationChannelViewModel extends BaseViewModel implements O
     public void authenticate(@NonNull AuthenticateHandler handler) {
         SendbirdUIKit.authenticate((user, e) -> {
             if (user != null) {
-                FeedChannel.getChannel(channelUrl, (channel, e1) -> {
-                    FeedNotificationChannelViewModel.this.channel = channel;
-                    if (e1 != null) {
-                        handler.onAuthenticationFailed();
-                    } else {
-                        handler.onAuthenticated();
-                    }
+                // the notifications are drawn with the templates and the settings, so they are waited for if they are synchronized in the background.
+                SendbirdUIKit.runWhenSynced(SyncResource.NOTIFICATION, e2 -> {
+                    FeedChannel.getChannel(channelUrl, (channel, e1) -> {
+                        FeedNotificationChannelViewModel.this.channel = channel;
+                        if (e1 != null) {
+                            handler.onAuthenticationFailed();
+                        } else {
+                            // sends the viewed logs the previous process couldn't send.
+                            if (channel != null) NotificationImpressionLogger.restore(channel);
+                            handler.onAuthenticated();
+                        }
+                    });
                 });
             } else {
                 handler.onAuthenticationFailed();
@@ -321,7 +328,7 @@ public class FeedNotificationChannelViewModel extends BaseViewModel implements O
         Logger.d(">> FeedNotificationChannelViewModel::notifyDataSetChanged()");
         if (collection == null) return;
 
-        final List<BaseMessage> updatedTemplateMessages = messageTemplateMapper.mapTemplate(cachedMessages.toList(), notCachedMessages -> {
+        final List<BaseMessage> updatedTemplateMessages = messageTemplateMapper.mapTemplate(cachedMessages.snapshot(), notCachedMessages -> {
             cachedMessages.updateAll(notCachedMessages);
             SendbirdUIKit.runOnUIThread(() -> notifyDataSetChanged(StringSet.EVENT_MESSAGE_TEMPLATE_UPDATED));
             return Unit.INSTANCE;
@@ -331,7 +338,7 @@ public class FeedNotificationChannelViewModel extends BaseViewModel implements O
             cachedMessages.updateAll(updatedTemplateMessages);
         }
 
-        final List<BaseMessage> copiedList = cachedMessages.toList();
+        final List<BaseMessage> copiedList = cachedMessages.snapshot();
         if (copiedList.isEmpty()) {
             statusFrame.setValue(StatusFrameView.Status.EMPTY);
         } else {
@@ -485,6 +492,7 @@ public class FeedNotificationChannelViewModel extends BaseViewModel implements O
     /**
      * Sends the log viewed to Sendbird server.
      * It is working only when the channel is visible.
+     * The messages already logged are not sent again, and the new messages are sent in batches.
      *
      * @param messages The list of messages to be sent
      * since 3.15.0
@@ -492,7 +500,6 @@ public class FeedNotificationChannelViewModel extends BaseViewModel implements O
     public void sendLogViewed(@NonNull List<BaseMessage> messages) {
         Logger.d(">> FeedNotificationChannelViewModel::sendLogView(), size=%s, isVisible", messages.size(), isVisible);
         if (channel == null || !isVisible) return;
-        final boolean result = channel.logViewed(messages);
-        Logger.d("++ sendlogView result=%s", result);
+        NotificationImpressionLogger.log(channel, messages);
     }
 }
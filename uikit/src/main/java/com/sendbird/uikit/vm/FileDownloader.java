@@ -11,6 +11,7 @@ import com.sendbird.android.message.FileMessage;
 import com.sendbird.android.message.Thumbnail;
 import com.sendbird.uikit.interfaces.OnResultHandler;
 import com.sendbird.uikit.internal.model.GlideCachedUrlLoader;
+import com.sendbird.uikit.internal.singleton.FileCacheManager;
 import com.sendbird.uikit.internal.tasks.JobResultTask;
 import com.sendbird.uikit.internal.tasks.TaskQueue;
 import com.sendbird.uikit.log.Logger;
@@ -47,7 +48,7 @@ public class FileDownloader {
     @SuppressWarnings("ResultOfMethodCallIgnored")
     @Nullable
     public File downloadToCache(@NonNull Context context, @NonNull FileMessage message) throws ExecutionException, InterruptedException, IOException {
-        final File destFile = FileUtils.createCachedDirFile(context, message.getMessageId() + "_" + message.getName());
+        final File destFile = new File(FileCacheManager.getDownloadDir(context), message.getMessageId() + "_" + message.getName());
         return downloadToCache(context, message, destFile);
     }
 
@@ -60,6 +61,7 @@ public class FileDownloader {
 
         if (hasValidCacheFile(destFile)) {
             Logger.dev("__ return cached file");
+            FileCacheManager.add(destFile, message.getChannelUrl());
             return destFile;
         }
         destFile.delete();
@@ -74,12 +76,14 @@ public class FileDownloader {
             downloadingFileSet.add(url);
 
             File result = downloadAndSaveToFile(context, url, cacheKey, tempFile, destFile);
+            if (result == null) {
+                // Retry (handles corrupted Glide cache - glideFile was deleted in the above call)
+                result = downloadAndSaveToFile(context, url, cacheKey, tempFile, destFile);
+            }
             if (result != null) {
-                return result;
+                FileCacheManager.add(result, message.getChannelUrl());
             }
-
-            // Retry (handles corrupted Glide cache - glideFile was deleted in the above call)
-            return downloadAndSaveToFile(context, url, cacheKey, tempFile, destFile);
+            return result;
         } finally {
             downloadingFileSet.remove(url);
         }
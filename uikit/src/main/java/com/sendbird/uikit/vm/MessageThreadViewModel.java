@@ -22,6 +22,7 @@ import com.sendbird.android.handler.MessageCollectionHandler;
 import com.sendbird.android.handler.MessageCollectionInitHandler;
 import com.sendbird.android.message.BaseMessage;
 import com.sendbird.android.message.FileMessage;
+import com.sendbird.android.message.MultipleFilesMessage;
 import com.sendbird.android.message.ReactionEvent;
 import com.sendbird.android.message.SendingStatus;
 import com.sendbird.android.params.MessageCollectionCreateParams;
@@ -364,6 +365,8 @@ public class MessageThreadViewModel extends BaseMessageListViewModel {
                     notifyDataSetChanged(StringSet.ACTION_FAILED_MESSAGE_REMOVED);
                     if (message instanceof FileMessage) {
                         PendingMessageRepository.getInstance().clearFileInfo((FileMessage) message);
+                    } else if (message instanceof MultipleFilesMessage) {
+                        PendingMessageRepository.getInstance().clearFileInfos((MultipleFilesMessage) message);
                     }
                 });
             }
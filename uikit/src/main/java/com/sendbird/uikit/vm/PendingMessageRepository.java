@@ -8,6 +8,7 @@ import com.sendbird.android.message.BaseMessage;
 import com.sendbird.android.message.FileMessage;
 import com.sendbird.android.message.MultipleFilesMessage;
 import com.sendbird.uikit.internal.extensions.MessageExtensionsKt;
+import com.sendbird.uikit.internal.singleton.FileCacheManager;
 import com.sendbird.uikit.internal.tasks.JobTask;
 import com.sendbird.uikit.internal.tasks.TaskQueue;
 import com.sendbird.uikit.model.FileInfo;
@@ -65,11 +66,14 @@ public class PendingMessageRepository {
         int index = 0;
         for (FileInfo fileInfo : fileInfos) {
             cachedFileInfos.put(MessageExtensionsKt.getCacheKey(message, index++), fileInfo);
+            // the file is kept until the message is sent, so the failed message can be resent.
+            FileCacheManager.setPinned(fileInfo.getFile(), true);
         }
     }
 
     public void addFileInfo(@NonNull FileMessage message, @NonNull FileInfo fileInfo) {
         cachedFileInfos.put(message.getRequestId(), fileInfo);
+        FileCacheManager.setPinned(fileInfo.getFile(), true);
         if (MessageUtils.isVoiceMessage(message) && fileInfo.getCacheDir() != null) {
             TaskQueue.addTask(new JobTask<File>() {
                 @NonNull
@@ -80,6 +84,7 @@ public class PendingMessageRepository {
                     // As cachedFileInfos is cleared after the message is sent,
                     // the voice file is copied to play it from the cache dir.
                     FileUtils.copyFile(fileInfo.getFile(), destFile);
+                    FileCacheManager.add(destFile, message.getChannelUrl());
                     return destFile;
                 }
             });
@@ -90,6 +95,11 @@ public class PendingMessageRepository {
         for (BaseMessage message : messages) {
             if (message instanceof FileMessage) {
                 PendingMessageRepository.getInstance().clearFileInfo((FileMessage) message);
+            } else if (message instanceof MultipleFilesMessage) {
+                // the files may still be drawn for the sent message, so they're only allowed to be evicted.
+                for (FileInfo fileInfo : getFileInfos((MultipleFilesMessage) message)) {
+                    FileCacheManager.setPinned(fileInfo.getFile(), false);
+                }
             }
         }
     }
@@ -106,6 +116,25 @@ public class PendingMessageRepository {
         return isRemoved;
     }
 
+    boolean clearFileInfos(@NonNull MultipleFilesMessage message) {
+        final List<FileInfo> fileInfos = getFileInfos(message);
+        for (FileInfo fileInfo : fileInfos) {
+            fileInfo.clear();
+        }
+        return !fileInfos.isEmpty();
+    }
+
+    @NonNull
+    private List<FileInfo> getFileInfos(@NonNull MultipleFilesMessage message) {
+        final List<FileInfo> fileInfos = new ArrayList<>();
+        FileInfo fileInfo;
+        int index = 0;
+        while ((fileInfo = cachedFileInfos.get(MessageExtensionsKt.getCacheKey(message, index++))) != null) {
+            fileInfos.add(fileInfo);
+        }
+        return fileInfos;
+    }
+
     void addPendingMessage(@NonNull String channelUrl, @NonNull BaseMessage message) {
         List<BaseMessage> pendingMessages = pendingMessageMap.get(channelUrl);
         if (pendingMessages == null) {
@@ -142,6 +171,8 @@ public class PendingMessageRepository {
 
         if (message instanceof FileMessage) {
             clearFileInfo((FileMessage) message);
+        } else if (message instanceof MultipleFilesMessage) {
+            clearFileInfos((MultipleFilesMessage) message);
         }
 
         if (pendingMessages != null) {
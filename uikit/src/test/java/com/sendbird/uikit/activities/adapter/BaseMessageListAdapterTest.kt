@@ -0,0 +1,38 @@
+package com.sendbird.uikit.activities.adapter
+
+import com.sendbird.android.channel.GroupChannel
+import com.sendbird.uikit.activities.viewholder.MessageViewHolder
+import com.sendbird.uikit.model.MessageListUIParams
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class BaseMessageListAdapterTest {
+    // the adapters are never created, only their classes are checked.
+    private class DefaultBindingAdapter(channel: GroupChannel?) : MessageListAdapter(channel)
+
+    private class CustomBindingAdapter(channel: GroupChannel?) : MessageListAdapter(channel) {
+        override fun onBindViewHolder(holder: MessageViewHolder, position: Int) {
+            super.onBindViewHolder(holder, position)
+        }
+    }
+
+    private class CustomThreadBindingAdapter(channel: GroupChannel?, params: MessageListUIParams) : ThreadListAdapter(channel, params) {
+        override fun onBindViewHolder(holder: MessageViewHolder, position: Int) {
+            super.onBindViewHolder(holder, position)
+        }
+    }
+
+    @Test
+    fun bindsOnlyTheMessageGroupTypeForTheStockAdapters() {
+        assertTrue(BaseMessageListAdapter.isStockBinding(MessageListAdapter::class.java))
+        assertTrue(BaseMessageListAdapter.isStockBinding(ThreadListAdapter::class.java))
+        assertTrue(BaseMessageListAdapter.isStockBinding(DefaultBindingAdapter::class.java))
+    }
+
+    @Test
+    fun bindsTheWholeItemIfTheAdapterOverridesTheBinding() {
+        assertFalse(BaseMessageListAdapter.isStockBinding(CustomBindingAdapter::class.java))
+        assertFalse(BaseMessageListAdapter.isStockBinding(CustomThreadBindingAdapter::class.java))
+    }
+}
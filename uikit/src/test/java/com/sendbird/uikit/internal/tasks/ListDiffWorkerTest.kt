@@ -0,0 +1,53 @@
+package com.sendbird.uikit.internal.tasks
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class ListDiffWorkerTest {
+    @Test
+    fun runsNowIfIdle() {
+        val worker = ListDiffWorker<Any>()
+        var hasRun = false
+
+        assertTrue(worker.runNowIfIdle { hasRun = true })
+        assertTrue(hasRun)
+    }
+
+    @Test
+    fun doesNotRunNowWhileASubmissionIsRunning() {
+        val worker = ListDiffWorker<Any>()
+        val started = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        worker.submit(null) {
+            started.countDown()
+            release.await()
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS))
+
+        assertFalse(worker.runNowIfIdle { })
+        release.countDown()
+    }
+
+    @Test
+    fun runsTheSubmissionsMadeWhileRunningNowAfterIt() {
+        val worker = ListDiffWorker<Any>()
+        val order = Collections.synchronizedList(ArrayList<String>())
+        val done = CountDownLatch(1)
+
+        worker.runNowIfIdle {
+            worker.submit(null) {
+                order.add("submitted")
+                done.countDown()
+            }
+            order.add("now")
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS))
+        assertEquals(listOf("now", "submitted"), order)
+    }
+}
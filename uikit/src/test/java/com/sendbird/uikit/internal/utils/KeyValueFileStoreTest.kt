@@ -0,0 +1,76 @@
+package com.sendbird.uikit.internal.utils
+
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import java.io.File
+import java.io.IOException
+import java.io.RandomAccessFile
+import java.nio.file.Files
+
+class KeyValueFileStoreTest {
+    private lateinit var dir: File
+    private lateinit var file: File
+
+    @Before
+    fun setUp() {
+        dir = Files.createTempDirectory("kv_store").toFile()
+        file = File(dir, "store")
+    }
+
+    @After
+    fun tearDown() {
+        dir.deleteRecursively()
+    }
+
+    @Test
+    fun evictsTheLeastRecentlyUsedValue() {
+        val store = KeyValueFileStore(file, 2)
+        store.put("a", "1")
+        store.put("b", "2")
+        store.get("a")
+        store.put("c", "3")
+
+        assertEquals(2, store.size)
+        assertEquals("1", store.get("a"))
+        assertNull(store.get("b"))
+        assertEquals("3", store.get("c"))
+
+        val reopened = KeyValueFileStore(file, 2)
+        assertEquals(2, reopened.size)
+        assertFalse(reopened.contains("b"))
+    }
+
+    @Test(timeout = 5000)
+    fun evictsEvenIfTheRemoveRecordFailsToBeAppended() {
+        val store = KeyValueFileStore(file, 2)
+        store.put("a", "1")
+        store.put("b", "2")
+        var appendCount = 0
+        store.openForAppend = {
+            // the put record of "c" is appended, and the remove record of the evicted value fails.
+            if (appendCount++ > 0) throw IOException("No space left on device")
+            RandomAccessFile(it, "rw")
+        }
+        store.put("c", "3")
+
+        assertEquals(2, store.size)
+        assertFalse(store.contains("a"))
+        assertTrue(store.contains("b"))
+        assertEquals("3", store.get("c"))
+    }
+
+    @Test
+    fun containsIsFalseUntilTheIndexIsLoaded() {
+        KeyValueFileStore(file, 2).put("a", "1")
+
+        val store = KeyValueFileStore(file, 2)
+        assertFalse(store.contains("a"))
+        store.load()
+        assertTrue(store.contains("a"))
+    }
+}